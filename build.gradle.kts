@@ -3,6 +3,7 @@ plugins {
 	application
 	id("org.springframework.boot") version "4.0.2"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.3"
 }
 
 // Use build directory outside OneDrive to avoid file locking issues
@@ -37,6 +38,11 @@ java {
 				srcDirs("src/test/resources", "participants/victoria/project/src/test/resources")
 			}
 		}
+		named("jmh") {
+			java {
+				srcDirs("src/jmh/java", "participants/victoria/project/src/jmh/java")
+			}
+		}
 	}
 }
 
@@ -51,6 +57,9 @@ dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-validation")
 	implementation("org.springframework.boot:spring-boot-starter-data-jpa")
 	implementation("org.springframework.boot:spring-boot-starter-mail")
+	implementation("org.springframework.boot:spring-boot-starter-flyway")
+	implementation("org.hibernate.orm:hibernate-jcache")
+	implementation("com.github.ben-manes.caffeine:jcache")
 	runtimeOnly("com.h2database:h2")
 	testImplementation("org.springframework.boot:spring-boot-starter-test")
 	testImplementation("org.springframework.boot:spring-boot-starter-webflux")
@@ -61,6 +70,19 @@ tasks.withType<Test> {
 	useJUnitPlatform()
 }
 
+// JMH benchmarks: ./gradlew jmh [-PjmhIncludes=<regex>], results in build/results/jmh/results.json
+jmh {
+	providers.gradleProperty("jmhIncludes").orNull?.let { includes = listOf(it) }
+	jmhVersion = "1.37"
+	benchmarkMode = listOf("thrpt", "avgt")
+	profilers = listOf("gc")
+	fork = 1
+	warmupIterations = 3
+	iterations = 5
+	resultFormat = "JSON"
+	resultsFile = layout.buildDirectory.file("results/jmh/results.json")
+}
+
 tasks.withType<Copy> {
 	duplicatesStrategy = DuplicatesStrategy.EXCLUDE
 }
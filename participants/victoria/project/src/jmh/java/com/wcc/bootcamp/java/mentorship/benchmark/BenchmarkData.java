@@ -0,0 +1,50 @@
+package com.wcc.bootcamp.java.mentorship.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic synthetic skill lists for the benchmarks.
+ *
+ * Roughly a third of the skills come from a small set of popular, overlapping skills
+ * ("java", "spring boot", ...), the rest from a long tail of distinct single-word skills,
+ * so candidate sets stay realistic instead of every profile matching every other.
+ */
+final class BenchmarkData {
+    static final long SEED = 42;
+
+    private static final List<String> POPULAR_SKILLS = List.of(
+            "java", "javascript", "spring boot", "spring", "sql", "database design",
+            "machine learning", "deep learning", "python", "data science", "data analysis",
+            "react", "node.js", "go", "kotlin", "android", "mobile development", "aws",
+            "cloud computing", "docker", "kubernetes", "web development", "testing", "devops");
+    private static final int LONG_TAIL_SKILLS = 2000;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Returns between one and five skills.
+     */
+    static List<String> skills(Random random) {
+        int count = 1 + random.nextInt(5);
+        List<String> skills = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (random.nextInt(3) == 0) {
+                skills.add(POPULAR_SKILLS.get(random.nextInt(POPULAR_SKILLS.size())));
+            } else {
+                skills.add("tech" + Integer.toString(46656 + random.nextInt(LONG_TAIL_SKILLS), 36));
+            }
+        }
+        return skills;
+    }
+
+    static String name(String prefix, int i) {
+        return prefix + " " + i;
+    }
+
+    static String email(String prefix, int i) {
+        return prefix + i + "@example.com";
+    }
+}
@@ -0,0 +1,79 @@
+package com.wcc.bootcamp.java.mentorship.benchmark;
+
+import com.wcc.bootcamp.java.mentorship.model.TimeOrderedIds;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batched inserts into a table keyed the way mentors used to be (random version 4 UUIDs as
+ * 36-character strings) and the way they are now (time-ordered version 7 UUIDs as 16 bytes).
+ * Each invocation appends one batch to a table that keeps growing over the trial; the size of
+ * the table is printed at the end.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class KeyInsertBenchmark {
+    private static final int BATCH = 1000;
+    private static final String RANDOM_STRING = "random-string";
+    private static final String TIME_ORDERED_BINARY = "time-ordered-binary";
+
+    @Param({RANDOM_STRING, TIME_ORDERED_BINARY})
+    public String keys;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private long rows;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:keys-" + keys + ";DB_CLOSE_DELAY=-1", "sa", "");
+        connection.setAutoCommit(false);
+        String idType = RANDOM_STRING.equals(keys) ? "VARCHAR(36)" : "UUID";
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS mentors");
+            statement.execute("CREATE TABLE mentors (id " + idType + " PRIMARY KEY, name VARCHAR(100), "
+                    + "email VARCHAR(100), max_mentees INT, current_mentee_count INT)");
+        }
+        insert = connection.prepareStatement(
+                "INSERT INTO mentors (id, name, email, max_mentees, current_mentee_count) VALUES (?, ?, ?, 3, 0)");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet size = statement.executeQuery("SELECT DISK_SPACE_USED('mentors')")) {
+            size.next();
+            System.out.printf("%n%s keys: %,d rows, %,d bytes%n", keys, rows, size.getLong(1));
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int[] insertBatch() throws SQLException {
+        for (int i = 0; i < BATCH; i++) {
+            long row = rows++;
+            if (RANDOM_STRING.equals(keys)) {
+                insert.setString(1, UUID.randomUUID().toString());
+            } else {
+                insert.setObject(1, TimeOrderedIds.next());
+            }
+            insert.setString(2, BenchmarkData.name("Mentor", (int) row));
+            insert.setString(3, BenchmarkData.email("mentor", (int) row));
+            insert.addBatch();
+        }
+        int[] counts = insert.executeBatch();
+        connection.commit();
+        return counts;
+    }
+}
@@ -0,0 +1,60 @@
+package com.wcc.bootcamp.java.mentorship.benchmark;
+
+import com.wcc.bootcamp.java.mentorship.matching.ScoringEngine;
+import com.wcc.bootcamp.java.mentorship.model.Match;
+import com.wcc.bootcamp.java.mentorship.model.Mentee;
+import com.wcc.bootcamp.java.mentorship.service.MentorshipMatcher;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finding the ranked mentors of one mentee with the in-memory console matcher.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MentorshipMatcherBenchmark {
+    private static final int MENTEES = 1000;
+
+    @Param({"1000", "10000", "100000"})
+    public int mentors;
+
+    @Param({ScoringEngine.BITSET, ScoringEngine.REFERENCE})
+    public String engine;
+
+    private MentorshipMatcher matcher;
+    private List<Mentee> mentees;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(BenchmarkData.SEED);
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            matcher = new MentorshipMatcher(engine);
+            for (int i = 0; i < mentors; i++) {
+                matcher.registerMentor(BenchmarkData.name("Mentor", i), BenchmarkData.email("mentor", i),
+                        BenchmarkData.skills(random), 3);
+            }
+            for (int i = 0; i < MENTEES; i++) {
+                matcher.registerMentee(BenchmarkData.name("Mentee", i), BenchmarkData.email("mentee", i),
+                        BenchmarkData.skills(random), "beginner");
+            }
+        } finally {
+            System.setOut(console);
+        }
+        mentees = matcher.getMentees();
+    }
+
+    @Benchmark
+    public List<Match> findMatchesForMentee() {
+        next = (next + 1) % mentees.size();
+        return matcher.findMatchesForMentee(mentees.get(next));
+    }
+}
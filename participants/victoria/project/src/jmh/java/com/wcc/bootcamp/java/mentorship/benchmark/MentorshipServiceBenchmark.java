@@ -0,0 +1,102 @@
+package com.wcc.bootcamp.java.mentorship.benchmark;
+
+import com.wcc.bootcamp.java.mentorship.MentorshipWebApplication;
+import com.wcc.bootcamp.java.mentorship.matching.ScoringEngine;
+import com.wcc.bootcamp.java.mentorship.model.Match;
+import com.wcc.bootcamp.java.mentorship.model.Mentee;
+import com.wcc.bootcamp.java.mentorship.model.Mentor;
+import com.wcc.bootcamp.java.mentorship.repository.MenteeRepository;
+import com.wcc.bootcamp.java.mentorship.repository.MentorRepository;
+import com.wcc.bootcamp.java.mentorship.repository.SkillCatalog;
+import com.wcc.bootcamp.java.mentorship.service.MentorshipService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end matching through the Spring service, including the JPA reads, against an
+ * in-memory H2 database. The candidate cache is disabled so every call does the full work.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MentorshipServiceBenchmark {
+    private static final int MENTEES = 1000;
+
+    @Param({"1000", "10000", "100000"})
+    public int mentors;
+
+    @Param({ScoringEngine.BITSET, ScoringEngine.REFERENCE})
+    public String engine;
+
+    private ConfigurableApplicationContext context;
+    private MentorshipService service;
+    private List<UUID> menteeIds;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(MentorshipWebApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark",
+                        "spring.h2.console.enabled=false",
+                        "spring.mail.enabled=false",
+                        "logging.level.com.wcc.bootcamp.java.mentorship=WARN",
+                        "mentorship.matching.cache-size=0",
+                        "mentorship.matching.engine=" + engine)
+                .run();
+
+        Random random = new Random(BenchmarkData.SEED);
+        List<Mentor> mentorList = new ArrayList<>(mentors);
+        for (int i = 0; i < mentors; i++) {
+            mentorList.add(new Mentor(BenchmarkData.name("Mentor", i), BenchmarkData.email("mentor", i),
+                    BenchmarkData.skills(random), 3));
+        }
+        List<Mentee> menteeList = new ArrayList<>(MENTEES);
+        for (int i = 0; i < MENTEES; i++) {
+            menteeList.add(new Mentee(BenchmarkData.name("Mentee", i), BenchmarkData.email("mentee", i),
+                    BenchmarkData.skills(random), "beginner"));
+        }
+
+        // Profiles are saved directly, so their skills are stored first as registration would
+        Set<String> skills = new HashSet<>();
+        mentorList.forEach(mentor -> skills.addAll(mentor.getExpertiseAreas()));
+        menteeList.forEach(mentee -> skills.addAll(mentee.getLearningGoals()));
+        context.getBean(SkillCatalog.class).register(skills);
+
+        context.getBean(MentorRepository.class).saveAll(mentorList);
+        menteeIds = new ArrayList<>();
+        for (Mentee mentee : context.getBean(MenteeRepository.class).saveAll(menteeList)) {
+            menteeIds.add(mentee.getId());
+        }
+
+        service = context.getBean(MentorshipService.class);
+        service.findMatchesForMentee(menteeIds.get(0)); // builds the skill index outside the measurement
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Match> findMatchesForMentee() {
+        next = (next + 1) % menteeIds.size();
+        return service.findMatchesForMentee(menteeIds.get(next));
+    }
+
+    @Benchmark
+    public List<Match> findAllPotentialMatches() {
+        return service.findAllPotentialMatches();
+    }
+}
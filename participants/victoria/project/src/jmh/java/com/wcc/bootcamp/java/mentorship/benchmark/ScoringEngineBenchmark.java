@@ -0,0 +1,56 @@
+package com.wcc.bootcamp.java.mentorship.benchmark;
+
+import com.wcc.bootcamp.java.mentorship.matching.ScoringEngine;
+import com.wcc.bootcamp.java.mentorship.matching.SkillDictionary;
+import com.wcc.bootcamp.java.mentorship.matching.SkillProfile;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scoring every mentor against every mentee of a synthetic cohort with each scoring engine,
+ * the inner loop of the all-pairs operations. Results are per pair scored.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScoringEngineBenchmark {
+    private static final int MENTORS = 200;
+    private static final int MENTEES = 1000;
+
+    @Param({ScoringEngine.BITSET, ScoringEngine.REFERENCE})
+    public String engine;
+
+    private SkillProfile[] mentors;
+    private SkillProfile[] mentees;
+    private ScoringEngine scoringEngine;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(BenchmarkData.SEED);
+        SkillDictionary dictionary = new SkillDictionary();
+        scoringEngine = ScoringEngine.create(engine, dictionary);
+
+        mentors = new SkillProfile[MENTORS];
+        for (int i = 0; i < MENTORS; i++) {
+            mentors[i] = dictionary.profile(BenchmarkData.skills(random));
+        }
+        mentees = new SkillProfile[MENTEES];
+        for (int i = 0; i < MENTEES; i++) {
+            mentees[i] = dictionary.profile(BenchmarkData.skills(random));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MENTORS * MENTEES)
+    public double scoreAllPairs() {
+        double total = 0;
+        for (SkillProfile mentor : mentors) {
+            for (SkillProfile mentee : mentees) {
+                total += scoringEngine.score(mentor, mentee);
+            }
+        }
+        return total;
+    }
+}
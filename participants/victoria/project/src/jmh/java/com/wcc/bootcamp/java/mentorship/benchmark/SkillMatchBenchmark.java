@@ -0,0 +1,70 @@
+package com.wcc.bootcamp.java.mentorship.benchmark;
+
+import com.wcc.bootcamp.java.mentorship.matching.MatchScore;
+import com.wcc.bootcamp.java.mentorship.matching.ScoringEngine;
+import com.wcc.bootcamp.java.mentorship.matching.SkillDictionary;
+import com.wcc.bootcamp.java.mentorship.matching.SkillMatchRules;
+import com.wcc.bootcamp.java.mentorship.matching.SkillProfile;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-pair cost of the skill comparison rule and of scoring a mentor/mentee pair
+ * (what calculateMatchScore does) with each scoring engine.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SkillMatchBenchmark {
+    private static final int PAIRS = 4096;
+
+    @Param({ScoringEngine.BITSET, ScoringEngine.REFERENCE})
+    public String engine;
+
+    private String[] skills;
+    private String[] otherSkills;
+    private SkillProfile[] mentors;
+    private SkillProfile[] mentees;
+    private ScoringEngine scoringEngine;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(BenchmarkData.SEED);
+        SkillDictionary dictionary = new SkillDictionary();
+        scoringEngine = ScoringEngine.create(engine, dictionary);
+
+        skills = new String[PAIRS];
+        otherSkills = new String[PAIRS];
+        mentors = new SkillProfile[PAIRS];
+        mentees = new SkillProfile[PAIRS];
+        for (int i = 0; i < PAIRS; i++) {
+            List<String> expertise = BenchmarkData.skills(random);
+            List<String> goals = BenchmarkData.skills(random);
+            skills[i] = expertise.get(0);
+            otherSkills[i] = goals.get(0);
+            mentors[i] = dictionary.profile(expertise);
+            mentees[i] = dictionary.profile(goals);
+        }
+    }
+
+    @Benchmark
+    public boolean isSkillMatch() {
+        int i = next();
+        return SkillMatchRules.isSkillMatch(skills[i], otherSkills[i]);
+    }
+
+    @Benchmark
+    public MatchScore calculateMatchScore() {
+        int i = next();
+        return scoringEngine.evaluate(mentors[i], mentees[i]);
+    }
+
+    private int next() {
+        next = (next + 1) & (PAIRS - 1);
+        return next;
+    }
+}
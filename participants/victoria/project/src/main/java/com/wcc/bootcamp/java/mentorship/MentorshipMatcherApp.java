@@ -1,10 +1,19 @@
 package com.wcc.bootcamp.java.mentorship;
 
+import com.wcc.bootcamp.java.mentorship.ledger.FileMatchLedger;
+import com.wcc.bootcamp.java.mentorship.ledger.LedgerState;
+import com.wcc.bootcamp.java.mentorship.ledger.MatchLedger;
 import com.wcc.bootcamp.java.mentorship.model.Match;
 import com.wcc.bootcamp.java.mentorship.model.Mentee;
 import com.wcc.bootcamp.java.mentorship.model.Mentor;
+import com.wcc.bootcamp.java.mentorship.service.ImportResult;
 import com.wcc.bootcamp.java.mentorship.service.MentorshipMatcher;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -13,13 +22,17 @@ import java.util.Scanner;
 /**
  * Main application for the Mentorship Matcher system.
  * Provides a console-based interface for managing mentorship relationships.
+ * Events are recorded in a ledger in the directory named by the {@code mentorship.ledger.dir}
+ * system property, if it is set, and a snapshot of the state they add up to is saved on exit.
  */
 public class MentorshipMatcherApp {
     private final MentorshipMatcher matcher;
     private final Scanner scanner;
 
     public MentorshipMatcherApp() {
-        this.matcher = new MentorshipMatcher();
+        String ledgerDir = System.getProperty("mentorship.ledger.dir");
+        MatchLedger ledger = ledgerDir == null ? MatchLedger.NONE : new FileMatchLedger(Path.of(ledgerDir));
+        this.matcher = new MentorshipMatcher(System.getProperty("mentorship.matching.engine"), ledger);
         this.scanner = new Scanner(System.in);
     }
 
@@ -87,8 +100,21 @@ public class MentorshipMatcherApp {
                     loadSampleData();
                     System.out.println("✓ Sample data loaded!");
                     break;
+                case "13":
+                    matcher.stableMatchAll();
+                    break;
+                case "14":
+                    importCsvInteractive();
+                    break;
+                case "15":
+                    completeMatchInteractive();
+                    break;
+                case "16":
+                    displayLedgerTotals();
+                    break;
                 case "0":
                     running = false;
+                    matcher.saveLedgerSnapshot();
                     System.out.println("\nThank you for using Mentorship Matcher. Goodbye!");
                     break;
                 default:
@@ -113,6 +139,10 @@ public class MentorshipMatcherApp {
         System.out.println("│ 10. Save Matches to File               │");
         System.out.println("│ 11. Export Detailed Report             │");
         System.out.println("│ 12. Load Sample Data                   │");
+        System.out.println("│ 13. Stable Match All Mentees           │");
+        System.out.println("│ 14. Import Profiles from CSV           │");
+        System.out.println("│ 15. Complete Match                     │");
+        System.out.println("│ 16. View Ledger Totals                 │");
         System.out.println("│  0. Exit                               │");
         System.out.println("└────────────────────────────────────────┘");
         System.out.print("Enter your choice: ");
@@ -199,6 +229,38 @@ public class MentorshipMatcherApp {
         }
     }
 
+    private void completeMatchInteractive() {
+        System.out.println("\n── COMPLETE MATCH ──");
+        
+        matcher.displayActiveMatches();
+        
+        System.out.print("Enter mentee name to complete the match for: ");
+        String menteeName = scanner.nextLine().trim();
+        
+        Optional<Match> match = matcher.getMatches().stream()
+                .filter(m -> m.getMentee().getName().equalsIgnoreCase(menteeName) 
+                        && m.getStatus() == Match.MatchStatus.ACTIVE)
+                .findFirst();
+        
+        if (match.isPresent()) {
+            matcher.completeMatch(match.get());
+        } else {
+            System.out.println("✗ Active match not found for mentee: " + menteeName);
+        }
+    }
+
+    /**
+     * Shows the totals the ledger adds up to, across every session that recorded in it.
+     */
+    private void displayLedgerTotals() {
+        LedgerState state = matcher.ledgerState();
+        System.out.println("\n── LEDGER TOTALS ──");
+        System.out.printf("Events recorded: %d%n", state.getSequence());
+        System.out.printf("Mentors: %d (%d available)%n", state.getMentorCount(), state.getAvailableMentorCount());
+        System.out.printf("Mentees: %d (%d unmatched)%n", state.getMenteeCount(), state.getUnmatchedMenteeCount());
+        System.out.printf("Active matches: %d%n", state.getActiveMatchCount());
+    }
+
     private void rematchInteractive() {
         System.out.println("\n── REMATCH ──");
         
@@ -245,6 +307,34 @@ public class MentorshipMatcherApp {
         matcher.exportDetailedReport(filename);
     }
 
+    private void importCsvInteractive() {
+        System.out.println("\n── IMPORT PROFILES FROM CSV ──");
+        System.out.print("Import mentors or mentees? (mentors/mentees): ");
+        String type = scanner.nextLine().trim().toLowerCase();
+        if (!type.equals("mentors") && !type.equals("mentees")) {
+            System.out.println("✗ Please enter 'mentors' or 'mentees'.");
+            return;
+        }
+        System.out.println(type.equals("mentors")
+                ? "Expected columns: name,email,skills[,maxMentees] (skills separated by ';')"
+                : "Expected columns: name,email,learningGoals[,experienceLevel] (goals separated by ';')");
+        System.out.print("Enter CSV file path: ");
+        String filename = scanner.nextLine().trim();
+
+        try (Reader csv = Files.newBufferedReader(Path.of(filename), StandardCharsets.UTF_8)) {
+            ImportResult result = type.equals("mentors")
+                    ? matcher.importMentors(csv)
+                    : matcher.importMentees(csv);
+            System.out.println("✓ " + result);
+            result.getErrors().forEach(error -> System.out.println("  ✗ " + error));
+            if (result.getFailed() > result.getErrors().size()) {
+                System.out.printf("  ... and %,d more rejected rows%n", result.getFailed() - result.getErrors().size());
+            }
+        } catch (IOException e) {
+            System.err.println("✗ Error importing profiles: " + e.getMessage());
+        }
+    }
+
     /**
      * Loads sample data for demonstration.
      */
@@ -356,6 +446,7 @@ public class MentorshipMatcherApp {
         // Save to file
         matcher.saveMatchesToFile("demo_matches.txt");
         matcher.exportDetailedReport("demo_report.txt");
+        matcher.saveLedgerSnapshot();
         
         System.out.println("\n✅ Demo completed!");
         System.out.println("Check 'demo_matches.txt' and 'demo_report.txt' for exported data.");
@@ -0,0 +1,13 @@
+package com.wcc.bootcamp.java.mentorship.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration to enable scheduled tasks.
+ * Used by MatchArchiveService to archive old matches every night.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,6 +1,7 @@
 package com.wcc.bootcamp.java.mentorship.controller;
 
 import com.wcc.bootcamp.java.mentorship.service.MentorshipService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,6 +14,9 @@ public class HomeController {
 
     private final MentorshipService mentorshipService;
 
+    @Value("${mentorship.home.recent-matches:5}")
+    private int recentMatchLimit;
+
     public HomeController(MentorshipService mentorshipService) {
         this.mentorshipService = mentorshipService;
     }
@@ -20,7 +24,7 @@ public class HomeController {
     @GetMapping("/")
     public String home(Model model) {
         model.addAttribute("stats", mentorshipService.getStatistics());
-        model.addAttribute("recentMatches", mentorshipService.getActiveMatches());
+        model.addAttribute("recentMatches", mentorshipService.getRecentMatches(recentMatchLimit));
         return "home";
     }
 
@@ -1,12 +1,19 @@
 package com.wcc.bootcamp.java.mentorship.controller;
 
 import com.wcc.bootcamp.java.mentorship.model.Match;
+import com.wcc.bootcamp.java.mentorship.service.KeysetPage;
 import com.wcc.bootcamp.java.mentorship.service.MentorshipService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.UUID;
+
 /**
  * Controller for match-related operations.
  */
@@ -16,28 +23,43 @@ public class MatchController {
 
     private final MentorshipService mentorshipService;
 
+    @Value("${mentorship.matching.find-limit:50}")
+    private int findMatchLimit;
+
+    @Value("${mentorship.list.page-size:24}")
+    private int pageSize;
+
     public MatchController(MentorshipService mentorshipService) {
         this.mentorshipService = mentorshipService;
     }
 
+    /**
+     * Lists matches newest first, active ones unless another status (or "all") is chosen.
+     */
     @GetMapping
-    public String listMatches(Model model) {
-        model.addAttribute("activeMatches", mentorshipService.getActiveMatches());
-        model.addAttribute("allMatches", mentorshipService.getAllMatches());
+    public String listMatches(@RequestParam(defaultValue = "ACTIVE") String status,
+                              @RequestParam(required = false) String beforeDate,
+                              @RequestParam(required = false) UUID beforeId,
+                              Model model) {
+        Match.MatchStatus statusFilter = parseStatus(status);
+        KeysetPage<Match> page = mentorshipService.listMatches(
+                statusFilter, parseDate(beforeDate), beforeId, pageSize);
+        model.addAttribute("matches", page.getItems());
+        model.addAttribute("page", page);
+        model.addAttribute("status", statusFilter == null ? "ALL" : statusFilter.name());
+        model.addAttribute("paged", beforeId != null);
         return "matches/list";
     }
 
     @GetMapping("/find")
     public String findMatches(Model model) {
-        model.addAttribute("potentialMatches", mentorshipService.findAllPotentialMatches());
-        model.addAttribute("mentees", mentorshipService.getAllMentees());
-        model.addAttribute("mentors", mentorshipService.getAllMentors());
+        model.addAttribute("potentialMatches", mentorshipService.findTopPotentialMatches(findMatchLimit));
         return "matches/find";
     }
 
     @PostMapping("/create")
-    public String createMatch(@RequestParam String mentorId,
-                              @RequestParam String menteeId,
+    public String createMatch(@RequestParam UUID mentorId,
+                              @RequestParam UUID menteeId,
                               RedirectAttributes redirectAttributes) {
         try {
             Match match = mentorshipService.createMatch(mentorId, menteeId);
@@ -51,8 +73,52 @@ public class MatchController {
         return "redirect:/matches";
     }
 
+    @PostMapping("/auto-assign")
+    public String autoAssignMatches(RedirectAttributes redirectAttributes) {
+        List<Match> matches = mentorshipService.autoAssignMatches();
+        if (matches.isEmpty()) {
+            redirectAttributes.addFlashAttribute("successMessage", "No new matches could be assigned.");
+        } else {
+            redirectAttributes.addFlashAttribute("successMessage",
+                    "Auto-assigned " + matches.size() + " matches!");
+        }
+        return "redirect:/matches";
+    }
+
+    @PostMapping("/stable-assign")
+    public String stableAssignMatches(RedirectAttributes redirectAttributes) {
+        List<Match> matches = mentorshipService.stableMatchMentees();
+        if (matches.isEmpty()) {
+            redirectAttributes.addFlashAttribute("successMessage", "No new matches could be assigned.");
+        } else {
+            redirectAttributes.addFlashAttribute("successMessage",
+                    "Stable-assigned " + matches.size() + " matches!");
+        }
+        return "redirect:/matches";
+    }
+
+    private static Match.MatchStatus parseStatus(String status) {
+        for (Match.MatchStatus value : Match.MatchStatus.values()) {
+            if (value.name().equalsIgnoreCase(status)) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private static LocalDateTime parseDate(String date) {
+        if (date == null) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(date);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
     @PostMapping("/{id}/cancel")
-    public String cancelMatch(@PathVariable String id, RedirectAttributes redirectAttributes) {
+    public String cancelMatch(@PathVariable UUID id, RedirectAttributes redirectAttributes) {
         mentorshipService.cancelMatch(id);
         redirectAttributes.addFlashAttribute("successMessage", "Match has been cancelled.");
         return "redirect:/matches";
@@ -1,20 +1,28 @@
 package com.wcc.bootcamp.java.mentorship.controller;
 
 import com.wcc.bootcamp.java.mentorship.dto.MenteeRegistrationForm;
+import com.wcc.bootcamp.java.mentorship.matching.SkillMatchRules;
 import com.wcc.bootcamp.java.mentorship.model.Match;
 import com.wcc.bootcamp.java.mentorship.model.Mentee;
+import com.wcc.bootcamp.java.mentorship.service.BulkImportService;
+import com.wcc.bootcamp.java.mentorship.service.KeysetPage;
 import com.wcc.bootcamp.java.mentorship.service.MentorshipService;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.util.Arrays;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.UUID;
 
 /**
  * Controller for mentee-related operations.
@@ -24,14 +32,31 @@ import java.util.stream.Collectors;
 public class MenteeController {
 
     private final MentorshipService mentorshipService;
+    private final BulkImportService bulkImportService;
 
-    public MenteeController(MentorshipService mentorshipService) {
+    @Value("${mentorship.matching.top-k:10}")
+    private int topMatchLimit;
+
+    @Value("${mentorship.list.page-size:24}")
+    private int pageSize;
+
+    public MenteeController(MentorshipService mentorshipService, BulkImportService bulkImportService) {
         this.mentorshipService = mentorshipService;
+        this.bulkImportService = bulkImportService;
     }
 
     @GetMapping
-    public String listMentees(Model model) {
-        model.addAttribute("mentees", mentorshipService.getAllMentees());
+    public String listMentees(@RequestParam(required = false) Boolean matched,
+                              @RequestParam(required = false) String skill,
+                              @RequestParam(required = false) String afterName,
+                              @RequestParam(required = false) UUID afterId,
+                              Model model) {
+        KeysetPage<Mentee> page = mentorshipService.listMentees(matched, skill, afterName, afterId, pageSize);
+        model.addAttribute("mentees", page.getItems());
+        model.addAttribute("page", page);
+        model.addAttribute("matched", matched);
+        model.addAttribute("skill", skill);
+        model.addAttribute("paged", afterId != null);
         return "mentees/list";
     }
 
@@ -50,10 +75,7 @@ public class MenteeController {
         }
 
         // Parse comma-separated learning goals into a list
-        List<String> goals = Arrays.stream(form.getLearningGoals().split(","))
-                .map(String::trim)
-                .filter(s -> !s.isEmpty())
-                .collect(Collectors.toList());
+        List<String> goals = SkillMatchRules.split(form.getLearningGoals());
 
         Mentee mentee = mentorshipService.registerMentee(
                 form.getName(),
@@ -68,15 +90,24 @@ public class MenteeController {
         return "redirect:/mentees";
     }
 
+    @PostMapping("/import")
+    public String importMentees(@RequestParam("file") MultipartFile file, RedirectAttributes redirectAttributes)
+            throws IOException {
+        try (Reader csv = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)) {
+            redirectAttributes.addFlashAttribute("importResult", bulkImportService.importMentees(csv));
+        }
+        return "redirect:/mentees";
+    }
+
     @GetMapping("/{id}")
-    public String viewMentee(@PathVariable String id, Model model) {
+    public String viewMentee(@PathVariable UUID id, Model model) {
         Optional<Mentee> mentee = mentorshipService.findMenteeById(id);
         
         if (mentee.isEmpty()) {
             return "redirect:/mentees";
         }
 
-        List<Match> potentialMatches = mentorshipService.findMatchesForMentee(id);
+        List<Match> potentialMatches = mentorshipService.findTopMatchesForMentee(id, topMatchLimit);
 
         model.addAttribute("mentee", mentee.get());
         model.addAttribute("potentialMatches", potentialMatches);
@@ -85,7 +116,7 @@ public class MenteeController {
     }
 
     @PostMapping("/{id}/delete")
-    public String deleteMentee(@PathVariable String id, RedirectAttributes redirectAttributes) {
+    public String deleteMentee(@PathVariable UUID id, RedirectAttributes redirectAttributes) {
         mentorshipService.deleteMentee(id);
         redirectAttributes.addFlashAttribute("successMessage", "Mentee has been removed.");
         return "redirect:/mentees";
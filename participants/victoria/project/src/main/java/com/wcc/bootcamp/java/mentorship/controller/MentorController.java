@@ -1,20 +1,28 @@
 package com.wcc.bootcamp.java.mentorship.controller;
 
 import com.wcc.bootcamp.java.mentorship.dto.MentorRegistrationForm;
+import com.wcc.bootcamp.java.mentorship.matching.SkillMatchRules;
 import com.wcc.bootcamp.java.mentorship.model.Match;
 import com.wcc.bootcamp.java.mentorship.model.Mentor;
+import com.wcc.bootcamp.java.mentorship.service.BulkImportService;
+import com.wcc.bootcamp.java.mentorship.service.KeysetPage;
 import com.wcc.bootcamp.java.mentorship.service.MentorshipService;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.util.Arrays;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.UUID;
 
 /**
  * Controller for mentor-related operations.
@@ -24,14 +32,29 @@ import java.util.stream.Collectors;
 public class MentorController {
 
     private final MentorshipService mentorshipService;
+    private final BulkImportService bulkImportService;
 
-    public MentorController(MentorshipService mentorshipService) {
+    @Value("${mentorship.matching.top-k:10}")
+    private int topMatchLimit;
+
+    @Value("${mentorship.list.page-size:24}")
+    private int pageSize;
+
+    public MentorController(MentorshipService mentorshipService, BulkImportService bulkImportService) {
         this.mentorshipService = mentorshipService;
+        this.bulkImportService = bulkImportService;
     }
 
     @GetMapping
-    public String listMentors(Model model) {
-        model.addAttribute("mentors", mentorshipService.getAllMentors());
+    public String listMentors(@RequestParam(required = false) String skill,
+                              @RequestParam(required = false) String afterName,
+                              @RequestParam(required = false) UUID afterId,
+                              Model model) {
+        KeysetPage<Mentor> page = mentorshipService.listMentors(skill, afterName, afterId, pageSize);
+        model.addAttribute("mentors", page.getItems());
+        model.addAttribute("page", page);
+        model.addAttribute("skill", skill);
+        model.addAttribute("paged", afterId != null);
         return "mentors/list";
     }
 
@@ -50,10 +73,7 @@ public class MentorController {
         }
 
         // Parse comma-separated skills into a list
-        List<String> skills = Arrays.stream(form.getSkills().split(","))
-                .map(String::trim)
-                .filter(s -> !s.isEmpty())
-                .collect(Collectors.toList());
+        List<String> skills = SkillMatchRules.split(form.getSkills());
 
         Mentor mentor = mentorshipService.registerMentor(
                 form.getName(),
@@ -68,15 +88,24 @@ public class MentorController {
         return "redirect:/mentors";
     }
 
+    @PostMapping("/import")
+    public String importMentors(@RequestParam("file") MultipartFile file, RedirectAttributes redirectAttributes)
+            throws IOException {
+        try (Reader csv = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)) {
+            redirectAttributes.addFlashAttribute("importResult", bulkImportService.importMentors(csv));
+        }
+        return "redirect:/mentors";
+    }
+
     @GetMapping("/{id}")
-    public String viewMentor(@PathVariable String id, Model model) {
+    public String viewMentor(@PathVariable UUID id, Model model) {
         Optional<Mentor> mentor = mentorshipService.findMentorById(id);
         
         if (mentor.isEmpty()) {
             return "redirect:/mentors";
         }
 
-        List<Match> potentialMatches = mentorshipService.findMatchesForMentor(id);
+        List<Match> potentialMatches = mentorshipService.findTopMatchesForMentor(id, topMatchLimit);
 
         model.addAttribute("mentor", mentor.get());
         model.addAttribute("potentialMatches", potentialMatches);
@@ -85,7 +114,7 @@ public class MentorController {
     }
 
     @PostMapping("/{id}/delete")
-    public String deleteMentor(@PathVariable String id, RedirectAttributes redirectAttributes) {
+    public String deleteMentor(@PathVariable UUID id, RedirectAttributes redirectAttributes) {
         mentorshipService.deleteMentor(id);
         redirectAttributes.addFlashAttribute("successMessage", "Mentor has been removed.");
         return "redirect:/mentors";
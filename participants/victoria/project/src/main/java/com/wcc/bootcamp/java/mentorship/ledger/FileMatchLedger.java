@@ -0,0 +1,173 @@
+package com.wcc.bootcamp.java.mentorship.ledger;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Match ledger kept in a directory, for the console application: events are appended to
+ * {@code events.log}, one tab-separated line each, and the latest snapshot replaces
+ * {@code snapshot.bin}. Skills are separated by semicolons, which the CSV import and the
+ * console already use to split them, so they never contain one.
+ */
+public class FileMatchLedger implements MatchLedger {
+    private static final String EVENTS_FILE = "events.log";
+    private static final String SNAPSHOT_FILE = "snapshot.bin";
+    private static final String NONE = "-";
+
+    private final Path eventsFile;
+    private final Path snapshotFile;
+    private long lastSequence;
+
+    /**
+     * Opens the ledger in the given directory, creating it if needed.
+     */
+    public FileMatchLedger(Path directory) {
+        this.eventsFile = directory.resolve(EVENTS_FILE);
+        this.snapshotFile = directory.resolve(SNAPSHOT_FILE);
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.lastSequence = readLastSequence();
+    }
+
+    @Override
+    public synchronized void append(List<LedgerEvent> events) {
+        try (BufferedWriter writer = Files.newBufferedWriter(eventsFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (LedgerEvent event : events) {
+                writer.write(format(event.withSequence(lastSequence + 1)));
+                writer.newLine();
+                lastSequence++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized long lastSequence() {
+        return lastSequence;
+    }
+
+    @Override
+    public synchronized void readAfter(long sequence, Consumer<LedgerEvent> consumer) {
+        if (!Files.exists(eventsFile)) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(eventsFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                // Only the events after the sequence number are parsed in full
+                if (!line.isBlank() && sequence(line) > sequence) {
+                    consumer.accept(parse(line));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized Optional<LedgerState> latestSnapshot() {
+        if (!Files.exists(snapshotFile)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(LedgerState.fromBytes(Files.readAllBytes(snapshotFile)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void saveSnapshot(LedgerState state) {
+        // Written aside and moved into place, so a crash never leaves half a snapshot
+        Path partial = snapshotFile.resolveSibling(SNAPSHOT_FILE + ".tmp");
+        try {
+            Files.write(partial, state.toBytes());
+            Files.move(partial, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the sequence number of the last event in the file, read from the start of its last
+     * line rather than by reading the whole file.
+     */
+    private long readLastSequence() {
+        if (!Files.exists(eventsFile)) {
+            return 0;
+        }
+        try (RandomAccessFile file = new RandomAccessFile(eventsFile.toFile(), "r")) {
+            // Back over the final line break and any blank lines, then to the start of the last line
+            long start = file.length();
+            while (start > 0 && Character.isWhitespace(byteBefore(file, start))) {
+                start--;
+            }
+            if (start == 0) {
+                return 0;
+            }
+            while (start > 0 && byteBefore(file, start) != '\n') {
+                start--;
+            }
+            file.seek(start);
+            return sequence(file.readLine());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int byteBefore(RandomAccessFile file, long position) throws IOException {
+        file.seek(position - 1);
+        return file.read();
+    }
+
+    private static long sequence(String line) {
+        return Long.parseLong(line.substring(0, line.indexOf('\t')));
+    }
+
+    private static String format(LedgerEvent event) {
+        return String.join("\t",
+                Long.toString(event.getSequence()),
+                event.getType().name(),
+                event.getOccurredAt().toString(),
+                idOrNone(event.getMatchId()),
+                idOrNone(event.getMentorId()),
+                idOrNone(event.getMenteeId()),
+                Integer.toString(event.getMaxMentees()),
+                String.join(";", event.getSkills()));
+    }
+
+    private static LedgerEvent parse(String line) {
+        String[] fields = line.split("\t", -1);
+        List<String> skills = fields[7].isEmpty() ? List.of() : Arrays.asList(fields[7].split(";"));
+        return new LedgerEvent(Long.parseLong(fields[0]), LedgerEvent.Type.valueOf(fields[1]),
+                LocalDateTime.parse(fields[2]), parseId(fields[3]), parseId(fields[4]), parseId(fields[5]),
+                Integer.parseInt(fields[6]), skills);
+    }
+
+    private static String idOrNone(UUID id) {
+        return id == null ? NONE : id.toString();
+    }
+
+    private static UUID parseId(String field) {
+        return NONE.equals(field) ? null : UUID.fromString(field);
+    }
+}
@@ -0,0 +1,144 @@
+package com.wcc.bootcamp.java.mentorship.ledger;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * One entry of the match ledger: a profile registered or removed, or a match started or ended.
+ * Events are immutable; the ledger numbers them in the order they are appended.
+ */
+public final class LedgerEvent {
+
+    public enum Type {
+        MENTOR_REGISTERED,
+        MENTEE_REGISTERED,
+        MATCHED,
+        CANCELLED,
+        COMPLETED,
+        MENTOR_REMOVED,
+        MENTEE_REMOVED
+    }
+
+    private final long sequence;
+    private final Type type;
+    private final LocalDateTime occurredAt;
+    private final UUID matchId;
+    private final UUID mentorId;
+    private final UUID menteeId;
+    private final int maxMentees;
+    private final List<String> skills;
+
+    public LedgerEvent(long sequence, Type type, LocalDateTime occurredAt, UUID matchId, UUID mentorId,
+                       UUID menteeId, int maxMentees, List<String> skills) {
+        this.sequence = sequence;
+        this.type = Objects.requireNonNull(type);
+        this.occurredAt = Objects.requireNonNull(occurredAt);
+        this.matchId = matchId;
+        this.mentorId = mentorId;
+        this.menteeId = menteeId;
+        this.maxMentees = maxMentees;
+        this.skills = skills == null ? List.of() : List.copyOf(skills);
+    }
+
+    public static LedgerEvent mentorRegistered(UUID mentorId, List<String> expertiseAreas, int maxMentees) {
+        return new LedgerEvent(0, Type.MENTOR_REGISTERED, LocalDateTime.now(), null, mentorId, null,
+                maxMentees, expertiseAreas);
+    }
+
+    public static LedgerEvent menteeRegistered(UUID menteeId, List<String> learningGoals) {
+        return new LedgerEvent(0, Type.MENTEE_REGISTERED, LocalDateTime.now(), null, null, menteeId,
+                0, learningGoals);
+    }
+
+    /**
+     * An active match: the mentor takes one more mentee and the mentee is matched.
+     */
+    public static LedgerEvent matched(UUID matchId, UUID mentorId, UUID menteeId) {
+        return matchEvent(Type.MATCHED, matchId, mentorId, menteeId);
+    }
+
+    /**
+     * A cancelled match; if it was active, the mentor's slot and the mentee are freed.
+     */
+    public static LedgerEvent cancelled(UUID matchId, UUID mentorId, UUID menteeId) {
+        return matchEvent(Type.CANCELLED, matchId, mentorId, menteeId);
+    }
+
+    /**
+     * A completed match; if it was active, the mentor's slot and the mentee are freed.
+     */
+    public static LedgerEvent completed(UUID matchId, UUID mentorId, UUID menteeId) {
+        return matchEvent(Type.COMPLETED, matchId, mentorId, menteeId);
+    }
+
+    /**
+     * A deleted mentor; its active matches end with it.
+     */
+    public static LedgerEvent mentorRemoved(UUID mentorId) {
+        return new LedgerEvent(0, Type.MENTOR_REMOVED, LocalDateTime.now(), null, mentorId, null, 0, null);
+    }
+
+    /**
+     * A deleted mentee; its active match ends with it.
+     */
+    public static LedgerEvent menteeRemoved(UUID menteeId) {
+        return new LedgerEvent(0, Type.MENTEE_REMOVED, LocalDateTime.now(), null, null, menteeId, 0, null);
+    }
+
+    private static LedgerEvent matchEvent(Type type, UUID matchId, UUID mentorId, UUID menteeId) {
+        return new LedgerEvent(0, type, LocalDateTime.now(), matchId, mentorId, menteeId, 0, null);
+    }
+
+    /**
+     * Returns a copy of this event carrying the sequence number the ledger gave it.
+     */
+    public LedgerEvent withSequence(long sequence) {
+        return new LedgerEvent(sequence, type, occurredAt, matchId, mentorId, menteeId, maxMentees, skills);
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public UUID getMatchId() {
+        return matchId;
+    }
+
+    public UUID getMentorId() {
+        return mentorId;
+    }
+
+    public UUID getMenteeId() {
+        return menteeId;
+    }
+
+    /**
+     * Returns the capacity of a registered mentor, 0 for other events.
+     */
+    public int getMaxMentees() {
+        return maxMentees;
+    }
+
+    /**
+     * Returns the expertise areas or learning goals of a registered profile, empty for other events.
+     */
+    public List<String> getSkills() {
+        return skills;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LedgerEvent{#%d %s match=%s mentor=%s mentee=%s}",
+                sequence, type, matchId, mentorId, menteeId);
+    }
+}
@@ -0,0 +1,348 @@
+package com.wcc.bootcamp.java.mentorship.ledger;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * The profiles and active matches that the ledger events add up to: each mentor's skills,
+ * capacity and mentee count, each mentee's goals and match status, and which mentor and mentee
+ * every active match joins. This is what the in-memory read models are built from.
+ *
+ * A state is replayed by applying events in sequence order, and saved as a snapshot in a compact
+ * binary form where every skill name is written once. Not thread-safe.
+ */
+public class LedgerState {
+    private static final int FORMAT_VERSION = 1;
+
+    private final Map<UUID, MentorEntry> mentors = new LinkedHashMap<>();
+    private final Map<UUID, MenteeEntry> mentees = new LinkedHashMap<>();
+    private final Map<UUID, UUID[]> activeMatches = new LinkedHashMap<>();
+    private long sequence;
+    private long snapshotSequence;
+
+    /**
+     * A mentor as the ledger sees it.
+     */
+    public static final class MentorEntry {
+        private final UUID id;
+        private final List<String> skills;
+        private final int maxMentees;
+        private int currentMentees;
+
+        private MentorEntry(UUID id, List<String> skills, int maxMentees, int currentMentees) {
+            this.id = id;
+            this.skills = List.copyOf(skills);
+            this.maxMentees = maxMentees;
+            this.currentMentees = currentMentees;
+        }
+
+        public UUID getId() {
+            return id;
+        }
+
+        public List<String> getSkills() {
+            return skills;
+        }
+
+        public int getMaxMentees() {
+            return maxMentees;
+        }
+
+        public int getCurrentMentees() {
+            return currentMentees;
+        }
+
+        public boolean canAcceptMoreMentees() {
+            return currentMentees < maxMentees;
+        }
+    }
+
+    /**
+     * A mentee as the ledger sees it.
+     */
+    public static final class MenteeEntry {
+        private final UUID id;
+        private final List<String> skills;
+        private boolean matched;
+
+        private MenteeEntry(UUID id, List<String> skills, boolean matched) {
+            this.id = id;
+            this.skills = List.copyOf(skills);
+            this.matched = matched;
+        }
+
+        public UUID getId() {
+            return id;
+        }
+
+        public List<String> getSkills() {
+            return skills;
+        }
+
+        public boolean isMatched() {
+            return matched;
+        }
+    }
+
+    /**
+     * Applies the next event. Events about profiles or matches the state does not know are
+     * ignored, and so is ending a match that is not active.
+     */
+    public void apply(LedgerEvent event) {
+        switch (event.getType()) {
+            case MENTOR_REGISTERED ->
+                    putMentor(event.getMentorId(), event.getSkills(), event.getMaxMentees(), 0);
+            case MENTEE_REGISTERED -> putMentee(event.getMenteeId(), event.getSkills(), false);
+            case MATCHED -> putActiveMatch(event.getMatchId(), event.getMentorId(), event.getMenteeId());
+            case CANCELLED, COMPLETED -> endMatch(event.getMatchId());
+            case MENTOR_REMOVED -> {
+                endMatchesWhere(match -> match[0].equals(event.getMentorId()));
+                mentors.remove(event.getMentorId());
+            }
+            case MENTEE_REMOVED -> {
+                endMatchesWhere(match -> match[1].equals(event.getMenteeId()));
+                mentees.remove(event.getMenteeId());
+            }
+        }
+        sequence = event.getSequence();
+    }
+
+    public void putMentor(UUID id, List<String> skills, int maxMentees, int currentMentees) {
+        mentors.put(id, new MentorEntry(id, skills, maxMentees, currentMentees));
+    }
+
+    public void putMentee(UUID id, List<String> skills, boolean matched) {
+        mentees.put(id, new MenteeEntry(id, skills, matched));
+    }
+
+    /**
+     * Records an active match, taking one of the mentor's slots and matching the mentee.
+     */
+    public void putActiveMatch(UUID matchId, UUID mentorId, UUID menteeId) {
+        if (activeMatches.putIfAbsent(matchId, new UUID[] {mentorId, menteeId}) != null) {
+            return;
+        }
+        MentorEntry mentor = mentors.get(mentorId);
+        if (mentor != null) {
+            mentor.currentMentees++;
+        }
+        MenteeEntry mentee = mentees.get(menteeId);
+        if (mentee != null) {
+            mentee.matched = true;
+        }
+    }
+
+    private void endMatch(UUID matchId) {
+        UUID[] match = activeMatches.remove(matchId);
+        if (match != null) {
+            release(match);
+        }
+    }
+
+    private void endMatchesWhere(Predicate<UUID[]> condition) {
+        Iterator<UUID[]> matches = activeMatches.values().iterator();
+        while (matches.hasNext()) {
+            UUID[] match = matches.next();
+            if (condition.test(match)) {
+                matches.remove();
+                release(match);
+            }
+        }
+    }
+
+    private void release(UUID[] match) {
+        MentorEntry mentor = mentors.get(match[0]);
+        if (mentor != null && mentor.currentMentees > 0) {
+            mentor.currentMentees--;
+        }
+        MenteeEntry mentee = mentees.get(match[1]);
+        if (mentee != null) {
+            mentee.matched = false;
+        }
+    }
+
+    public Collection<MentorEntry> getMentors() {
+        return Collections.unmodifiableCollection(mentors.values());
+    }
+
+    public Collection<MenteeEntry> getMentees() {
+        return Collections.unmodifiableCollection(mentees.values());
+    }
+
+    public long getMentorCount() {
+        return mentors.size();
+    }
+
+    public long getAvailableMentorCount() {
+        return mentors.values().stream().filter(MentorEntry::canAcceptMoreMentees).count();
+    }
+
+    public long getMenteeCount() {
+        return mentees.size();
+    }
+
+    public long getUnmatchedMenteeCount() {
+        return mentees.values().stream().filter(mentee -> !mentee.matched).count();
+    }
+
+    public long getActiveMatchCount() {
+        return activeMatches.size();
+    }
+
+    /**
+     * Returns the sequence number of the last event the state includes.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Sets the last event included, for a state built from the tables instead of the events.
+     */
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    /**
+     * Returns the sequence number of the snapshot this state was restored from, 0 if none.
+     * The events applied since are {@code getSequence() - getSnapshotSequence()} at most.
+     */
+    public long getSnapshotSequence() {
+        return snapshotSequence;
+    }
+
+    // ==================== Snapshots ====================
+
+    /**
+     * Encodes the state as a snapshot.
+     */
+    public byte[] toBytes() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(sequence);
+
+            Map<String, Integer> skillIndexes = new HashMap<>();
+            List<String> skillNames = new ArrayList<>();
+            mentors.values().forEach(mentor -> mentor.skills.forEach(skill -> intern(skill, skillIndexes, skillNames)));
+            mentees.values().forEach(mentee -> mentee.skills.forEach(skill -> intern(skill, skillIndexes, skillNames)));
+            out.writeInt(skillNames.size());
+            for (String skill : skillNames) {
+                out.writeUTF(skill);
+            }
+
+            out.writeInt(mentors.size());
+            for (MentorEntry mentor : mentors.values()) {
+                writeId(out, mentor.id);
+                out.writeInt(mentor.maxMentees);
+                out.writeInt(mentor.currentMentees);
+                writeSkills(out, mentor.skills, skillIndexes);
+            }
+            out.writeInt(mentees.size());
+            for (MenteeEntry mentee : mentees.values()) {
+                writeId(out, mentee.id);
+                out.writeBoolean(mentee.matched);
+                writeSkills(out, mentee.skills, skillIndexes);
+            }
+            out.writeInt(activeMatches.size());
+            for (Map.Entry<UUID, UUID[]> match : activeMatches.entrySet()) {
+                writeId(out, match.getKey());
+                writeId(out, match.getValue()[0]);
+                writeId(out, match.getValue()[1]);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a snapshot written by {@link #toBytes()}.
+     *
+     * @throws IllegalArgumentException if the snapshot has an unknown format
+     */
+    public static LedgerState fromBytes(byte[] snapshot) {
+        LedgerState state = new LedgerState();
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(snapshot))) {
+            int version = in.readInt();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unknown ledger snapshot format: " + version);
+            }
+            state.sequence = in.readLong();
+            state.snapshotSequence = state.sequence;
+
+            String[] skillNames = new String[in.readInt()];
+            for (int i = 0; i < skillNames.length; i++) {
+                skillNames[i] = in.readUTF();
+            }
+
+            int mentorCount = in.readInt();
+            for (int i = 0; i < mentorCount; i++) {
+                UUID id = readId(in);
+                int maxMentees = in.readInt();
+                int currentMentees = in.readInt();
+                state.putMentor(id, readSkills(in, skillNames), maxMentees, currentMentees);
+            }
+            int menteeCount = in.readInt();
+            for (int i = 0; i < menteeCount; i++) {
+                UUID id = readId(in);
+                boolean matched = in.readBoolean();
+                state.putMentee(id, readSkills(in, skillNames), matched);
+            }
+            int matchCount = in.readInt();
+            for (int i = 0; i < matchCount; i++) {
+                // The mentor counts and mentee flags above already include these matches
+                state.activeMatches.put(readId(in), new UUID[] {readId(in), readId(in)});
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return state;
+    }
+
+    private static void intern(String skill, Map<String, Integer> skillIndexes, List<String> skillNames) {
+        if (skillIndexes.putIfAbsent(skill, skillNames.size()) == null) {
+            skillNames.add(skill);
+        }
+    }
+
+    private static void writeSkills(DataOutputStream out, List<String> skills, Map<String, Integer> skillIndexes)
+            throws IOException {
+        out.writeInt(skills.size());
+        for (String skill : skills) {
+            out.writeInt(skillIndexes.get(skill));
+        }
+    }
+
+    private static List<String> readSkills(DataInputStream in, String[] skillNames) throws IOException {
+        int count = in.readInt();
+        List<String> skills = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            skills.add(skillNames[in.readInt()]);
+        }
+        return skills;
+    }
+
+    private static void writeId(DataOutputStream out, UUID id) throws IOException {
+        out.writeLong(id.getMostSignificantBits());
+        out.writeLong(id.getLeastSignificantBits());
+    }
+
+    private static UUID readId(DataInputStream in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+}
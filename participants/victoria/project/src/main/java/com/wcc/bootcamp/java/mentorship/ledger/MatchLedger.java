@@ -0,0 +1,77 @@
+package com.wcc.bootcamp.java.mentorship.ledger;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Append-only log of profile and match events, with snapshots of the state they add up to.
+ *
+ * Events are never changed or removed; each gets the next sequence number when it is appended.
+ * A snapshot saves the {@link LedgerState} up to some event, so the current state is rebuilt
+ * from the latest snapshot and the events after it instead of from the whole log.
+ */
+public interface MatchLedger {
+
+    /**
+     * A ledger that records nothing and rebuilds an empty state.
+     */
+    MatchLedger NONE = new MatchLedger() {
+        @Override
+        public void append(List<LedgerEvent> events) {
+        }
+
+        @Override
+        public long lastSequence() {
+            return 0;
+        }
+
+        @Override
+        public void readAfter(long sequence, Consumer<LedgerEvent> consumer) {
+        }
+
+        @Override
+        public Optional<LedgerState> latestSnapshot() {
+            return Optional.empty();
+        }
+
+        @Override
+        public void saveSnapshot(LedgerState state) {
+        }
+    };
+
+    /**
+     * Appends the events in order.
+     */
+    void append(List<LedgerEvent> events);
+
+    default void append(LedgerEvent event) {
+        append(List.of(event));
+    }
+
+    /**
+     * Returns the sequence number of the last event appended, 0 if there is none.
+     */
+    long lastSequence();
+
+    /**
+     * Passes every event after the given sequence number to the consumer, in order.
+     */
+    void readAfter(long sequence, Consumer<LedgerEvent> consumer);
+
+    Optional<LedgerState> latestSnapshot();
+
+    /**
+     * Saves the state as the latest snapshot. Older snapshots may be dropped.
+     */
+    void saveSnapshot(LedgerState state);
+
+    /**
+     * Rebuilds the current state from the latest snapshot and the events after it.
+     */
+    default LedgerState rebuild() {
+        LedgerState state = latestSnapshot().orElseGet(LedgerState::new);
+        readAfter(state.getSequence(), state::apply);
+        return state;
+    }
+}
@@ -0,0 +1,433 @@
+package com.wcc.bootcamp.java.mentorship.matching;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Assigns unmatched mentees to mentors so that the total match score is as high as possible.
+ *
+ * The problem is solved as a min-cost flow over the sparse candidate edges of the
+ * {@link SkillIndex}: source -> mentee (capacity 1), mentee -> mentor (capacity 1,
+ * cost = -score) and mentor -> sink (capacity = free mentor slots). Flow is only pushed while
+ * the shortest path still improves the total score, so a mentee is left unassigned rather than
+ * given a bad mentor.
+ *
+ * Candidate edges are scored in parallel. Each phase then runs Dijkstra on reduced costs to
+ * update the node potentials, then pushes a blocking flow along every zero-reduced-cost path at
+ * once. Match scores take few distinct values, so only a handful of phases are needed even for
+ * tens of thousands of mentees.
+ */
+public class AssignmentEngine implements CohortAssigner {
+    // Scores are fractions; scaling them to integers keeps the potentials exact
+    private static final long SCORE_SCALE = 1_000_000L;
+    private static final long INFINITY = Long.MAX_VALUE / 4;
+    private static final int SOURCE = 0;
+
+    private final SkillIndex skillIndex;
+    private final ScoringEngine scoringEngine;
+
+    public AssignmentEngine(SkillIndex skillIndex, ScoringEngine scoringEngine) {
+        this.skillIndex = skillIndex;
+        this.scoringEngine = scoringEngine;
+    }
+
+    /**
+     * Finds the assignment with the highest total score.
+     */
+    @Override
+    public List<ScoredPair> assign(List<String> menteeIds, List<SkillProfile> menteeProfiles,
+                                   Map<String, Integer> mentorCapacities, ForkJoinPool pool) {
+        List<String> mentorIds = new ArrayList<>();
+        Map<String, Integer> mentorNodes = new HashMap<>();
+        int firstMentorNode = menteeIds.size() + 1;
+        for (Map.Entry<String, Integer> entry : mentorCapacities.entrySet()) {
+            if (entry.getValue() > 0) {
+                mentorNodes.put(entry.getKey(), firstMentorNode + mentorIds.size());
+                mentorIds.add(entry.getKey());
+            }
+        }
+        if (menteeIds.isEmpty() || mentorIds.isEmpty()) {
+            return List.of();
+        }
+
+        CandidateEdges[] candidates = pool.submit(() -> IntStream.range(0, menteeIds.size()).parallel()
+                .mapToObj(i -> candidateEdges(menteeProfiles.get(i), mentorNodes))
+                .toArray(CandidateEdges[]::new)).join();
+        int edgeCount = menteeIds.size() + mentorIds.size();
+        for (CandidateEdges edges : candidates) {
+            edgeCount += edges.mentorNodes.length;
+        }
+
+        int sink = firstMentorNode + mentorIds.size();
+        FlowNetwork network = new FlowNetwork(sink + 1, menteeIds.size(), edgeCount);
+        for (int i = 0; i < menteeIds.size(); i++) {
+            network.addEdge(SOURCE, i + 1, 1, 0);
+            CandidateEdges edges = candidates[i];
+            for (int j = 0; j < edges.mentorNodes.length; j++) {
+                network.addEdge(i + 1, edges.mentorNodes[j], 1, edges.costs[j]);
+            }
+        }
+        for (int j = 0; j < mentorIds.size(); j++) {
+            network.addEdge(firstMentorNode + j, sink, mentorCapacities.get(mentorIds.get(j)), 0);
+        }
+
+        network.build();
+        network.solve(sink);
+
+        List<ScoredPair> assigned = new ArrayList<>();
+        for (int i = 0; i < menteeIds.size(); i++) {
+            int mentorNode = network.assignedMentor(i + 1);
+            if (mentorNode < 0) {
+                continue;
+            }
+            String mentorId = mentorIds.get(mentorNode - firstMentorNode);
+            double score = scoringEngine.score(skillIndex.getMentorProfile(mentorId), menteeProfiles.get(i));
+            assigned.add(new ScoredPair(mentorId, menteeIds.get(i), score, i));
+        }
+        assigned.sort(Comparator.comparingDouble(ScoredPair::getScore).reversed());
+        return assigned;
+    }
+
+    private CandidateEdges candidateEdges(SkillProfile menteeProfile, Map<String, Integer> mentorNodes) {
+        Set<String> mentorIds = skillIndex.findCandidateMentorIds(menteeProfile);
+        int[] nodes = new int[mentorIds.size()];
+        long[] costs = new long[mentorIds.size()];
+        int count = 0;
+        for (String mentorId : mentorIds) {
+            Integer mentorNode = mentorNodes.get(mentorId);
+            SkillProfile mentorProfile = skillIndex.getMentorProfile(mentorId);
+            if (mentorNode == null || mentorProfile == null) {
+                continue;
+            }
+
+            double score = scoringEngine.score(mentorProfile, menteeProfile);
+            if (score > 0) {
+                nodes[count] = mentorNode;
+                costs[count] = -Math.round(score * SCORE_SCALE);
+                count++;
+            }
+        }
+        return new CandidateEdges(Arrays.copyOf(nodes, count), Arrays.copyOf(costs, count));
+    }
+
+    /**
+     * Scored mentee -> mentor edges of one mentee.
+     */
+    private static final class CandidateEdges {
+        private final int[] mentorNodes;
+        private final long[] costs;
+
+        CandidateEdges(int[] mentorNodes, long[] costs) {
+            this.mentorNodes = mentorNodes;
+            this.costs = costs;
+        }
+    }
+
+    /**
+     * Residual graph in compressed sparse row form: the edges of each node are stored next to
+     * each other so that every phase scans memory sequentially. Edges are collected first and
+     * laid out by {@link #build()}; the caller knows the exact edge count up front.
+     */
+    private static final class FlowNetwork {
+        private final int nodeCount;
+        private final int menteeCount;
+        private int[] edgeFrom;
+        private int[] edgeTo;
+        private int[] edgeCapacity;
+        private long[] edgeCost;
+        private int pendingEdges;
+
+        private int[] start;
+        private int[] target;
+        private int[] capacity;
+        private long[] cost;
+        private int[] reverse;
+
+        FlowNetwork(int nodeCount, int menteeCount, int edgeCount) {
+            this.nodeCount = nodeCount;
+            this.menteeCount = menteeCount;
+            this.edgeFrom = new int[edgeCount];
+            this.edgeTo = new int[edgeCount];
+            this.edgeCapacity = new int[edgeCount];
+            this.edgeCost = new long[edgeCount];
+        }
+
+        void addEdge(int from, int to, int edgeCapacityValue, long edgeCostValue) {
+            edgeFrom[pendingEdges] = from;
+            edgeTo[pendingEdges] = to;
+            edgeCapacity[pendingEdges] = edgeCapacityValue;
+            edgeCost[pendingEdges] = edgeCostValue;
+            pendingEdges++;
+        }
+
+        /**
+         * Lays out every edge and its reverse grouped by source node.
+         */
+        void build() {
+            start = new int[nodeCount + 1];
+            for (int i = 0; i < pendingEdges; i++) {
+                start[edgeFrom[i] + 1]++;
+                start[edgeTo[i] + 1]++;
+            }
+            for (int v = 0; v < nodeCount; v++) {
+                start[v + 1] += start[v];
+            }
+
+            int size = 2 * pendingEdges;
+            target = new int[size];
+            capacity = new int[size];
+            cost = new long[size];
+            reverse = new int[size];
+            int[] fill = Arrays.copyOf(start, nodeCount);
+            for (int i = 0; i < pendingEdges; i++) {
+                int forward = fill[edgeFrom[i]]++;
+                int backward = fill[edgeTo[i]]++;
+                target[forward] = edgeTo[i];
+                capacity[forward] = edgeCapacity[i];
+                cost[forward] = edgeCost[i];
+                reverse[forward] = backward;
+                target[backward] = edgeFrom[i];
+                cost[backward] = -edgeCost[i];
+                reverse[backward] = forward;
+            }
+
+            edgeFrom = null;
+            edgeTo = null;
+            edgeCapacity = null;
+            edgeCost = null;
+        }
+
+        /**
+         * Returns the mentor node the mentee node sends its unit of flow to, or -1.
+         */
+        int assignedMentor(int menteeNode) {
+            for (int e = start[menteeNode]; e < start[menteeNode + 1]; e++) {
+                if (target[e] != SOURCE && capacity[e] == 0) {
+                    return target[e];
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Pushes flow along negative-cost shortest paths until none is left.
+         */
+        void solve(int sink) {
+            long[] potential = initialPotentials(sink);
+            long[] distance = new long[nodeCount];
+            int[] level = new int[nodeCount];
+            int[] queue = new int[nodeCount];
+            int[] arc = new int[nodeCount];
+            int[] path = new int[nodeCount];
+            NodeHeap heap = new NodeHeap(distance, nodeCount);
+
+            while (true) {
+                shortestDistances(potential, distance, heap);
+                long sinkDistance = distance[sink];
+                if (sinkDistance >= INFINITY) {
+                    return;
+                }
+                for (int v = 0; v < nodeCount; v++) {
+                    potential[v] += Math.min(distance[v], sinkDistance);
+                }
+                // The real cost of every shortest path is now potential[sink]; stop once it no longer pays
+                if (potential[sink] - potential[SOURCE] >= 0) {
+                    return;
+                }
+
+                while (buildLevels(potential, level, queue, sink)) {
+                    System.arraycopy(start, 0, arc, 0, nodeCount);
+                    while (augment(potential, level, arc, path, sink)) {
+                        // keep pushing along the current level graph
+                    }
+                }
+            }
+        }
+
+        /**
+         * Shortest distances in the initial graph, which is acyclic: only mentee -> mentor edges cost anything.
+         */
+        private long[] initialPotentials(int sink) {
+            long[] potential = new long[nodeCount];
+            for (int u = 1; u <= menteeCount; u++) {
+                for (int e = start[u]; e < start[u + 1]; e++) {
+                    if (cost[e] < potential[target[e]]) {
+                        potential[target[e]] = cost[e];
+                    }
+                }
+            }
+            for (int u = menteeCount + 1; u < sink; u++) {
+                potential[sink] = Math.min(potential[sink], potential[u]);
+            }
+            return potential;
+        }
+
+        private void shortestDistances(long[] potential, long[] distance, NodeHeap heap) {
+            Arrays.fill(distance, INFINITY);
+            distance[SOURCE] = 0;
+            heap.push(SOURCE);
+            while (!heap.isEmpty()) {
+                int u = heap.poll();
+                long base = distance[u] + potential[u];
+                for (int e = start[u]; e < start[u + 1]; e++) {
+                    if (capacity[e] == 0) {
+                        continue;
+                    }
+                    int v = target[e];
+                    long candidate = base + cost[e] - potential[v];
+                    if (candidate < distance[v]) {
+                        distance[v] = candidate;
+                        heap.push(v);
+                    }
+                }
+            }
+        }
+
+        private boolean isAdmissible(int e, int from, long[] potential) {
+            return capacity[e] > 0 && cost[e] + potential[from] - potential[target[e]] == 0;
+        }
+
+        /**
+         * BFS levels over zero-reduced-cost edges; returns whether the sink is reachable.
+         */
+        private boolean buildLevels(long[] potential, int[] level, int[] queue, int sink) {
+            Arrays.fill(level, -1);
+            int tail = 0;
+            level[SOURCE] = 0;
+            queue[tail++] = SOURCE;
+            for (int next = 0; next < tail; next++) {
+                int u = queue[next];
+                for (int e = start[u]; e < start[u + 1]; e++) {
+                    int v = target[e];
+                    if (level[v] < 0 && isAdmissible(e, u, potential)) {
+                        level[v] = level[u] + 1;
+                        queue[tail++] = v;
+                    }
+                }
+            }
+            return level[sink] >= 0;
+        }
+
+        /**
+         * Finds one path through the level graph and pushes a unit of flow along it.
+         * Every path starts with a source -> mentee edge of capacity 1, so one unit is the bottleneck.
+         * Iterative so that long alternating paths cannot overflow the stack.
+         */
+        private boolean augment(long[] potential, int[] level, int[] arc, int[] path, int sink) {
+            int depth = 0;
+            int u = SOURCE;
+            while (true) {
+                if (u == sink) {
+                    for (int i = 0; i < depth; i++) {
+                        capacity[path[i]]--;
+                        capacity[reverse[path[i]]]++;
+                    }
+                    return true;
+                }
+
+                int end = start[u + 1];
+                int e = arc[u];
+                while (e < end && !(level[target[e]] == level[u] + 1 && isAdmissible(e, u, potential))) {
+                    e++;
+                }
+                arc[u] = e;
+
+                if (e < end) {
+                    path[depth++] = e;
+                    u = target[e];
+                    continue;
+                }
+
+                // Dead end: drop the node from the level graph and step back
+                level[u] = -1;
+                if (depth == 0) {
+                    return false;
+                }
+                u = target[reverse[path[--depth]]];
+                arc[u]++;
+            }
+        }
+    }
+
+    /**
+     * Binary min-heap of node IDs keyed by a distance array, with decrease-key.
+     */
+    private static final class NodeHeap {
+        private final long[] key;
+        private final int[] heap;
+        private final int[] position;
+        private int size;
+
+        NodeHeap(long[] key, int nodeCount) {
+            this.key = key;
+            this.heap = new int[nodeCount];
+            this.position = new int[nodeCount];
+            Arrays.fill(position, -1);
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        /**
+         * Inserts the node, or moves it up after its key decreased.
+         */
+        void push(int node) {
+            if (position[node] < 0) {
+                heap[size] = node;
+                position[node] = size;
+                siftUp(size++);
+            } else {
+                siftUp(position[node]);
+            }
+        }
+
+        int poll() {
+            int top = heap[0];
+            position[top] = -1;
+            if (--size > 0) {
+                heap[0] = heap[size];
+                position[heap[0]] = 0;
+                siftDown(0);
+            }
+            return top;
+        }
+
+        private void siftUp(int index) {
+            int node = heap[index];
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (key[heap[parent]] <= key[node]) {
+                    break;
+                }
+                heap[index] = heap[parent];
+                position[heap[index]] = index;
+                index = parent;
+            }
+            heap[index] = node;
+            position[node] = index;
+        }
+
+        private void siftDown(int index) {
+            int node = heap[index];
+            while (true) {
+                int child = 2 * index + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && key[heap[child + 1]] < key[heap[child]]) {
+                    child++;
+                }
+                if (key[heap[child]] >= key[node]) {
+                    break;
+                }
+                heap[index] = heap[child];
+                position[heap[index]] = index;
+                index = child;
+            }
+            heap[index] = node;
+            position[node] = index;
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.wcc.bootcamp.java.mentorship.matching;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Caches ranked candidate lists per mentee (available mentors) and per mentor (unmatched mentees).
+ *
+ * Lists are kept up to date incrementally instead of being dropped: when a mentor registers,
+ * fills up or frees a slot, only the cached mentees with a related goal are touched, and the
+ * same holds the other way round. Each side keeps at most {@code maxEntries} lists in LRU order,
+ * and each list keeps at most {@code depth} candidates. A list that was cut off is marked
+ * incomplete and only answers requests it still holds enough candidates for.
+ *
+ * Update methods read the current state of the {@link SkillIndex}, so call them after the
+ * index has been updated.
+ */
+public class CandidateCache {
+    private final SkillIndex skillIndex;
+    private final ScoringEngine scoringEngine;
+    private final int depth;
+    private final Map<String, CandidateList> mentorsByMentee;
+    private final Map<String, CandidateList> menteesByMentor;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public CandidateCache(SkillIndex skillIndex, ScoringEngine scoringEngine, int maxEntries, int depth) {
+        this.skillIndex = skillIndex;
+        this.scoringEngine = scoringEngine;
+        this.depth = Math.max(1, depth);
+        this.mentorsByMentee = lruMap(maxEntries);
+        this.menteesByMentor = lruMap(maxEntries);
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    // ==================== Lookups ====================
+
+    /**
+     * Returns the k best cached mentors for the mentee, or null if they have to be computed.
+     */
+    public synchronized List<ScoredPair> findMentorsForMentee(String menteeId, int k) {
+        return lookup(mentorsByMentee, menteeId, k);
+    }
+
+    /**
+     * Returns the k best cached mentees for the mentor, or null if they have to be computed.
+     */
+    public synchronized List<ScoredPair> findMenteesForMentor(String mentorId, int k) {
+        return lookup(menteesByMentor, mentorId, k);
+    }
+
+    /**
+     * Stores freshly ranked mentors for a mentee.
+     *
+     * @param complete whether {@code ranked} holds every candidate rather than only the best ones
+     */
+    public synchronized void putMentorsForMentee(String menteeId, List<ScoredPair> ranked, boolean complete) {
+        mentorsByMentee.put(menteeId, new CandidateList(ranked, complete, depth, ScoredPair::getMentorId));
+    }
+
+    /**
+     * Stores freshly ranked mentees for a mentor.
+     *
+     * @param complete whether {@code ranked} holds every candidate rather than only the best ones
+     */
+    public synchronized void putMenteesForMentor(String mentorId, List<ScoredPair> ranked, boolean complete) {
+        menteesByMentor.put(mentorId, new CandidateList(ranked, complete, depth, ScoredPair::getMenteeId));
+    }
+
+    // ==================== Incremental Updates ====================
+
+    /**
+     * Adds or removes the mentor in the lists of cached mentees with a related goal,
+     * depending on whether the index currently offers the mentor as a candidate.
+     */
+    public synchronized void mentorChanged(String mentorId) {
+        SkillProfile mentorProfile = skillIndex.getMentorProfile(mentorId);
+        if (mentorProfile == null) {
+            removeEverywhere(mentorsByMentee, mentorId);
+            return;
+        }
+
+        boolean available = skillIndex.isMentorAvailable(mentorId);
+        for (String menteeId : skillIndex.findRelatedMenteeIds(mentorProfile)) {
+            CandidateList list = mentorsByMentee.get(menteeId);
+            if (list == null) {
+                continue;
+            }
+            if (available) {
+                double score = scoringEngine.score(mentorProfile, skillIndex.getMenteeProfile(menteeId));
+                list.upsert(new ScoredPair(mentorId, menteeId, score, 0));
+            } else {
+                list.remove(mentorId);
+            }
+        }
+    }
+
+    /**
+     * Adds or removes the mentee in the lists of cached mentors with related expertise,
+     * depending on whether the index currently offers the mentee as a candidate.
+     */
+    public synchronized void menteeChanged(String menteeId) {
+        SkillProfile menteeProfile = skillIndex.getMenteeProfile(menteeId);
+        if (menteeProfile == null) {
+            removeEverywhere(menteesByMentor, menteeId);
+            return;
+        }
+
+        boolean unmatched = skillIndex.isMenteeUnmatched(menteeId);
+        for (String mentorId : skillIndex.findRelatedMentorIds(menteeProfile)) {
+            CandidateList list = menteesByMentor.get(mentorId);
+            if (list == null) {
+                continue;
+            }
+            if (unmatched) {
+                double score = scoringEngine.score(skillIndex.getMentorProfile(mentorId), menteeProfile);
+                list.upsert(new ScoredPair(mentorId, menteeId, score, 0));
+            } else {
+                list.remove(menteeId);
+            }
+        }
+    }
+
+    /**
+     * Drops a deleted mentor from every cached list. Call after the mentor left the index.
+     */
+    public synchronized void mentorRemoved(String mentorId) {
+        menteesByMentor.remove(mentorId);
+        removeEverywhere(mentorsByMentee, mentorId);
+    }
+
+    /**
+     * Drops a deleted mentee from every cached list. Call after the mentee left the index.
+     */
+    public synchronized void menteeRemoved(String menteeId) {
+        mentorsByMentee.remove(menteeId);
+        removeEverywhere(menteesByMentor, menteeId);
+    }
+
+    /**
+     * Drops every cached list of mentors. Used after many mentors were added at once,
+     * when updating the lists one mentor at a time would cost more than ranking again.
+     */
+    public synchronized void clearMentorLists() {
+        mentorsByMentee.clear();
+    }
+
+    /**
+     * Drops every cached list of mentees, see {@link #clearMentorLists()}.
+     */
+    public synchronized void clearMenteeLists() {
+        menteesByMentor.clear();
+    }
+
+    // ==================== Statistics ====================
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public synchronized int size() {
+        return mentorsByMentee.size() + menteesByMentor.size();
+    }
+
+    private List<ScoredPair> lookup(Map<String, CandidateList> lists, String id, int k) {
+        CandidateList list = lists.get(id);
+        List<ScoredPair> ranked = list == null ? null : list.head(k);
+        (ranked == null ? misses : hits).incrementAndGet();
+        return ranked;
+    }
+
+    private static void removeEverywhere(Map<String, CandidateList> lists, String otherId) {
+        for (CandidateList list : lists.values()) {
+            list.remove(otherId);
+        }
+    }
+
+    private static Map<String, CandidateList> lruMap(int maxEntries) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CandidateList> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Candidates of one mentor or mentee, best first.
+     */
+    private static final class CandidateList {
+        private final List<ScoredPair> ranked;
+        private final int depth;
+        private final Function<ScoredPair, String> otherId;
+        private boolean complete;
+
+        CandidateList(List<ScoredPair> ranked, boolean complete, int depth, Function<ScoredPair, String> otherId) {
+            this.ranked = new ArrayList<>(ranked.subList(0, Math.min(depth, ranked.size())));
+            this.complete = complete && ranked.size() <= depth;
+            this.depth = depth;
+            this.otherId = otherId;
+        }
+
+        /**
+         * Returns the first k candidates, or null if the list was cut off before k.
+         */
+        List<ScoredPair> head(int k) {
+            if (!complete && ranked.size() < k) {
+                return null;
+            }
+            return new ArrayList<>(ranked.subList(0, Math.min(k, ranked.size())));
+        }
+
+        void upsert(ScoredPair pair) {
+            remove(otherId.apply(pair));
+            if (pair.getScore() <= 0) {
+                return;
+            }
+
+            int position = 0;
+            while (position < ranked.size() && ranked.get(position).getScore() >= pair.getScore()) {
+                position++;
+            }
+            if (!complete && position == ranked.size()) {
+                return; // ranks below the cut-off, where other candidates are unknown
+            }
+
+            ranked.add(position, pair);
+            if (ranked.size() > depth) {
+                ranked.remove(ranked.size() - 1);
+                complete = false;
+            }
+        }
+
+        void remove(String id) {
+            ranked.removeIf(pair -> otherId.apply(pair).equals(id));
+        }
+    }
+}
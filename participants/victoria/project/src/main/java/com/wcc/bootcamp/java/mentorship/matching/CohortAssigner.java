@@ -0,0 +1,23 @@
+package com.wcc.bootcamp.java.mentorship.matching;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Strategy for assigning a whole cohort of unmatched mentees to mentors in one pass.
+ */
+public interface CohortAssigner {
+
+    /**
+     * Chooses mentor/mentee pairs for the cohort.
+     *
+     * @param menteeIds         unmatched mentee IDs
+     * @param menteeProfiles    compiled profiles, parallel to {@code menteeIds}
+     * @param mentorCapacities  free slots per mentor; mentors missing from the map are not used
+     * @param pool              pool used to score the candidate pairs
+     * @return the chosen pairs, highest score first
+     */
+    List<ScoredPair> assign(List<String> menteeIds, List<SkillProfile> menteeProfiles,
+                            Map<String, Integer> mentorCapacities, ForkJoinPool pool);
+}
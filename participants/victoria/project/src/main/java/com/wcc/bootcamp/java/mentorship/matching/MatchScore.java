@@ -0,0 +1,24 @@
+package com.wcc.bootcamp.java.mentorship.matching;
+
+import java.util.List;
+
+/**
+ * Score of a mentor/mentee pair together with the mentee goals the mentor covers.
+ */
+public final class MatchScore {
+    private final double score;
+    private final List<String> matchedSkills;
+
+    public MatchScore(double score, List<String> matchedSkills) {
+        this.score = score;
+        this.matchedSkills = matchedSkills;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public List<String> getMatchedSkills() {
+        return matchedSkills;
+    }
+}
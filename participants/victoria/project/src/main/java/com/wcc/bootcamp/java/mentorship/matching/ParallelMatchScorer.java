@@ -0,0 +1,93 @@
+package com.wcc.bootcamp.java.mentorship.matching;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Scores many mentees against their candidate mentors in parallel.
+ *
+ * The mentee list is split recursively across a fork-join pool. Each leaf keeps its own
+ * {@link TopMatchSelector}, and results are merged on the way back up, so the final
+ * ranking is global while no locking is needed during scoring.
+ * Only in-memory index data is read, which keeps database access on the calling thread.
+ */
+public class ParallelMatchScorer {
+    private static final int LEAF_SIZE = 128;
+
+    private final SkillIndex skillIndex;
+    private final ScoringEngine scoringEngine;
+
+    public ParallelMatchScorer(SkillIndex skillIndex, ScoringEngine scoringEngine) {
+        this.skillIndex = skillIndex;
+        this.scoringEngine = scoringEngine;
+    }
+
+    /**
+     * Returns the k best pairs for the given mentees, best first.
+     *
+     * @param menteeIds      mentee IDs, in the order used to break score ties
+     * @param menteeProfiles compiled profiles, parallel to {@code menteeIds}
+     */
+    public List<ScoredPair> findTopPairs(List<String> menteeIds, List<SkillProfile> menteeProfiles,
+                                         int k, ForkJoinPool pool) {
+        if (menteeIds.isEmpty()) {
+            return List.of();
+        }
+        return pool.invoke(new ScoreTask(menteeIds, menteeProfiles, 0, menteeIds.size(), k)).results();
+    }
+
+    private class ScoreTask extends RecursiveTask<TopMatchSelector> {
+        private final List<String> menteeIds;
+        private final List<SkillProfile> menteeProfiles;
+        private final int from;
+        private final int to;
+        private final int k;
+
+        ScoreTask(List<String> menteeIds, List<SkillProfile> menteeProfiles, int from, int to, int k) {
+            this.menteeIds = menteeIds;
+            this.menteeProfiles = menteeProfiles;
+            this.from = from;
+            this.to = to;
+            this.k = k;
+        }
+
+        @Override
+        protected TopMatchSelector compute() {
+            if (to - from <= LEAF_SIZE) {
+                return scoreRange();
+            }
+
+            int middle = (from + to) >>> 1;
+            ScoreTask left = new ScoreTask(menteeIds, menteeProfiles, from, middle, k);
+            ScoreTask right = new ScoreTask(menteeIds, menteeProfiles, middle, to, k);
+            right.fork();
+            TopMatchSelector selector = left.compute();
+            selector.merge(right.join());
+            return selector;
+        }
+
+        private TopMatchSelector scoreRange() {
+            TopMatchSelector selector = new TopMatchSelector(k);
+            for (int i = from; i < to; i++) {
+                String menteeId = menteeIds.get(i);
+                SkillProfile menteeProfile = menteeProfiles.get(i);
+                Set<String> candidates = skillIndex.findCandidateMentorIds(menteeProfile);
+
+                for (String mentorId : candidates) {
+                    SkillProfile mentorProfile = skillIndex.getMentorProfile(mentorId);
+                    if (mentorProfile == null) {
+                        continue;
+                    }
+
+                    double score = scoringEngine.score(mentorProfile, menteeProfile);
+                    if (score > 0) {
+                        selector.offer(mentorId, menteeId, score);
+                    }
+                }
+            }
+            return selector;
+        }
+    }
+}
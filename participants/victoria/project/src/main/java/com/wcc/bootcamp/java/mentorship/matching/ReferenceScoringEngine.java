@@ -0,0 +1,35 @@
+package com.wcc.bootcamp.java.mentorship.matching;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Scores profiles by comparing every goal/expertise string pair with {@link SkillMatchRules}.
+ *
+ * This is the original matching algorithm. It is slower than {@link SkillScorer} but needs no
+ * dictionary state, which makes it the baseline the other engines are checked against.
+ */
+public class ReferenceScoringEngine implements ScoringEngine {
+
+    @Override
+    public double score(SkillProfile mentor, SkillProfile mentee) {
+        if (mentee.getSkillCount() == 0) {
+            return 0;
+        }
+        return (double) matchedSkills(mentor, mentee).size() / mentee.getSkillCount();
+    }
+
+    @Override
+    public List<String> matchedSkills(SkillProfile mentor, SkillProfile mentee) {
+        List<String> matchedSkills = new ArrayList<>();
+        for (String goal : mentee.skills()) {
+            for (String skill : mentor.skills()) {
+                if (SkillMatchRules.isSkillMatch(skill, goal)) {
+                    matchedSkills.add(goal);
+                    break;
+                }
+            }
+        }
+        return matchedSkills;
+    }
+}
@@ -0,0 +1,40 @@
+package com.wcc.bootcamp.java.mentorship.matching;
+
+/**
+ * Lightweight score record for a mentor/mentee pair.
+ * Used while ranking candidates so that full Match entities are only built for the survivors.
+ */
+public final class ScoredPair {
+    private final String mentorId;
+    private final String menteeId;
+    private final double score;
+    private final long sequence;
+
+    ScoredPair(String mentorId, String menteeId, double score, long sequence) {
+        this.mentorId = mentorId;
+        this.menteeId = menteeId;
+        this.score = score;
+        this.sequence = sequence;
+    }
+
+    public String getMentorId() {
+        return mentorId;
+    }
+
+    public String getMenteeId() {
+        return menteeId;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    long getSequence() {
+        return sequence;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ScoredPair{mentor='%s', mentee='%s', score=%.2f}", mentorId, menteeId, score);
+    }
+}
@@ -0,0 +1,58 @@
+package com.wcc.bootcamp.java.mentorship.matching;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Scores a mentor against a mentee using their precompiled {@link SkillProfile}s.
+ *
+ * The score is the fraction of the mentee's goals (counting duplicates) covered by at least
+ * one of the mentor's expertise areas under {@link SkillMatchRules}. Every implementation must
+ * return exactly the same scores and matched skills; they only differ in speed.
+ *
+ * Engines are selected by name with {@link #create(String, SkillDictionary)}:
+ * - {@code bitset} (default): {@link SkillScorer}, intersects precomputed related-skill bitsets
+ * - {@code reference}: {@link ReferenceScoringEngine}, compares the skill strings pair by pair
+ */
+public interface ScoringEngine {
+
+    String BITSET = "bitset";
+    String REFERENCE = "reference";
+
+    /**
+     * Calculates the match score as the fraction of mentee goals the mentor can cover.
+     */
+    double score(SkillProfile mentor, SkillProfile mentee);
+
+    /**
+     * Lists the mentee goals covered by the mentor's expertise, in the mentee's order.
+     */
+    List<String> matchedSkills(SkillProfile mentor, SkillProfile mentee);
+
+    /**
+     * Calculates the score and, only if it is positive, the matched skills.
+     */
+    default MatchScore evaluate(SkillProfile mentor, SkillProfile mentee) {
+        double score = score(mentor, mentee);
+        List<String> matchedSkills = score > 0
+                ? matchedSkills(mentor, mentee)
+                : Collections.emptyList();
+        return new MatchScore(score, matchedSkills);
+    }
+
+    /**
+     * Creates the engine with the given name; a null or blank name selects the bitset engine.
+     *
+     * @throws IllegalArgumentException if no engine has that name
+     */
+    static ScoringEngine create(String name, SkillDictionary dictionary) {
+        if (name == null || name.isBlank()) {
+            return new SkillScorer(dictionary);
+        }
+        return switch (name.trim().toLowerCase()) {
+            case BITSET -> new SkillScorer(dictionary);
+            case REFERENCE -> new ReferenceScoringEngine();
+            default -> throw new IllegalArgumentException("Unknown scoring engine: " + name);
+        };
+    }
+}
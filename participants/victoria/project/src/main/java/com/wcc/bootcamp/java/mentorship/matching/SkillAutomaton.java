@@ -0,0 +1,274 @@
+package com.wcc.bootcamp.java.mentorship.matching;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Substring lookups over a consecutive range of the skill vocabulary, in both directions.
+ *
+ * An Aho-Corasick automaton reports every skill occurring in a text with one pass over the
+ * text, in time linear in its length plus the number of matches. Trie edges live in one
+ * open-addressing table keyed by (node, char), so there are no per-node maps.
+ *
+ * A suffix array over the joined skills reports every skill containing a text with a binary
+ * search, in O(length x log(vocabulary size)) plus the number of matches.
+ *
+ * Instances are immutable once built and safe to share between threads.
+ */
+final class SkillAutomaton {
+    private static final int ROOT = 0;
+    private static final long EMPTY = -1L;
+
+    // Terminates each skill in the joined text, so suffixes never run into the next skill
+    static final char SEPARATOR = '\0';
+
+    private final int from;
+    private final int to;
+    private final int[] fail;
+    private final int[] pattern;
+    private final int[] output;
+    private final long[] edgeKeys;
+    private final int[] edgeTargets;
+    private final int edgeMask;
+    private final String joined;
+    private final int[] offsets;
+    private final int[] suffixes;
+
+    private SkillAutomaton(int from, int to, int[] fail, int[] pattern, int[] output,
+                           long[] edgeKeys, int[] edgeTargets, String joined, int[] offsets, int[] suffixes) {
+        this.from = from;
+        this.to = to;
+        this.fail = fail;
+        this.pattern = pattern;
+        this.output = output;
+        this.edgeKeys = edgeKeys;
+        this.edgeTargets = edgeTargets;
+        this.edgeMask = edgeKeys.length - 1;
+        this.joined = joined;
+        this.offsets = offsets;
+        this.suffixes = suffixes;
+    }
+
+    /**
+     * Builds the automaton over the skills with IDs in [from, to); a skill's ID is its array index.
+     * Empty skills and skills containing {@link #SEPARATOR} are skipped and left to the caller.
+     */
+    static SkillAutomaton build(String[] skills, int from, int to) {
+        int maxNodes = 1;
+        for (int id = from; id < to; id++) {
+            maxNodes += skills[id].length();
+        }
+
+        int tableSize = Integer.highestOneBit(Math.max(2, maxNodes) * 2 - 1) << 1;
+        long[] edgeKeys = new long[tableSize];
+        int[] edgeTargets = new int[tableSize];
+        Arrays.fill(edgeKeys, EMPTY);
+
+        int[] pattern = new int[maxNodes];
+        int[] firstChild = new int[maxNodes];
+        int[] nextSibling = new int[maxNodes];
+        char[] label = new char[maxNodes];
+        Arrays.fill(pattern, -1);
+        Arrays.fill(firstChild, -1);
+        int nodes = 1;
+
+        SkillAutomaton trie = new SkillAutomaton(from, to, null, pattern, null, edgeKeys, edgeTargets,
+                null, null, null);
+        for (int id = from; id < to; id++) {
+            String skill = skills[id];
+            if (!isIndexable(skill)) {
+                continue;
+            }
+            int node = ROOT;
+            for (int i = 0; i < skill.length(); i++) {
+                char c = skill.charAt(i);
+                int child = trie.child(node, c);
+                if (child < 0) {
+                    child = nodes++;
+                    trie.putChild(node, c, child);
+                    label[child] = c;
+                    nextSibling[child] = firstChild[node];
+                    firstChild[node] = child;
+                }
+                node = child;
+            }
+            pattern[node] = id;
+        }
+
+        // Failure and output links in BFS order, so parents are always finished before children
+        int[] fail = new int[nodes];
+        int[] output = new int[nodes];
+        Arrays.fill(output, -1);
+        int[] queue = new int[nodes];
+        int tail = 0;
+        for (int child = firstChild[ROOT]; child >= 0; child = nextSibling[child]) {
+            queue[tail++] = child;
+        }
+        for (int head = 0; head < tail; head++) {
+            int node = queue[head];
+            for (int child = firstChild[node]; child >= 0; child = nextSibling[child]) {
+                char c = label[child];
+                int state = fail[node];
+                int target;
+                while ((target = trie.child(state, c)) < 0 && state != ROOT) {
+                    state = fail[state];
+                }
+                fail[child] = target < 0 ? ROOT : target;
+                output[child] = pattern[fail[child]] >= 0 ? fail[child] : output[fail[child]];
+                queue[tail++] = child;
+            }
+        }
+
+        StringBuilder text = new StringBuilder(maxNodes + (to - from));
+        int[] offsets = new int[to - from];
+        for (int id = from; id < to; id++) {
+            offsets[id - from] = text.length();
+            if (isIndexable(skills[id])) {
+                text.append(skills[id]);
+            }
+            text.append(SEPARATOR);
+        }
+        String joined = text.toString();
+
+        return new SkillAutomaton(from, to, fail, Arrays.copyOf(pattern, nodes), output, edgeKeys, edgeTargets,
+                joined, offsets, sortSuffixes(joined));
+    }
+
+    static boolean isIndexable(String skill) {
+        return !skill.isEmpty() && skill.indexOf(SEPARATOR) < 0;
+    }
+
+    /**
+     * Returns the start of every suffix of the joined text that begins inside a skill,
+     * sorted lexicographically up to the end of its skill.
+     */
+    private static int[] sortSuffixes(String joined) {
+        Integer[] starts = new Integer[joined.length()];
+        int count = 0;
+        for (int i = 0; i < joined.length(); i++) {
+            if (joined.charAt(i) != SEPARATOR) {
+                starts[count++] = i;
+            }
+        }
+        Arrays.sort(starts, 0, count, (a, b) -> compareSuffixes(joined, a, b));
+
+        int[] suffixes = new int[count];
+        for (int i = 0; i < count; i++) {
+            suffixes[i] = starts[i];
+        }
+        return suffixes;
+    }
+
+    private static int compareSuffixes(String joined, int a, int b) {
+        for (; ; a++, b++) {
+            char ca = joined.charAt(a);
+            char cb = joined.charAt(b);
+            if (ca != cb) {
+                return Character.compare(ca, cb);
+            }
+            if (ca == SEPARATOR) {
+                return 0;
+            }
+        }
+    }
+
+    int from() {
+        return from;
+    }
+
+    int to() {
+        return to;
+    }
+
+    int size() {
+        return to - from;
+    }
+
+    /**
+     * Reports the ID of every non-empty skill occurring in the text. A skill occurring
+     * several times is reported several times.
+     */
+    void forEachContainedSkill(String text, IntConsumer action) {
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int next;
+            while ((next = child(state, c)) < 0 && state != ROOT) {
+                state = fail[state];
+            }
+            state = next < 0 ? ROOT : next;
+
+            for (int match = pattern[state] >= 0 ? state : output[state]; match >= 0; match = output[match]) {
+                action.accept(pattern[match]);
+            }
+        }
+    }
+
+    /**
+     * Reports the ID of every skill containing the non-empty text. A skill containing the
+     * text several times is reported several times.
+     */
+    void forEachContainingSkill(String text, IntConsumer action) {
+        // First suffix not smaller than the text; suffixes starting with it follow directly
+        int low = 0;
+        int high = suffixes.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparePrefix(suffixes[mid], text) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        for (int i = low; i < suffixes.length && comparePrefix(suffixes[i], text) == 0; i++) {
+            int index = Arrays.binarySearch(offsets, suffixes[i]);
+            action.accept(from + (index >= 0 ? index : -index - 2));
+        }
+    }
+
+    /**
+     * Compares the suffix with the text, treating a suffix that starts with the text as equal.
+     */
+    private int comparePrefix(int start, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = joined.charAt(start + i);
+            if (c != text.charAt(i)) {
+                return Character.compare(c, text.charAt(i));
+            }
+        }
+        return 0;
+    }
+
+    private int child(int node, char c) {
+        long key = edgeKey(node, c);
+        for (int slot = slot(key); ; slot = (slot + 1) & edgeMask) {
+            long stored = edgeKeys[slot];
+            if (stored == key) {
+                return edgeTargets[slot];
+            }
+            if (stored == EMPTY) {
+                return -1;
+            }
+        }
+    }
+
+    private void putChild(int node, char c, int child) {
+        long key = edgeKey(node, c);
+        int slot = slot(key);
+        while (edgeKeys[slot] != EMPTY) {
+            slot = (slot + 1) & edgeMask;
+        }
+        edgeKeys[slot] = key;
+        edgeTargets[slot] = child;
+    }
+
+    private static long edgeKey(int node, char c) {
+        return ((long) node << 16) | c;
+    }
+
+    private int slot(long key) {
+        long mixed = key * 0x9E3779B97F4A7C15L;
+        return (int) (mixed >>> 40) & edgeMask;
+    }
+}
@@ -0,0 +1,206 @@
+package com.wcc.bootcamp.java.mentorship.matching;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns every normalized skill string to a dense integer ID.
+ *
+ * When a skill is interned for the first time its related skills under {@link SkillMatchRules}
+ * are looked up once and stored as a bitset of related skill IDs. Scoring a pair afterwards
+ * only needs bitset intersections instead of string work.
+ *
+ * The lookup avoids comparing the new skill with every existing one:
+ * - existing skills it contains come from one Aho-Corasick pass over the new skill
+ * - existing skills containing it come from a suffix array search
+ * - skills sharing a significant word come from a word-to-skills map
+ * Both substring structures live in {@link SkillAutomaton}s over consecutive ID ranges, merged
+ * like a binary counter: a new range is built once enough skills are pending, and two ranges
+ * are merged when the older one is no larger than the newer one. That keeps O(log n) ranges to
+ * search and rebuilds each skill O(log n) times, while the few pending skills, and the rare
+ * ones the automata cannot hold, are compared directly.
+ *
+ * Reads are lock-free: published arrays and bitsets are never modified, interning replaces them.
+ */
+public class SkillDictionary {
+    private static final int MAX_PENDING = 32;
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private volatile String[] skills = new String[0];
+    private volatile BitSet[] related = new BitSet[0];
+
+    // Lookup structures, only touched while holding the lock
+    private final Map<String, BitSet> skillsByWord = new HashMap<>();
+    private final List<SkillAutomaton> automata = new ArrayList<>();
+    private int covered;
+    private final BitSet unindexable = new BitSet();
+
+    /**
+     * Returns the ID of the skill, assigning a new one if the skill has not been seen before.
+     */
+    public int intern(String skill) {
+        String normalized = SkillMatchRules.normalize(skill);
+        Integer existing = ids.get(normalized);
+        if (existing != null) {
+            return existing;
+        }
+        synchronized (this) {
+            existing = ids.get(normalized);
+            if (existing != null) {
+                return existing;
+            }
+
+            String[] currentSkills = skills;
+            BitSet[] currentRelated = related;
+            int id = currentSkills.length;
+
+            String[] newSkills = Arrays.copyOf(currentSkills, id + 1);
+            BitSet[] newRelated = Arrays.copyOf(currentRelated, id + 1);
+            newSkills[id] = normalized;
+            BitSet own = findRelated(normalized, newSkills, id);
+            for (int other = own.nextSetBit(0); other >= 0; other = own.nextSetBit(other + 1)) {
+                BitSet updated = (BitSet) currentRelated[other].clone();
+                updated.set(id);
+                newRelated[other] = updated;
+            }
+            own.set(id);
+            newRelated[id] = own;
+            addToLookup(normalized, newSkills, id);
+
+            related = newRelated;
+            skills = newSkills;
+            ids.put(normalized, id);
+            return id;
+        }
+    }
+
+    /**
+     * Finds the existing skills (IDs below {@code id}) that match the new skill.
+     */
+    private BitSet findRelated(String skill, String[] currentSkills, int id) {
+        BitSet found = new BitSet();
+        if (!SkillAutomaton.isIndexable(skill)) {
+            for (int other = 0; other < id; other++) {
+                if (SkillMatchRules.isSkillMatch(currentSkills[other], skill)) {
+                    found.set(other);
+                }
+            }
+            return found;
+        }
+
+        // Existing skills contained in or containing the new one
+        for (SkillAutomaton automaton : automata) {
+            automaton.forEachContainedSkill(skill, found::set);
+            automaton.forEachContainingSkill(skill, found::set);
+        }
+        for (int other = covered; other < id; other++) {
+            if (skill.contains(currentSkills[other]) || currentSkills[other].contains(skill)) {
+                found.set(other);
+            }
+        }
+        for (int other = unindexable.nextSetBit(0); other >= 0; other = unindexable.nextSetBit(other + 1)) {
+            if (SkillMatchRules.isSkillMatch(currentSkills[other], skill)) {
+                found.set(other);
+            }
+        }
+
+        // Existing skills sharing a significant word
+        for (String word : skill.split("\\s+")) {
+            BitSet withWord = word.length() > 2 ? skillsByWord.get(word) : null;
+            if (withWord != null) {
+                found.or(withWord);
+            }
+        }
+        return found;
+    }
+
+    private void addToLookup(String skill, String[] currentSkills, int id) {
+        if (!SkillAutomaton.isIndexable(skill)) {
+            unindexable.set(id);
+        }
+        for (String word : skill.split("\\s+")) {
+            if (word.length() > 2) {
+                skillsByWord.computeIfAbsent(word, k -> new BitSet()).set(id);
+            }
+        }
+
+        if (id + 1 - covered < MAX_PENDING) {
+            return;
+        }
+        automata.add(SkillAutomaton.build(currentSkills, covered, id + 1));
+        covered = id + 1;
+        int last = automata.size() - 1;
+        while (last > 0 && automata.get(last - 1).size() <= automata.get(last).size()) {
+            SkillAutomaton merged = SkillAutomaton.build(currentSkills, automata.get(last - 1).from(), covered);
+            automata.remove(last);
+            automata.set(--last, merged);
+        }
+    }
+
+    /**
+     * Returns the ID of the skill, or -1 if it has never been interned.
+     */
+    public int idOf(String skill) {
+        Integer id = ids.get(SkillMatchRules.normalize(skill));
+        return id == null ? -1 : id;
+    }
+
+    public String skillOf(int id) {
+        return skills[id];
+    }
+
+    /**
+     * Returns the IDs of all skills that match the given skill, including itself.
+     * The returned bitset is shared and must not be modified.
+     */
+    public BitSet relatedTo(int id) {
+        return related[id];
+    }
+
+    /**
+     * Returns the IDs of all skills related to any skill of the profile.
+     */
+    public BitSet relatedTo(SkillProfile profile) {
+        BitSet relatedSkills = new BitSet();
+        for (int skillId : profile.skillIds()) {
+            relatedSkills.or(relatedTo(skillId));
+        }
+        return relatedSkills;
+    }
+
+    /**
+     * Returns the normalized strings of all known skills related to any skill of the profile.
+     */
+    public List<String> relatedSkills(SkillProfile profile) {
+        BitSet relatedSkills = relatedTo(profile);
+        List<String> result = new ArrayList<>(relatedSkills.cardinality());
+        for (int id = relatedSkills.nextSetBit(0); id >= 0; id = relatedSkills.nextSetBit(id + 1)) {
+            result.add(skillOf(id));
+        }
+        return result;
+    }
+
+    public int size() {
+        return skills.length;
+    }
+
+    /**
+     * Compiles a skill list into a profile, interning any new skills.
+     */
+    public SkillProfile profile(List<String> skillList) {
+        List<String> distinct = new ArrayList<>();
+        for (String skill : skillList) {
+            if (!distinct.contains(skill)) {
+                distinct.add(skill);
+            }
+        }
+
+        int[] skillIds = new int[distinct.size()];
+        BitSet skillSet = new BitSet();
+        for (int i = 0; i < distinct.size(); i++) {
+            skillIds[i] = intern(distinct.get(i));
+            skillSet.set(skillIds[i]);
+        }
+        return new SkillProfile(distinct.toArray(new String[0]), skillIds, skillSet, skillList.size());
+    }
+}
@@ -0,0 +1,265 @@
+package com.wcc.bootcamp.java.mentorship.matching;
+
+import com.wcc.bootcamp.java.mentorship.model.Mentee;
+import com.wcc.bootcamp.java.mentorship.model.Mentor;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory inverted index from skill ID to the mentors and mentees that list it.
+ * Candidate lookups only return profiles sharing at least one related skill, so scoring
+ * no longer has to scan every mentor or mentee.
+ *
+ * Each indexed mentor and mentee keeps its compiled {@link SkillProfile}, so skill strings
+ * are normalized once at registration rather than on every comparison.
+ *
+ * Mentors at capacity and mentees that are already matched stay indexed but are
+ * left out of candidate results until their status changes again.
+ *
+ * Profiles are keyed by the string form of the entity ID, which is also what
+ * {@link ScoredPair} carries.
+ */
+public class SkillIndex {
+    private final SkillDictionary dictionary;
+    private final Map<Integer, Set<String>> mentorsBySkill = new ConcurrentHashMap<>();
+    private final Map<Integer, Set<String>> menteesBySkill = new ConcurrentHashMap<>();
+    private final Map<String, SkillProfile> mentorProfiles = new ConcurrentHashMap<>();
+    private final Map<String, SkillProfile> menteeProfiles = new ConcurrentHashMap<>();
+    private final Set<String> availableMentors = ConcurrentHashMap.newKeySet();
+    private final Set<String> unmatchedMentees = ConcurrentHashMap.newKeySet();
+
+    public SkillIndex() {
+        this(new SkillDictionary());
+    }
+
+    public SkillIndex(SkillDictionary dictionary) {
+        this.dictionary = dictionary;
+    }
+
+    public SkillDictionary getDictionary() {
+        return dictionary;
+    }
+
+    // ==================== Mentor Updates ====================
+
+    /**
+     * Adds a mentor to the index, replacing any previous entry with the same ID.
+     */
+    public synchronized void indexMentor(Mentor mentor) {
+        indexMentor(mentor.getId().toString(), mentor.getExpertiseAreas(), mentor.canAcceptMoreMentees());
+    }
+
+    /**
+     * Adds a mentor read from a projection, replacing any previous entry with the same ID.
+     */
+    public synchronized void indexMentor(String mentorId, List<String> expertiseAreas, boolean available) {
+        removeMentor(mentorId);
+        SkillProfile profile = dictionary.profile(expertiseAreas);
+        mentorProfiles.put(mentorId, profile);
+        addPostings(mentorsBySkill, profile, mentorId);
+        if (available) {
+            availableMentors.add(mentorId);
+        }
+    }
+
+    public synchronized void removeMentor(String mentorId) {
+        SkillProfile profile = mentorProfiles.remove(mentorId);
+        if (profile != null) {
+            removePostings(mentorsBySkill, profile, mentorId);
+        }
+        availableMentors.remove(mentorId);
+    }
+
+    /**
+     * Refreshes whether the mentor should be offered as a candidate.
+     */
+    public synchronized void updateMentorCapacity(Mentor mentor) {
+        String mentorId = mentor.getId().toString();
+        if (mentor.canAcceptMoreMentees() && mentorProfiles.containsKey(mentorId)) {
+            availableMentors.add(mentorId);
+        } else {
+            availableMentors.remove(mentorId);
+        }
+    }
+
+    // ==================== Mentee Updates ====================
+
+    /**
+     * Adds a mentee to the index, replacing any previous entry with the same ID.
+     */
+    public synchronized void indexMentee(Mentee mentee) {
+        indexMentee(mentee.getId().toString(), mentee.getLearningGoals(), !mentee.isMatched());
+    }
+
+    /**
+     * Adds a mentee read from a projection, replacing any previous entry with the same ID.
+     */
+    public synchronized void indexMentee(String menteeId, List<String> learningGoals, boolean unmatched) {
+        removeMentee(menteeId);
+        SkillProfile profile = dictionary.profile(learningGoals);
+        menteeProfiles.put(menteeId, profile);
+        addPostings(menteesBySkill, profile, menteeId);
+        if (unmatched) {
+            unmatchedMentees.add(menteeId);
+        }
+    }
+
+    public synchronized void removeMentee(String menteeId) {
+        SkillProfile profile = menteeProfiles.remove(menteeId);
+        if (profile != null) {
+            removePostings(menteesBySkill, profile, menteeId);
+        }
+        unmatchedMentees.remove(menteeId);
+    }
+
+    /**
+     * Refreshes whether the mentee should be offered as a candidate.
+     */
+    public synchronized void updateMenteeStatus(Mentee mentee) {
+        String menteeId = mentee.getId().toString();
+        if (!mentee.isMatched() && menteeProfiles.containsKey(menteeId)) {
+            unmatchedMentees.add(menteeId);
+        } else {
+            unmatchedMentees.remove(menteeId);
+        }
+    }
+
+    // ==================== Profiles ====================
+
+    /**
+     * Returns the indexed profile of the mentor, compiling one if the mentor is not indexed.
+     */
+    public SkillProfile mentorProfile(Mentor mentor) {
+        SkillProfile profile = mentorProfiles.get(mentor.getId().toString());
+        return profile != null ? profile : dictionary.profile(mentor.getExpertiseAreas());
+    }
+
+    /**
+     * Returns the indexed profile of the mentee, compiling one if the mentee is not indexed.
+     */
+    public SkillProfile menteeProfile(Mentee mentee) {
+        SkillProfile profile = menteeProfiles.get(mentee.getId().toString());
+        return profile != null ? profile : dictionary.profile(mentee.getLearningGoals());
+    }
+
+    /**
+     * Returns the indexed profile of the mentee, compiling one from the given goals if it is not indexed.
+     */
+    public SkillProfile menteeProfile(String menteeId, List<String> learningGoals) {
+        SkillProfile profile = menteeProfiles.get(menteeId);
+        return profile != null ? profile : dictionary.profile(learningGoals);
+    }
+
+    /**
+     * Returns the indexed profile of the mentor with the given ID, or null if it is not indexed.
+     */
+    public SkillProfile getMentorProfile(String mentorId) {
+        return mentorProfiles.get(mentorId);
+    }
+
+    /**
+     * Returns the indexed profile of the mentee with the given ID, or null if it is not indexed.
+     */
+    public SkillProfile getMenteeProfile(String menteeId) {
+        return menteeProfiles.get(menteeId);
+    }
+
+    // ==================== Candidate Lookup ====================
+
+    /**
+     * Finds mentors with spare capacity that have at least one skill related to the given goals.
+     */
+    public Set<String> findCandidateMentorIds(List<String> learningGoals) {
+        return findCandidateMentorIds(dictionary.profile(learningGoals));
+    }
+
+    public Set<String> findCandidateMentorIds(SkillProfile menteeProfile) {
+        return findCandidates(menteeProfile, mentorsBySkill, availableMentors);
+    }
+
+    /**
+     * Finds unmatched mentees that want at least one skill related to the given expertise.
+     */
+    public Set<String> findCandidateMenteeIds(List<String> expertiseAreas) {
+        return findCandidateMenteeIds(dictionary.profile(expertiseAreas));
+    }
+
+    public Set<String> findCandidateMenteeIds(SkillProfile mentorProfile) {
+        return findCandidates(mentorProfile, menteesBySkill, unmatchedMentees);
+    }
+
+    /**
+     * Finds every indexed mentee, matched or not, with a goal related to the given expertise.
+     */
+    public Set<String> findRelatedMenteeIds(SkillProfile mentorProfile) {
+        return findCandidates(mentorProfile, menteesBySkill, null);
+    }
+
+    /**
+     * Finds every indexed mentor, available or not, with expertise related to the given goals.
+     */
+    public Set<String> findRelatedMentorIds(SkillProfile menteeProfile) {
+        return findCandidates(menteeProfile, mentorsBySkill, null);
+    }
+
+    public boolean isMentorAvailable(String mentorId) {
+        return availableMentors.contains(mentorId);
+    }
+
+    public boolean isMenteeUnmatched(String menteeId) {
+        return unmatchedMentees.contains(menteeId);
+    }
+
+    public int getMentorCount() {
+        return mentorProfiles.size();
+    }
+
+    public int getMenteeCount() {
+        return menteeProfiles.size();
+    }
+
+    /**
+     * Collects eligible profiles listed under any skill related to the query's skills.
+     * Related skills come precomputed from the dictionary, so no strings are compared here.
+     * A null eligible set accepts every indexed profile.
+     */
+    private Set<String> findCandidates(SkillProfile query,
+                                       Map<Integer, Set<String>> postings,
+                                       Set<String> eligible) {
+        BitSet relatedSkills = dictionary.relatedTo(query);
+
+        Set<String> candidates = new HashSet<>();
+        for (int skillId = relatedSkills.nextSetBit(0); skillId >= 0;
+             skillId = relatedSkills.nextSetBit(skillId + 1)) {
+            Set<String> ids = postings.get(skillId);
+            if (ids == null) {
+                continue;
+            }
+            for (String id : ids) {
+                if (eligible == null || eligible.contains(id)) {
+                    candidates.add(id);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private static void addPostings(Map<Integer, Set<String>> postings, SkillProfile profile, String id) {
+        for (int skillId : profile.skillIds()) {
+            postings.computeIfAbsent(skillId, k -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    private static void removePostings(Map<Integer, Set<String>> postings, SkillProfile profile, String id) {
+        for (int skillId : profile.skillIds()) {
+            Set<String> ids = postings.get(skillId);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    postings.remove(skillId);
+                }
+            }
+        }
+    }
+}
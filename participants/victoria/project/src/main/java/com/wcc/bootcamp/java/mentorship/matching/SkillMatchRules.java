@@ -0,0 +1,81 @@
+package com.wcc.bootcamp.java.mentorship.matching;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The skill comparison rules used when scoring a mentor against a mentee.
+ */
+public final class SkillMatchRules {
+
+    private SkillMatchRules() {
+    }
+
+    /**
+     * Normalizes a skill the same way registration does (lowercase, trimmed).
+     */
+    public static String normalize(String skill) {
+        return skill.toLowerCase().trim();
+    }
+
+    /**
+     * Normalizes each skill, dropping empty and repeated ones. Registration and the CSV import
+     * both store skills in this form.
+     *
+     * A mentee's score is the share of its goals that a mentor covers, so a goal entered twice
+     * ("Java, java, SQL") now counts once: the mentee has two goals, not three, and a mentor
+     * with only SQL scores 50% rather than 33%. Profiles stored before keep their repeats.
+     */
+    public static List<String> normalizeAll(Collection<String> skills) {
+        return skills.stream()
+                .map(SkillMatchRules::normalize)
+                .filter(s -> !s.isEmpty())
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Splits a comma-separated skills field of the registration forms into normalized skills.
+     */
+    public static List<String> split(String skills) {
+        return normalizeAll(Arrays.asList(skills.split(",")));
+    }
+
+    /**
+     * Checks if two skills match using various matching strategies:
+     * - Exact match
+     * - Contains match (one string contains the other)
+     * - Common words match
+     */
+    public static boolean isSkillMatch(String skill1, String skill2) {
+        String s1 = normalize(skill1);
+        String s2 = normalize(skill2);
+
+        // Exact match
+        if (s1.equals(s2)) {
+            return true;
+        }
+
+        // Contains match
+        if (s1.contains(s2) || s2.contains(s1)) {
+            return true;
+        }
+
+        // Word-level matching
+        Set<String> words1 = new HashSet<>(Arrays.asList(s1.split("\\s+")));
+        Set<String> words2 = new HashSet<>(Arrays.asList(s2.split("\\s+")));
+
+        // Check for common significant words (length > 2)
+        for (String word : words1) {
+            if (word.length() > 2 && words2.contains(word)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,44 @@
+package com.wcc.bootcamp.java.mentorship.matching;
+
+import java.util.BitSet;
+
+/**
+ * Precompiled skill list of a mentor or mentee.
+ *
+ * Holds the distinct skill strings exactly as registered, their dictionary IDs in the same
+ * order, a bitset of those IDs, and the size of the original list (which may contain
+ * duplicates and is the denominator of the match score).
+ */
+public final class SkillProfile {
+    private final String[] skills;
+    private final int[] skillIds;
+    private final BitSet skillSet;
+    private final int skillCount;
+
+    SkillProfile(String[] skills, int[] skillIds, BitSet skillSet, int skillCount) {
+        this.skills = skills;
+        this.skillIds = skillIds;
+        this.skillSet = skillSet;
+        this.skillCount = skillCount;
+    }
+
+    String[] skills() {
+        return skills;
+    }
+
+    int[] skillIds() {
+        return skillIds;
+    }
+
+    BitSet skillSet() {
+        return skillSet;
+    }
+
+    public int getSkillCount() {
+        return skillCount;
+    }
+
+    public int getDistinctSkillCount() {
+        return skills.length;
+    }
+}
@@ -0,0 +1,63 @@
+package com.wcc.bootcamp.java.mentorship.matching;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Scores mentor/mentee profiles using the related-skill bitsets of a {@link SkillDictionary}.
+ *
+ * A mentee goal is matched when its related set intersects the mentor's expertise set.
+ * The score is the number of distinct matched goals divided by the number of goals,
+ * which gives the same result as comparing every goal/expertise string pair.
+ * Scoring does not allocate; matched skill lists are only built on request.
+ *
+ * This is the default {@link ScoringEngine} ({@code bitset}).
+ */
+public class SkillScorer implements ScoringEngine {
+    private final SkillDictionary dictionary;
+
+    public SkillScorer(SkillDictionary dictionary) {
+        this.dictionary = dictionary;
+    }
+
+    public SkillDictionary getDictionary() {
+        return dictionary;
+    }
+
+    /**
+     * Counts the distinct mentee goals covered by the mentor's expertise.
+     */
+    public int countMatchedGoals(SkillProfile mentor, SkillProfile mentee) {
+        BitSet expertise = mentor.skillSet();
+        int matched = 0;
+        for (int goalId : mentee.skillIds()) {
+            if (dictionary.relatedTo(goalId).intersects(expertise)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    @Override
+    public double score(SkillProfile mentor, SkillProfile mentee) {
+        if (mentee.getSkillCount() == 0) {
+            return 0;
+        }
+        return (double) countMatchedGoals(mentor, mentee) / mentee.getSkillCount();
+    }
+
+    @Override
+    public List<String> matchedSkills(SkillProfile mentor, SkillProfile mentee) {
+        BitSet expertise = mentor.skillSet();
+        String[] goals = mentee.skills();
+        int[] goalIds = mentee.skillIds();
+        List<String> matched = new ArrayList<>();
+        for (int i = 0; i < goalIds.length; i++) {
+            if (dictionary.relatedTo(goalIds[i]).intersects(expertise)) {
+                matched.add(goals[i]);
+            }
+        }
+        return matched;
+    }
+}
@@ -0,0 +1,193 @@
+package com.wcc.bootcamp.java.mentorship.matching;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Finds a stable many-to-one matching with capacitated deferred acceptance (Gale-Shapley).
+ *
+ * Mentees propose to mentors in descending score order and each mentor keeps its best
+ * proposals up to its free capacity, rejecting the rest. The result is stable: no mentee and
+ * mentor would both rather be matched with each other than keep their current assignment.
+ * Ties are broken by mentor order for mentees and by mentee order for mentors.
+ *
+ * Preference lists only contain the candidates found by the {@link SkillIndex}, packed into
+ * one {@code long} per entry, so memory grows with the number of related pairs rather than
+ * with mentors x mentees.
+ */
+public class StableMatcher implements CohortAssigner {
+    // Scores are packed into the upper half of a long, scaled to integers
+    private static final long SCORE_SCALE = 1_000_000L;
+
+    private final SkillIndex skillIndex;
+    private final ScoringEngine scoringEngine;
+
+    public StableMatcher(SkillIndex skillIndex, ScoringEngine scoringEngine) {
+        this.skillIndex = skillIndex;
+        this.scoringEngine = scoringEngine;
+    }
+
+    /**
+     * Finds the mentee-optimal stable matching.
+     */
+    @Override
+    public List<ScoredPair> assign(List<String> menteeIds, List<SkillProfile> menteeProfiles,
+                                   Map<String, Integer> mentorCapacities, ForkJoinPool pool) {
+        List<String> mentorIds = new ArrayList<>();
+        Map<String, Integer> mentorIndexes = new HashMap<>();
+        for (Map.Entry<String, Integer> entry : mentorCapacities.entrySet()) {
+            if (entry.getValue() > 0) {
+                mentorIndexes.put(entry.getKey(), mentorIds.size());
+                mentorIds.add(entry.getKey());
+            }
+        }
+        if (menteeIds.isEmpty() || mentorIds.isEmpty()) {
+            return List.of();
+        }
+
+        long[][] preferences = pool.submit(() -> IntStream.range(0, menteeIds.size()).parallel()
+                .mapToObj(i -> preferenceList(menteeProfiles.get(i), mentorIndexes))
+                .toArray(long[][]::new)).join();
+
+        int[] capacities = new int[mentorIds.size()];
+        for (int j = 0; j < capacities.length; j++) {
+            capacities[j] = mentorCapacities.get(mentorIds.get(j));
+        }
+        long[][] held = propose(preferences, capacities);
+
+        List<ScoredPair> matched = new ArrayList<>();
+        for (int j = 0; j < held.length; j++) {
+            if (held[j] == null) {
+                continue;
+            }
+            String mentorId = mentorIds.get(j);
+            SkillProfile mentorProfile = skillIndex.getMentorProfile(mentorId);
+            for (long proposal : held[j]) {
+                int mentee = proposer(proposal);
+                double score = scoringEngine.score(mentorProfile, menteeProfiles.get(mentee));
+                matched.add(new ScoredPair(mentorId, menteeIds.get(mentee), score, mentee));
+            }
+        }
+        matched.sort(Comparator.comparingDouble(ScoredPair::getScore).reversed()
+                .thenComparingLong(ScoredPair::getSequence));
+        return matched;
+    }
+
+    /**
+     * Builds the mentee's candidate list, best first. Each entry packs the inverted score in the
+     * upper half and the mentor index in the lower half, so sorting ascending yields the order.
+     */
+    private long[] preferenceList(SkillProfile menteeProfile, Map<String, Integer> mentorIndexes) {
+        Set<String> mentorIds = skillIndex.findCandidateMentorIds(menteeProfile);
+        long[] entries = new long[mentorIds.size()];
+        int count = 0;
+        for (String mentorId : mentorIds) {
+            Integer mentorIndex = mentorIndexes.get(mentorId);
+            SkillProfile mentorProfile = skillIndex.getMentorProfile(mentorId);
+            if (mentorIndex == null || mentorProfile == null) {
+                continue;
+            }
+
+            long score = Math.round(scoringEngine.score(mentorProfile, menteeProfile) * SCORE_SCALE);
+            if (score > 0) {
+                entries[count++] = ((SCORE_SCALE - score) << 32) | mentorIndex;
+            }
+        }
+        long[] preferences = Arrays.copyOf(entries, count);
+        Arrays.sort(preferences);
+        return preferences;
+    }
+
+    /**
+     * Runs deferred acceptance. Each mentor holds a min-heap of proposals keyed so that larger
+     * means better (higher score, then lower mentee index); the root is the proposal to reject first.
+     *
+     * @return the proposals held by each mentor, or null for mentors nobody proposed to
+     */
+    private static long[][] propose(long[][] preferences, int[] capacities) {
+        long[][] held = new long[capacities.length][];
+        int[] heldCount = new int[capacities.length];
+        int[] nextChoice = new int[preferences.length];
+
+        int[] free = new int[preferences.length];
+        int freeCount = 0;
+        for (int mentee = preferences.length - 1; mentee >= 0; mentee--) {
+            free[freeCount++] = mentee;
+        }
+
+        while (freeCount > 0) {
+            int mentee = free[--freeCount];
+            long[] choices = preferences[mentee];
+            if (nextChoice[mentee] == choices.length) {
+                continue; // every candidate has rejected this mentee
+            }
+
+            long choice = choices[nextChoice[mentee]++];
+            int mentor = (int) choice;
+            long proposal = proposal(SCORE_SCALE - (choice >>> 32), mentee);
+
+            if (held[mentor] == null) {
+                held[mentor] = new long[capacities[mentor]];
+            }
+            long[] heap = held[mentor];
+            if (heldCount[mentor] < heap.length) {
+                siftUp(heap, heldCount[mentor]++, proposal);
+            } else if (proposal > heap[0]) {
+                free[freeCount++] = proposer(heap[0]);
+                siftDown(heap, heap.length, proposal);
+            } else {
+                free[freeCount++] = mentee;
+            }
+        }
+
+        for (int mentor = 0; mentor < held.length; mentor++) {
+            if (held[mentor] != null) {
+                held[mentor] = Arrays.copyOf(held[mentor], heldCount[mentor]);
+            }
+        }
+        return held;
+    }
+
+    private static long proposal(long score, int mentee) {
+        return (score << 32) | (Integer.MAX_VALUE - mentee);
+    }
+
+    private static int proposer(long proposal) {
+        return Integer.MAX_VALUE - (int) proposal;
+    }
+
+    private static void siftUp(long[] heap, int index, long value) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent] <= value) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = value;
+    }
+
+    /**
+     * Replaces the root with the given value and restores the heap.
+     */
+    private static void siftDown(long[] heap, int size, long value) {
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (heap[child] >= value) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = value;
+    }
+}
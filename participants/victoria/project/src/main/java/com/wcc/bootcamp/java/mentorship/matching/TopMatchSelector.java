@@ -0,0 +1,69 @@
+package com.wcc.bootcamp.java.mentorship.matching;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps the K best-scoring pairs offered to it using a bounded min-heap.
+ *
+ * Memory stays O(K) and each offer costs O(log K), so ranking M candidates is
+ * O(M log K) instead of sorting all of them. Pairs with equal scores keep the order
+ * in which they were offered, like a stable sort would.
+ */
+public class TopMatchSelector {
+    /** Best first: higher score, then earlier offer. */
+    static final Comparator<ScoredPair> RANKING = Comparator
+            .comparingDouble(ScoredPair::getScore).reversed()
+            .thenComparingLong(ScoredPair::getSequence);
+
+    private final int limit;
+    private final PriorityQueue<ScoredPair> heap;
+    private long sequence;
+
+    public TopMatchSelector(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1");
+        }
+        this.limit = limit;
+        // Worst pair on top so it can be evicted
+        this.heap = new PriorityQueue<>(Math.min(limit, 1024), RANKING.reversed());
+    }
+
+    /**
+     * Offers a pair. Pairs that cannot make the top K are rejected without allocating.
+     */
+    public void offer(String mentorId, String menteeId, double score) {
+        long seq = sequence++;
+        if (heap.size() == limit) {
+            if (score <= heap.peek().getScore()) {
+                return;
+            }
+            heap.poll();
+        }
+        heap.add(new ScoredPair(mentorId, menteeId, score, seq));
+    }
+
+    /**
+     * Offers every pair selected by another selector, after the pairs already offered here.
+     */
+    public void merge(TopMatchSelector other) {
+        for (ScoredPair pair : other.results()) {
+            offer(pair.getMentorId(), pair.getMenteeId(), pair.getScore());
+        }
+    }
+
+    public int size() {
+        return heap.size();
+    }
+
+    /**
+     * Returns the selected pairs, best first.
+     */
+    public List<ScoredPair> results() {
+        List<ScoredPair> results = new ArrayList<>(heap);
+        results.sort(RANKING);
+        return results;
+    }
+}
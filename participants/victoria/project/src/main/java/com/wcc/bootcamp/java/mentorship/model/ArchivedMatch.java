@@ -0,0 +1,104 @@
+package com.wcc.bootcamp.java.mentorship.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * A completed or cancelled match moved out of the matches table by the archival job.
+ * Read-only; the mentor and mentee are kept as IDs since they may have been deleted since.
+ */
+@Entity
+@Immutable
+@Table(name = "matches_archive")
+public class ArchivedMatch {
+    @Id
+    private UUID id;
+
+    @Column(name = "mentor_id")
+    private UUID mentorId;
+
+    @Column(name = "mentee_id")
+    private UUID menteeId;
+
+    // Skill IDs copied from the match row, named when first read
+    @Column(name = "matched_skill_ids")
+    @Convert(converter = SkillIdArrayConverter.class)
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    private List<String> matchedSkills = new ArrayList<>();
+
+    private double matchScore;
+    private LocalDateTime matchDate;
+
+    @Enumerated(EnumType.STRING)
+    private Match.MatchStatus status;
+
+    private LocalDateTime endedAt;
+
+    private LocalDateTime archivedAt;
+
+    // Default constructor required by JPA
+    protected ArchivedMatch() {
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getMentorId() {
+        return mentorId;
+    }
+
+    public UUID getMenteeId() {
+        return menteeId;
+    }
+
+    public List<String> getMatchedSkills() {
+        return new ArrayList<>(matchedSkills);
+    }
+
+    public double getMatchScore() {
+        return matchScore;
+    }
+
+    public LocalDateTime getMatchDate() {
+        return matchDate;
+    }
+
+    public Match.MatchStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getEndedAt() {
+        return endedAt;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ArchivedMatch that = (ArchivedMatch) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ArchivedMatch{mentorId=%s, menteeId=%s, skills=%s, score=%.2f%%, status=%s}",
+                mentorId, menteeId, matchedSkills, matchScore * 100, status);
+    }
+}
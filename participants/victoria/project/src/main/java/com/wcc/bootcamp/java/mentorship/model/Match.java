@@ -1,6 +1,9 @@
 package com.wcc.bootcamp.java.mentorship.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -15,24 +18,31 @@ import java.util.UUID;
 @Table(name = "matches")
 public class Match {
     @Id
-    private String id;
+    private UUID id;
     
-    @ManyToOne(fetch = FetchType.EAGER)
+    // Mentor and mentee are fetched by the MatchRepository queries that need them
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "mentor_id")
     private Mentor mentor;
     
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "mentee_id")
     private Mentee mentee;
     
-    @ElementCollection(fetch = FetchType.EAGER)
-    @CollectionTable(name = "match_skills", joinColumns = @JoinColumn(name = "match_id"))
-    @Column(name = "skill")
+    // Packed into one array of skill IDs on the match row, named when first read
+    // Never changed after the match is created, so Hibernate skips copying it for dirty checks
+    @Column(name = "matched_skill_ids")
+    @Convert(converter = SkillIdArrayConverter.class)
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Immutable
     private List<String> matchedSkills;
     
     private double matchScore;
     private LocalDateTime matchDate;
     
+    // When the match was completed or cancelled; null while it is pending or active
+    private LocalDateTime endedAt;
+    
     @Enumerated(EnumType.STRING)
     private MatchStatus status;
 
@@ -43,9 +53,8 @@ public class Match {
         CANCELLED
     }
 
-    // Default constructor required by JPA
+    // Default constructor required by JPA, which sets the ID from the row
     public Match() {
-        this.id = UUID.randomUUID().toString();
         this.matchedSkills = new ArrayList<>();
         this.matchDate = LocalDateTime.now();
         this.status = MatchStatus.PENDING;
@@ -53,6 +62,7 @@ public class Match {
 
     public Match(Mentor mentor, Mentee mentee, List<String> matchedSkills, double matchScore) {
         this();
+        this.id = TimeOrderedIds.next();
         this.mentor = mentor;
         this.mentee = mentee;
         this.matchedSkills = new ArrayList<>(matchedSkills);
@@ -60,7 +70,7 @@ public class Match {
     }
 
     // Getters
-    public String getId() {
+    public UUID getId() {
         return id;
     }
 
@@ -84,6 +94,10 @@ public class Match {
         return matchDate;
     }
 
+    public LocalDateTime getEndedAt() {
+        return endedAt;
+    }
+
     public MatchStatus getStatus() {
         return status;
     }
@@ -110,6 +124,7 @@ public class Match {
             mentee.setMatched(false);
         }
         this.status = MatchStatus.CANCELLED;
+        this.endedAt = LocalDateTime.now();
     }
 
     /**
@@ -121,6 +136,7 @@ public class Match {
             mentee.setMatched(false);
         }
         this.status = MatchStatus.COMPLETED;
+        this.endedAt = LocalDateTime.now();
     }
 
     /**
@@ -1,6 +1,10 @@
 package com.wcc.bootcamp.java.mentorship.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -12,24 +16,32 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "mentees")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "mentees")
 public class Mentee {
     @Id
-    private String id;
+    private UUID id;
     
     private String name;
     private String email;
     
-    @ElementCollection(fetch = FetchType.EAGER)
-    @CollectionTable(name = "mentee_goals", joinColumns = @JoinColumn(name = "mentee_id"))
-    @Column(name = "goal")
+    // Loaded on access; for a list of mentees, one query loads the goals of all of them
+    // Indexed by skill (migration V4) so candidate queries can find the owners of related skills
+    // Kept in the second-level cache with the mentee, see application.conf
+    // Stored as skill IDs, see SkillIdConverter
+    @ElementCollection(fetch = FetchType.LAZY)
+    @Fetch(FetchMode.SUBSELECT)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "mentee_skills")
+    @CollectionTable(name = "mentee_skills", joinColumns = @JoinColumn(name = "mentee_id"))
+    @Column(name = "skill_id")
+    @Convert(converter = SkillIdConverter.class)
     private List<String> learningGoals;
     
     private String experienceLevel;
     private boolean isMatched;
 
-    // Default constructor required by JPA
+    // Default constructor required by JPA, which sets the ID from the row
     public Mentee() {
-        this.id = UUID.randomUUID().toString();
         this.learningGoals = new ArrayList<>();
         this.experienceLevel = "beginner";
         this.isMatched = false;
@@ -37,6 +49,7 @@ public class Mentee {
 
     public Mentee(String name, String email, List<String> learningGoals) {
         this();
+        this.id = TimeOrderedIds.next();
         this.name = name;
         this.email = email;
         this.learningGoals = new ArrayList<>(learningGoals);
@@ -48,7 +61,7 @@ public class Mentee {
     }
 
     // Getters and Setters
-    public String getId() {
+    public UUID getId() {
         return id;
     }
 
@@ -1,6 +1,10 @@
 package com.wcc.bootcamp.java.mentorship.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -12,24 +16,32 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "mentors")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "mentors")
 public class Mentor {
     @Id
-    private String id;
+    private UUID id;
     
     private String name;
     private String email;
     
-    @ElementCollection(fetch = FetchType.EAGER)
-    @CollectionTable(name = "mentor_expertise", joinColumns = @JoinColumn(name = "mentor_id"))
-    @Column(name = "expertise")
+    // Loaded on access; for a list of mentors, one query loads the expertise of all of them
+    // Indexed by skill (migration V4) so candidate queries can find the owners of related skills
+    // Kept in the second-level cache with the mentor, see application.conf
+    // Stored as skill IDs, see SkillIdConverter
+    @ElementCollection(fetch = FetchType.LAZY)
+    @Fetch(FetchMode.SUBSELECT)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "mentor_skills")
+    @CollectionTable(name = "mentor_skills", joinColumns = @JoinColumn(name = "mentor_id"))
+    @Column(name = "skill_id")
+    @Convert(converter = SkillIdConverter.class)
     private List<String> expertiseAreas;
     
     private int maxMentees;
     private int currentMenteeCount;
 
-    // Default constructor required by JPA
+    // Default constructor required by JPA, which sets the ID from the row
     public Mentor() {
-        this.id = UUID.randomUUID().toString();
         this.expertiseAreas = new ArrayList<>();
         this.maxMentees = 3;
         this.currentMenteeCount = 0;
@@ -37,6 +49,7 @@ public class Mentor {
 
     public Mentor(String name, String email, List<String> expertiseAreas) {
         this();
+        this.id = TimeOrderedIds.next();
         this.name = name;
         this.email = email;
         this.expertiseAreas = new ArrayList<>(expertiseAreas);
@@ -48,7 +61,7 @@ public class Mentor {
     }
 
     // Getters and Setters
-    public String getId() {
+    public UUID getId() {
         return id;
     }
 
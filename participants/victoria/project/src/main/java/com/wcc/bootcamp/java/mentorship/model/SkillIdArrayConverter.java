@@ -0,0 +1,40 @@
+package com.wcc.bootcamp.java.mentorship.model;
+
+import com.wcc.bootcamp.java.mentorship.repository.SkillCatalog;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.List;
+
+/**
+ * Stores a list of skill names as one array of skill IDs on the owning row, instead of one
+ * row per skill in a join table. Read lists resolve their names on first access.
+ *
+ * Created by Hibernate through the Spring bean container, which injects the catalog.
+ */
+@Converter
+public class SkillIdArrayConverter implements AttributeConverter<List<String>, int[]> {
+    private static final int[] NO_SKILLS = new int[0];
+
+    private final SkillCatalog skillCatalog;
+
+    public SkillIdArrayConverter(SkillCatalog skillCatalog) {
+        this.skillCatalog = skillCatalog;
+    }
+
+    @Override
+    public int[] convertToDatabaseColumn(List<String> skills) {
+        if (skills == null || skills.isEmpty()) {
+            return NO_SKILLS;
+        }
+        if (skills instanceof SkillIdList stored) {
+            return stored.ids();
+        }
+        return skills.stream().mapToInt(skillCatalog::idOf).toArray();
+    }
+
+    @Override
+    public List<String> convertToEntityAttribute(int[] ids) {
+        return ids == null || ids.length == 0 ? List.of() : new SkillIdList(ids, skillCatalog);
+    }
+}
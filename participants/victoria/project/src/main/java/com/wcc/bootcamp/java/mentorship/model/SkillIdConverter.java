@@ -0,0 +1,32 @@
+package com.wcc.bootcamp.java.mentorship.model;
+
+import com.wcc.bootcamp.java.mentorship.repository.SkillCatalog;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores skill names as skill IDs. Entities and queries keep working with names; the join tables
+ * and the SQL they run compare integers. Query parameters compared with a converted skill are
+ * converted too. Only looks skills up: they must have been registered with the catalog in the
+ * same transaction or before, see {@link SkillCatalog#register(java.util.Collection)}.
+ *
+ * Created by Hibernate through the Spring bean container, which injects the catalog.
+ */
+@Converter
+public class SkillIdConverter implements AttributeConverter<String, Integer> {
+    private final SkillCatalog skillCatalog;
+
+    public SkillIdConverter(SkillCatalog skillCatalog) {
+        this.skillCatalog = skillCatalog;
+    }
+
+    @Override
+    public Integer convertToDatabaseColumn(String skill) {
+        return skill == null ? null : skillCatalog.idOf(skill);
+    }
+
+    @Override
+    public String convertToEntityAttribute(Integer id) {
+        return id == null ? null : skillCatalog.nameOf(id);
+    }
+}
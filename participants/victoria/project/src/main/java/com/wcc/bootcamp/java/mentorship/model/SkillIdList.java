@@ -0,0 +1,48 @@
+package com.wcc.bootcamp.java.mentorship.model;
+
+import com.wcc.bootcamp.java.mentorship.repository.SkillCatalog;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * Read-only list of skill names backed by their skill IDs, as read from a packed skill ID
+ * column. The names are looked up in the catalog the first time the list is read.
+ */
+final class SkillIdList extends AbstractList<String> implements RandomAccess {
+    private final int[] ids;
+    private final SkillCatalog skillCatalog;
+    private String[] names;
+
+    SkillIdList(int[] ids, SkillCatalog skillCatalog) {
+        this.ids = ids;
+        this.skillCatalog = skillCatalog;
+    }
+
+    /**
+     * Returns the skill IDs, without looking up the names.
+     */
+    int[] ids() {
+        return ids.clone();
+    }
+
+    @Override
+    public String get(int index) {
+        return names()[index];
+    }
+
+    @Override
+    public int size() {
+        return ids.length;
+    }
+
+    private String[] names() {
+        String[] decoded = names;
+        if (decoded == null) {
+            decoded = Arrays.stream(ids).mapToObj(skillCatalog::nameOf).toArray(String[]::new);
+            names = decoded;
+        }
+        return decoded;
+    }
+}
@@ -0,0 +1,31 @@
+package com.wcc.bootcamp.java.mentorship.model;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates the primary keys of mentors, mentees and matches as version 7 UUIDs (RFC 9562).
+ *
+ * The first 48 bits are the Unix time in milliseconds, so new keys sort after older ones and
+ * inserts go to the right-hand edge of the primary key index instead of random pages. The other
+ * 74 bits come from {@link ThreadLocalRandom}, which keeps its state in the calling thread, so
+ * generating a key takes no lock and shares no entropy source with other threads. They keep
+ * keys from the same millisecond apart but are not unpredictable: a key identifies a profile
+ * or match, it does not authorize access to it. Keys are stored as 16-byte binary UUIDs.
+ */
+public final class TimeOrderedIds {
+
+    private TimeOrderedIds() {
+    }
+
+    public static UUID next() {
+        return next(System.currentTimeMillis());
+    }
+
+    static UUID next(long epochMillis) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long mostSigBits = (epochMillis << 16) | 0x7000L | (random.nextInt() & 0x0FFFL);
+        long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
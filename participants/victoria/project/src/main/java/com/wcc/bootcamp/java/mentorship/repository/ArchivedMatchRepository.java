@@ -0,0 +1,22 @@
+package com.wcc.bootcamp.java.mentorship.repository;
+
+import com.wcc.bootcamp.java.mentorship.model.ArchivedMatch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JPA Repository for reading archived matches.
+ *
+ * Rows are only written by the archival job. History lookups run on the mentor and mentee
+ * indexes of the archive table; matched skills are read with each row.
+ */
+@Repository
+public interface ArchivedMatchRepository extends JpaRepository<ArchivedMatch, UUID> {
+
+    List<ArchivedMatch> findByMentorIdOrderByMatchDateDesc(UUID mentorId);
+
+    List<ArchivedMatch> findByMenteeIdOrderByMatchDateDesc(UUID menteeId);
+}
@@ -0,0 +1,119 @@
+package com.wcc.bootcamp.java.mentorship.repository;
+
+import com.wcc.bootcamp.java.mentorship.ledger.LedgerEvent;
+import com.wcc.bootcamp.java.mentorship.ledger.LedgerState;
+import com.wcc.bootcamp.java.mentorship.ledger.MatchLedger;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Match ledger kept in the ledger_events and ledger_snapshots tables.
+ *
+ * Events are appended with one JDBC batch in the caller's transaction, so they commit or roll
+ * back with the change they record. Their sequence numbers are taken from the single row of
+ * ledger_head, whose lock the transaction then holds until it ends: a later append waits for
+ * it, so events become visible in sequence order and without gaps. An identity column would
+ * hand out numbers that commit in any order, and a reader or snapshot could pass over an event
+ * that commits later below a number it has already seen. Callers append after their other
+ * updates, so a transaction waiting for the head row holds no lock another one needs. Skills are stored as skill IDs, see
+ * {@link SkillCatalog}. Only the latest snapshot is kept.
+ */
+@Repository
+public class JdbcMatchLedger implements MatchLedger {
+    private static final String INSERT_EVENT =
+            "insert into ledger_events (seq, event_type, occurred_at, match_id, mentor_id, mentee_id, max_mentees, "
+                    + "skill_ids) values (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String ADVANCE_HEAD = "update ledger_head set last_seq = last_seq + ?";
+    private static final String SELECT_HEAD = "select last_seq from ledger_head";
+    private static final String SELECT_EVENTS_AFTER =
+            "select seq, event_type, occurred_at, match_id, mentor_id, mentee_id, max_mentees, skill_ids "
+                    + "from ledger_events where seq > ? order by seq";
+    private static final String SELECT_LAST_SEQUENCE = "select coalesce(max(seq), 0) from ledger_events";
+    private static final String SELECT_LATEST_SNAPSHOT =
+            "select state from ledger_snapshots order by seq desc limit 1";
+    private static final String MERGE_SNAPSHOT =
+            "merge into ledger_snapshots (seq, created_at, state) key (seq) values (?, ?, ?)";
+    private static final String DELETE_OLDER_SNAPSHOTS = "delete from ledger_snapshots where seq < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SkillCatalog skillCatalog;
+
+    public JdbcMatchLedger(JdbcTemplate jdbcTemplate, SkillCatalog skillCatalog) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.skillCatalog = skillCatalog;
+    }
+
+    @Override
+    public void append(List<LedgerEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<Integer[]> skillIds = events.stream()
+                .map(event -> event.getSkills().stream().map(skillCatalog::idOf).toArray(Integer[]::new))
+                .toList();
+        // Locks the head row until the transaction ends, see the class comment
+        jdbcTemplate.update(ADVANCE_HEAD, events.size());
+        long sequence = jdbcTemplate.queryForObject(SELECT_HEAD, Long.class) - events.size();
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            LedgerEvent event = events.get(i);
+            rows.add(new Object[] {++sequence, event.getType().name(), event.getOccurredAt(), event.getMatchId(),
+                    event.getMentorId(), event.getMenteeId(), event.getMaxMentees(), skillIds.get(i)});
+        }
+        jdbcTemplate.batchUpdate(INSERT_EVENT, rows);
+    }
+
+    @Override
+    public long lastSequence() {
+        return jdbcTemplate.queryForObject(SELECT_LAST_SEQUENCE, Long.class);
+    }
+
+    @Override
+    public void readAfter(long sequence, Consumer<LedgerEvent> consumer) {
+        jdbcTemplate.query(SELECT_EVENTS_AFTER, (RowCallbackHandler) row -> consumer.accept(toEvent(row)), sequence);
+    }
+
+    @Override
+    public Optional<LedgerState> latestSnapshot() {
+        return jdbcTemplate.queryForList(SELECT_LATEST_SNAPSHOT, byte[].class).stream()
+                .findFirst()
+                .map(LedgerState::fromBytes);
+    }
+
+    /**
+     * Saves the snapshot in a transaction of its own, so it can be taken while reading.
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void saveSnapshot(LedgerState state) {
+        jdbcTemplate.update(MERGE_SNAPSHOT, state.getSequence(), LocalDateTime.now(), state.toBytes());
+        jdbcTemplate.update(DELETE_OLDER_SNAPSHOTS, state.getSequence());
+    }
+
+    private LedgerEvent toEvent(ResultSet row) throws SQLException {
+        List<String> skills = new ArrayList<>();
+        Array skillIds = row.getArray("skill_ids");
+        if (skillIds != null) {
+            for (Object skillId : (Object[]) skillIds.getArray()) {
+                skills.add(skillCatalog.nameOf(((Number) skillId).intValue()));
+            }
+        }
+        return new LedgerEvent(row.getLong("seq"), LedgerEvent.Type.valueOf(row.getString("event_type")),
+                row.getObject("occurred_at", LocalDateTime.class), row.getObject("match_id", UUID.class),
+                row.getObject("mentor_id", UUID.class), row.getObject("mentee_id", UUID.class),
+                row.getInt("max_mentees"), skills);
+    }
+}
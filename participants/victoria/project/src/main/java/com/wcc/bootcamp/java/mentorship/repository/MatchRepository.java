@@ -3,28 +3,121 @@ package com.wcc.bootcamp.java.mentorship.repository;
 import com.wcc.bootcamp.java.mentorship.model.Match;
 import com.wcc.bootcamp.java.mentorship.model.Mentee;
 import com.wcc.bootcamp.java.mentorship.model.Mentor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * JPA Repository for Match entity persistence.
+ *
+ * Finders join-fetch the mentor and mentee of each match. Matched skills are read with the match
+ * row; expertise areas and learning goals are loaded on access, each with a single query for the
+ * whole result list, so listing matches takes a constant number of statements however many there are.
  */
 @Repository
-public interface MatchRepository extends JpaRepository<Match, String> {
-    
+public interface MatchRepository extends JpaRepository<Match, UUID> {
+
+    @Override
+    @EntityGraph(attributePaths = {"mentor", "mentee"})
+    List<Match> findAll();
+
+    @Override
+    @EntityGraph(attributePaths = {"mentor", "mentee"})
+    Optional<Match> findById(UUID id);
+
+    @EntityGraph(attributePaths = {"mentor", "mentee"})
     List<Match> findByStatus(Match.MatchStatus status);
+
+    /**
+     * Returns the newest matches with the given status, read from the status index.
+     */
+    @EntityGraph(attributePaths = {"mentor", "mentee"})
+    List<Match> findByStatusOrderByMatchDateDescIdDesc(Match.MatchStatus status, Limit limit);
+
+    long countByStatus(Match.MatchStatus status);
     
+    @EntityGraph(attributePaths = {"mentor", "mentee"})
     List<Match> findByMentor(Mentor mentor);
     
+    @EntityGraph(attributePaths = {"mentor", "mentee"})
     List<Match> findByMentee(Mentee mentee);
     
+    @EntityGraph(attributePaths = {"mentor", "mentee"})
     List<Match> findByMentorAndStatus(Mentor mentor, Match.MatchStatus status);
     
+    @EntityGraph(attributePaths = {"mentor", "mentee"})
     List<Match> findByMenteeAndStatus(Mentee mentee, Match.MatchStatus status);
     
-    void deleteByMentee(Mentee mentee);
-    
-    void deleteByMentor(Mentor mentor);
+    /**
+     * Returns the IDs of the mentors that have an active match with any of the given mentees.
+     */
+    @Query("select distinct m.mentor.id from Match m where m.status = ACTIVE and m.mentee.id in :menteeIds")
+    List<UUID> findActiveMentorIds(@Param("menteeIds") Collection<UUID> menteeIds);
+
+    /**
+     * Returns the IDs of the mentees that have an active match with any of the given mentors.
+     */
+    @Query("select distinct m.mentee.id from Match m where m.status = ACTIVE and m.mentor.id in :mentorIds")
+    List<UUID> findActiveMenteeIds(@Param("mentorIds") Collection<UUID> mentorIds);
+
+    /**
+     * Deletes every match of the given mentors with one set-based statement, however many
+     * matches there are. Returns the matches deleted.
+     *
+     * Clears the persistence context: loaded matches are detached.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Match m where m.mentor.id in :mentorIds")
+    int deleteByMentorIdIn(@Param("mentorIds") Collection<UUID> mentorIds);
+
+    /**
+     * Like {@link #deleteByMentorIdIn(Collection)}, for the matches of the given mentees.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Match m where m.mentee.id in :menteeIds")
+    int deleteByMenteeIdIn(@Param("menteeIds") Collection<UUID> menteeIds);
+
+    /**
+     * Returns the IDs of the next matches before the given date and ID, newest first.
+     * The seek runs on the match date index, so a deep page costs the same as the first one.
+     */
+    @Query("select m.id from Match m "
+            + "where (m.matchDate, m.id) < (:date, :id) "
+            + "order by m.matchDate desc, m.id desc")
+    List<UUID> findIdsBefore(@Param("date") LocalDateTime date, @Param("id") UUID id, Limit limit);
+
+    /**
+     * Like {@link #findIdsBefore}, only for matches with the given status. The seek runs on
+     * the status index, which holds the match date and ID after the status.
+     */
+    @Query("select m.id from Match m "
+            + "where m.status = :status and (m.matchDate, m.id) < (:date, :id) "
+            + "order by m.matchDate desc, m.id desc")
+    List<UUID> findIdsWithStatusBefore(@Param("date") LocalDateTime date, @Param("id") UUID id,
+                                       @Param("status") Match.MatchStatus status, Limit limit);
+
+    @EntityGraph(attributePaths = {"mentor", "mentee"})
+    List<Match> findByIdIn(Collection<UUID> ids);
+
+    /**
+     * Ends the match with a final status only if it still has the expected one, so of two
+     * concurrent transitions only one takes effect, and records when it ended. Returns 1 if the
+     * status was changed.
+     *
+     * Clears the persistence context: loaded matches are detached and keep their old status.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Match m set m.status = :to, m.endedAt = :endedAt where m.id = :id and m.status = :from")
+    int updateStatus(@Param("id") UUID id, @Param("from") Match.MatchStatus from,
+                     @Param("to") Match.MatchStatus to, @Param("endedAt") LocalDateTime endedAt);
 }
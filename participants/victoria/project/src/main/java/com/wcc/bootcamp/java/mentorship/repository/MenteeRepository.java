@@ -1,20 +1,131 @@
 package com.wcc.bootcamp.java.mentorship.repository;
 
 import com.wcc.bootcamp.java.mentorship.model.Mentee;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * JPA Repository for Mentee entity persistence.
+ *
+ * Single-mentee lookups join-fetch the learning goals. List queries leave them to be loaded
+ * on access, with one query for the whole result list.
+ *
+ * Learning goals are stored as skill IDs, see {@link MentorRepository}.
+ *
+ * Mentees and their learning goals are held in the second-level cache: {@link #findById(UUID)} only
+ * reaches the database for a mentee that is not cached, and {@link #findAllById(Iterable)} is also
+ * answered from the query cache. Match changes evict only the mentees they update, see
+ * {@link MenteeUpdates}.
  */
 @Repository
-public interface MenteeRepository extends JpaRepository<Mentee, String> {
-    
+public interface MenteeRepository extends JpaRepository<Mentee, UUID>, MenteeUpdates {
+
+    @Override
+    @EntityGraph(attributePaths = "learningGoals")
+    Optional<Mentee> findById(UUID id);
+
+    /**
+     * Loads the mentees with the given IDs. The result is kept in the query cache as a list of IDs,
+     * which resolve against the entity cache, until mentees are added or deleted.
+     */
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Mentee> findAllById(Iterable<UUID> ids);
+
+    @EntityGraph(attributePaths = "learningGoals")
     Optional<Mentee> findByNameIgnoreCase(String name);
     
+    @EntityGraph(attributePaths = "learningGoals")
     Optional<Mentee> findByEmailIgnoreCase(String email);
     
-    java.util.List<Mentee> findByIsMatchedFalse();
+    List<Mentee> findByIsMatchedFalse();
+
+    long countByIsMatchedFalse();
+
+    /**
+     * Streams one row per mentee and learning goal, grouped by mentee, without loading entities.
+     * Must be called inside a transaction and closed after use.
+     */
+    @Query("select new com.wcc.bootcamp.java.mentorship.repository.MenteeSkillRow(m.id, m.isMatched, g) "
+            + "from Mentee m left join m.learningGoals g order by m.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<MenteeSkillRow> streamSkillRows();
+
+    /**
+     * Like {@link #streamSkillRows()}, restricted to mentees that are not matched yet.
+     */
+    @Query("select new com.wcc.bootcamp.java.mentorship.repository.MenteeSkillRow(m.id, m.isMatched, g) "
+            + "from Mentee m left join m.learningGoals g where m.isMatched = false order by m.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<MenteeSkillRow> streamUnmatchedSkillRows();
+
+    /**
+     * Streams the rows of unmatched mentees that have at least one of the given learning goals,
+     * including all of their other goals. The database does the pruning through the skill index,
+     * so the rows scale with the candidates found.
+     */
+    @Query("select new com.wcc.bootcamp.java.mentorship.repository.MenteeSkillRow(m.id, m.isMatched, g) "
+            + "from Mentee m join m.learningGoals g "
+            + "where m.isMatched = false and m.id in ("
+            + "select c.id from Mentee c join c.learningGoals s where s in :skills) "
+            + "order by m.id")
+    Stream<MenteeSkillRow> streamUnmatchedSkillRowsWithAny(@Param("skills") Collection<String> skills);
+
+    @Query("select distinct g from Mentee m join m.learningGoals g")
+    List<String> findDistinctLearningGoals();
+
+    /**
+     * Returns the IDs of the next mentees after the given name and ID, in (name, id) order.
+     * The seek runs on the name index, so a deep page costs the same as the first one.
+     */
+    @Query("select m.id from Mentee m "
+            + "where (m.name, m.id) > (:name, :id) "
+            + "order by m.name, m.id")
+    List<UUID> findIdsAfter(@Param("name") String name, @Param("id") UUID id, Limit limit);
+
+    /**
+     * Like {@link #findIdsAfter}, only for mentees with the given match status.
+     */
+    @Query("select m.id from Mentee m "
+            + "where m.isMatched = :matched and (m.name, m.id) > (:name, :id) "
+            + "order by m.name, m.id")
+    List<UUID> findIdsWithMatchStatusAfter(@Param("name") String name, @Param("id") UUID id,
+                                           @Param("matched") boolean matched, Limit limit);
+
+    /**
+     * Returns the IDs of the next mentees with the given learning goal after the given name
+     * and ID, in (name, id) order. The rows come from the skill index of mentee_skills, so only
+     * the mentees with that goal are read and sorted.
+     */
+    @Query("select m.id from Mentee m join m.learningGoals skill "
+            + "where skill = :skill and (m.name, m.id) > (:name, :id) "
+            + "order by m.name, m.id")
+    List<UUID> findIdsWithGoalAfter(@Param("name") String name, @Param("id") UUID id,
+                                    @Param("skill") String skill, Limit limit);
+
+    /**
+     * Like {@link #findIdsWithGoalAfter}, only for mentees with the given match status.
+     */
+    @Query("select m.id from Mentee m join m.learningGoals skill "
+            + "where skill = :skill and m.isMatched = :matched and (m.name, m.id) > (:name, :id) "
+            + "order by m.name, m.id")
+    List<UUID> findIdsWithGoalAndMatchStatusAfter(@Param("name") String name, @Param("id") UUID id,
+                                                  @Param("matched") boolean matched,
+                                                  @Param("skill") String skill, Limit limit);
+
+    @EntityGraph(attributePaths = "learningGoals")
+    List<Mentee> findByIdIn(Collection<UUID> ids);
 }
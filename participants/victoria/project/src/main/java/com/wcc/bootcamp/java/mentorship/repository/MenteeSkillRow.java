@@ -0,0 +1,23 @@
+package com.wcc.bootcamp.java.mentorship.repository;
+
+import java.util.UUID;
+
+/**
+ * Read-only projection of a mentee for matching: ID, match status and one learning goal.
+ */
+public class MenteeSkillRow extends SkillRow {
+    private final boolean matched;
+
+    public MenteeSkillRow(UUID menteeId, boolean matched, String goal) {
+        super(menteeId, goal);
+        this.matched = matched;
+    }
+
+    public UUID getMenteeId() {
+        return getOwnerId();
+    }
+
+    public boolean isMatched() {
+        return matched;
+    }
+}
@@ -0,0 +1,40 @@
+package com.wcc.bootcamp.java.mentorship.repository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Updates and deletes of mentee rows that evict only the mentees they change from the
+ * second-level cache, see {@link ProfileStatements}. Part of {@link MenteeRepository}.
+ */
+public interface MenteeUpdates {
+
+    /**
+     * Marks the mentee as matched unless it already is, in a single conditional update, so two
+     * concurrent matches cannot both take the same mentee. Returns 1 if the mentee was marked.
+     *
+     * Clears the persistence context: loaded mentees are detached and keep their old flag.
+     */
+    int markMatched(UUID id);
+
+    /**
+     * Reverts {@link #markMatched(UUID)}, see there.
+     */
+    int markUnmatched(UUID id);
+
+    /**
+     * Marks every mentee with an active match with any of the given mentors as unmatched,
+     * with one statement. Returns the number of mentees updated.
+     *
+     * Clears the persistence context, see {@link #markMatched(UUID)}.
+     */
+    int markUnmatchedByMentors(Collection<UUID> mentorIds);
+
+    /**
+     * Deletes the given mentees with one set-based statement, after one that deletes their
+     * learning goals. Their matches must be deleted first. Returns the mentees deleted.
+     *
+     * Clears the persistence context and the cached query results.
+     */
+    int deleteByIdIn(Collection<UUID> ids);
+}
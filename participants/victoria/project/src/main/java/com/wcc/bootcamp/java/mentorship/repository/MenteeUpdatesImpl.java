@@ -0,0 +1,58 @@
+package com.wcc.bootcamp.java.mentorship.repository;
+
+import com.wcc.bootcamp.java.mentorship.model.Mentee;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Plain SQL implementation of {@link MenteeUpdates}.
+ */
+@Transactional
+class MenteeUpdatesImpl implements MenteeUpdates {
+    private static final String MARK_MATCHED =
+            "update mentees set is_matched = true where id = :id and is_matched = false";
+    private static final String MARK_UNMATCHED =
+            "update mentees set is_matched = false where id = :id and is_matched = true";
+    private static final String SELECT_MATCHED_BY =
+            "select distinct mentee_id from matches where status = 'ACTIVE' and mentor_id in (:mentorIds)";
+    private static final String MARK_UNMATCHED_ALL =
+            "update mentees set is_matched = false where id in (:ids) and is_matched = true";
+    private static final String DELETE_SKILLS = "delete from mentee_skills where mentee_id in (:ids)";
+    private static final String DELETE_MENTEES = "delete from mentees where id in (:ids)";
+    // Collection role of the learning goals in the second-level cache
+    private static final String SKILLS = Mentee.class.getName() + ".learningGoals";
+
+    private final ProfileStatements statements;
+
+    MenteeUpdatesImpl(ProfileStatements statements) {
+        this.statements = statements;
+    }
+
+    @Override
+    public int markMatched(UUID id) {
+        return statements.update(Mentee.class, List.of(id), MARK_MATCHED, Map.of("id", id));
+    }
+
+    @Override
+    public int markUnmatched(UUID id) {
+        return statements.update(Mentee.class, List.of(id), MARK_UNMATCHED, Map.of("id", id));
+    }
+
+    @Override
+    public int markUnmatchedByMentors(Collection<UUID> mentorIds) {
+        List<UUID> ids = statements.queryIds(SELECT_MATCHED_BY, Map.of("mentorIds", mentorIds));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return statements.update(Mentee.class, ids, MARK_UNMATCHED_ALL, Map.of("ids", ids));
+    }
+
+    @Override
+    public int deleteByIdIn(Collection<UUID> ids) {
+        return statements.delete(Mentee.class, SKILLS, ids, DELETE_SKILLS, DELETE_MENTEES);
+    }
+}
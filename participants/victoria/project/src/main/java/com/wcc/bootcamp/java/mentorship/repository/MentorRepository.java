@@ -1,18 +1,119 @@
 package com.wcc.bootcamp.java.mentorship.repository;
 
 import com.wcc.bootcamp.java.mentorship.model.Mentor;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * JPA Repository for Mentor entity persistence.
+ *
+ * Single-mentor lookups join-fetch the expertise areas. List queries leave them to be loaded
+ * on access, with one query for the whole result list.
+ *
+ * Expertise areas are stored as skill IDs and converted to names on the way in and out, so skill
+ * names passed to these queries are compared as integers by the database.
+ *
+ * Mentors and their expertise areas are held in the second-level cache: {@link #findById(UUID)} only
+ * reaches the database for a mentor that is not cached, and {@link #findAllById(Iterable)} is also
+ * answered from the query cache. Match changes evict only the mentors they update, see
+ * {@link MentorUpdates}.
  */
 @Repository
-public interface MentorRepository extends JpaRepository<Mentor, String> {
-    
+public interface MentorRepository extends JpaRepository<Mentor, UUID>, MentorUpdates {
+
+    @Override
+    @EntityGraph(attributePaths = "expertiseAreas")
+    Optional<Mentor> findById(UUID id);
+
+    /**
+     * Loads the mentors with the given IDs. The result is kept in the query cache as a list of IDs,
+     * which resolve against the entity cache, until mentors are added or deleted.
+     */
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Mentor> findAllById(Iterable<UUID> ids);
+
+    @EntityGraph(attributePaths = "expertiseAreas")
     Optional<Mentor> findByNameIgnoreCase(String name);
     
+    @EntityGraph(attributePaths = "expertiseAreas")
     Optional<Mentor> findByEmailIgnoreCase(String email);
+
+    /**
+     * Streams one row per mentor and expertise area, grouped by mentor, without loading entities.
+     * Must be called inside a transaction and closed after use.
+     */
+    @Query("select new com.wcc.bootcamp.java.mentorship.repository.MentorSkillRow("
+            + "m.id, m.currentMenteeCount, m.maxMentees, e) "
+            + "from Mentor m left join m.expertiseAreas e order by m.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<MentorSkillRow> streamSkillRows();
+
+    /**
+     * Like {@link #streamSkillRows()}, restricted to mentors with spare capacity.
+     */
+    @Query("select new com.wcc.bootcamp.java.mentorship.repository.MentorSkillRow("
+            + "m.id, m.currentMenteeCount, m.maxMentees, e) "
+            + "from Mentor m left join m.expertiseAreas e "
+            + "where m.currentMenteeCount < m.maxMentees order by m.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<MentorSkillRow> streamAvailableSkillRows();
+
+    /**
+     * Streams the rows of mentors with spare capacity that have at least one of the given
+     * expertise areas, including all of their other expertise areas. The database does the
+     * pruning through the skill index, so the rows scale with the candidates found.
+     */
+    @Query("select new com.wcc.bootcamp.java.mentorship.repository.MentorSkillRow("
+            + "m.id, m.currentMenteeCount, m.maxMentees, e) "
+            + "from Mentor m join m.expertiseAreas e "
+            + "where m.currentMenteeCount < m.maxMentees and m.id in ("
+            + "select c.id from Mentor c join c.expertiseAreas s where s in :skills) "
+            + "order by m.id")
+    Stream<MentorSkillRow> streamAvailableSkillRowsWithAny(@Param("skills") Collection<String> skills);
+
+    @Query("select distinct e from Mentor m join m.expertiseAreas e")
+    List<String> findDistinctExpertiseAreas();
+
+    @Query("select count(m) from Mentor m where m.currentMenteeCount < m.maxMentees")
+    long countAvailable();
+
+    @Query("select coalesce(sum(m.currentMenteeCount), 0) from Mentor m")
+    long sumCurrentMenteeCounts();
+
+    /**
+     * Returns the IDs of the next mentors after the given name and ID, in (name, id) order.
+     * The seek runs on the name index, so a deep page costs the same as the first one.
+     */
+    @Query("select m.id from Mentor m "
+            + "where (m.name, m.id) > (:name, :id) "
+            + "order by m.name, m.id")
+    List<UUID> findIdsAfter(@Param("name") String name, @Param("id") UUID id, Limit limit);
+
+    /**
+     * Returns the IDs of the next mentors with the given expertise area after the given name
+     * and ID, in (name, id) order. The rows come from the skill index of mentor_skills, so
+     * only the mentors with that skill are read and sorted.
+     */
+    @Query("select m.id from Mentor m join m.expertiseAreas skill "
+            + "where skill = :skill and (m.name, m.id) > (:name, :id) "
+            + "order by m.name, m.id")
+    List<UUID> findIdsWithExpertiseAfter(@Param("name") String name, @Param("id") UUID id,
+                                         @Param("skill") String skill, Limit limit);
+
+    @EntityGraph(attributePaths = "expertiseAreas")
+    List<Mentor> findByIdIn(Collection<UUID> ids);
 }
@@ -0,0 +1,33 @@
+package com.wcc.bootcamp.java.mentorship.repository;
+
+import java.util.UUID;
+
+/**
+ * Read-only projection of a mentor for matching: ID, capacity and one expertise area.
+ */
+public class MentorSkillRow extends SkillRow {
+    private final int currentMenteeCount;
+    private final int maxMentees;
+
+    public MentorSkillRow(UUID mentorId, int currentMenteeCount, int maxMentees, String expertise) {
+        super(mentorId, expertise);
+        this.currentMenteeCount = currentMenteeCount;
+        this.maxMentees = maxMentees;
+    }
+
+    public UUID getMentorId() {
+        return getOwnerId();
+    }
+
+    public int getMaxMentees() {
+        return maxMentees;
+    }
+
+    public int getRemainingCapacity() {
+        return maxMentees - currentMenteeCount;
+    }
+
+    public boolean canAcceptMoreMentees() {
+        return currentMenteeCount < maxMentees;
+    }
+}
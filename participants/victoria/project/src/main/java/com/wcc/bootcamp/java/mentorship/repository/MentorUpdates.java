@@ -0,0 +1,41 @@
+package com.wcc.bootcamp.java.mentorship.repository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Updates and deletes of mentor rows that evict only the mentors they change from the
+ * second-level cache, see {@link ProfileStatements}. Part of {@link MentorRepository}.
+ */
+public interface MentorUpdates {
+
+    /**
+     * Takes one of the mentor's free slots in a single conditional update, so concurrent matches
+     * cannot overbook the mentor and only the mentor's row is locked, until the transaction ends.
+     * Returns 1 if a slot was taken and 0 if the mentor is full or does not exist.
+     *
+     * Clears the persistence context: loaded mentors are detached and keep their old count.
+     */
+    int reserveSlot(UUID id);
+
+    /**
+     * Gives back a slot taken by {@link #reserveSlot(UUID)}, see there.
+     */
+    int releaseSlot(UUID id);
+
+    /**
+     * Gives back the slots held by active matches with any of the given mentees, with one
+     * statement for all their mentors. Returns the number of mentors updated.
+     *
+     * Clears the persistence context, see {@link #reserveSlot(UUID)}.
+     */
+    int releaseSlotsHeldBy(Collection<UUID> menteeIds);
+
+    /**
+     * Deletes the given mentors with one set-based statement, after one that deletes their
+     * expertise areas. Their matches must be deleted first. Returns the mentors deleted.
+     *
+     * Clears the persistence context and the cached query results.
+     */
+    int deleteByIdIn(Collection<UUID> ids);
+}
@@ -0,0 +1,64 @@
+package com.wcc.bootcamp.java.mentorship.repository;
+
+import com.wcc.bootcamp.java.mentorship.model.Mentor;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Plain SQL implementation of {@link MentorUpdates}.
+ */
+@Transactional
+class MentorUpdatesImpl implements MentorUpdates {
+    private static final String RESERVE_SLOT =
+            "update mentors set current_mentee_count = current_mentee_count + 1 "
+                    + "where id = :id and current_mentee_count < max_mentees";
+    private static final String RELEASE_SLOT =
+            "update mentors set current_mentee_count = current_mentee_count - 1 "
+                    + "where id = :id and current_mentee_count > 0";
+    private static final String SELECT_HELD_BY =
+            "select distinct mentor_id from matches where status = 'ACTIVE' and mentee_id in (:menteeIds)";
+    private static final String RELEASE_SLOTS_HELD_BY =
+            "update mentors m set current_mentee_count = current_mentee_count - ("
+                    + "select count(*) from matches x where x.mentor_id = m.id and x.status = 'ACTIVE' "
+                    + "and x.mentee_id in (:menteeIds)) "
+                    + "where m.id in (:ids)";
+    private static final String DELETE_SKILLS = "delete from mentor_skills where mentor_id in (:ids)";
+    private static final String DELETE_MENTORS = "delete from mentors where id in (:ids)";
+    // Collection role of the expertise areas in the second-level cache
+    private static final String SKILLS = Mentor.class.getName() + ".expertiseAreas";
+
+    private final ProfileStatements statements;
+
+    MentorUpdatesImpl(ProfileStatements statements) {
+        this.statements = statements;
+    }
+
+    @Override
+    public int reserveSlot(UUID id) {
+        return statements.update(Mentor.class, List.of(id), RESERVE_SLOT, Map.of("id", id));
+    }
+
+    @Override
+    public int releaseSlot(UUID id) {
+        return statements.update(Mentor.class, List.of(id), RELEASE_SLOT, Map.of("id", id));
+    }
+
+    @Override
+    public int releaseSlotsHeldBy(Collection<UUID> menteeIds) {
+        List<UUID> ids = statements.queryIds(SELECT_HELD_BY, Map.of("menteeIds", menteeIds));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return statements.update(Mentor.class, ids, RELEASE_SLOTS_HELD_BY,
+                Map.of("menteeIds", menteeIds, "ids", ids));
+    }
+
+    @Override
+    public int deleteByIdIn(Collection<UUID> ids) {
+        return statements.delete(Mentor.class, SKILLS, ids, DELETE_SKILLS, DELETE_MENTORS);
+    }
+}
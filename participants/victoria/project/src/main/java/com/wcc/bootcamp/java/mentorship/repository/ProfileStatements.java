@@ -0,0 +1,90 @@
+package com.wcc.bootcamp.java.mentorship.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Runs the statements that change mentor and mentee rows in place as plain SQL, in the caller's
+ * transaction, and evicts only the changed profiles from the second-level cache.
+ *
+ * A JPQL bulk statement makes Hibernate drop the whole entity region and every cached query on
+ * the table when the transaction ends, so with one per match the profile cache would hardly
+ * ever be warm. As with those statements, the persistence context is flushed before and
+ * cleared after each one. The changed profiles are evicted at once, so the transaction reads
+ * its own changes, and again when it ends, dropping whatever was cached from the rows while
+ * they were being changed. Cached query results, which are lists of IDs, only need to go when
+ * profiles are deleted.
+ */
+@Component
+class ProfileStatements {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final Cache cache;
+
+    ProfileStatements(NamedParameterJdbcTemplate jdbcTemplate, EntityManager entityManager,
+                      EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    List<UUID> queryIds(String sql, Map<String, ?> params) {
+        return jdbcTemplate.queryForList(sql, params, UUID.class);
+    }
+
+    /**
+     * Runs an update of the given profiles and returns the number of rows it changed.
+     */
+    int update(Class<?> entity, Collection<UUID> ids, String sql, Map<String, ?> params) {
+        entityManager.flush();
+        int updated = jdbcTemplate.update(sql, params);
+        entityManager.clear();
+        evict(() -> ids.forEach(id -> cache.evictEntityData(entity, id)));
+        return updated;
+    }
+
+    /**
+     * Deletes the given profiles and their skill rows and returns the number of profiles deleted.
+     *
+     * @param skills the role of the skill collection, see {@link Cache#evictCollectionData}
+     */
+    int delete(Class<?> entity, String skills, Collection<UUID> ids, String deleteSkills, String deleteProfiles) {
+        Map<String, Object> params = Map.of("ids", ids);
+        entityManager.flush();
+        jdbcTemplate.update(deleteSkills, params);
+        int deleted = jdbcTemplate.update(deleteProfiles, params);
+        entityManager.clear();
+        evict(() -> {
+            ids.forEach(id -> {
+                cache.evictEntityData(entity, id);
+                cache.evictCollectionData(skills, id);
+            });
+            cache.evictDefaultQueryRegion();
+        });
+        return deleted;
+    }
+
+    private void evict(Runnable eviction) {
+        eviction.run();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                eviction.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,163 @@
+package com.wcc.bootcamp.java.mentorship.repository;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory dictionary of the skills table, mapping skill names to their integer IDs and back.
+ *
+ * The whole table is read once when the application starts. New names are stored with
+ * {@link #register(Collection)} in the caller's transaction, before the profile using them is
+ * saved, so they commit or roll back with it. Looking up a name or ID never stores anything;
+ * one missing from memory is read in the caller's transaction and only kept once that
+ * transaction has committed, so the dictionary cannot point at a rolled-back row. Skills are
+ * never deleted.
+ *
+ * These IDs are database keys, shared by every instance and with gaps where an insert rolled
+ * back. Matching numbers skills on its own in its {@code SkillDictionary}, densely and by
+ * normalized name, since those IDs index bitsets and the console matches without a database.
+ */
+@Repository
+public class SkillCatalog {
+    private static final String SELECT_ALL = "select id, name from skills";
+    private static final String SELECT_ID = "select id from skills where name = ?";
+    private static final String SELECT_NAME = "select name from skills where id = ?";
+    private static final String INSERT_IF_ABSENT =
+            "insert into skills (name) select cast(? as varchar(255)) "
+                    + "where not exists (select 1 from skills where name = ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, Integer> idsByName = new ConcurrentHashMap<>();
+    private final Map<Integer, String> namesById = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    public SkillCatalog(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Reads the skills table at startup. Also done on first use, as entities can be read
+     * before the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!loaded) {
+            reload();
+        }
+    }
+
+    /**
+     * Returns whether a skill with this name has been stored.
+     */
+    public boolean contains(String name) {
+        load();
+        return idsByName.containsKey(name) || find(name) != null;
+    }
+
+    /**
+     * Stores the skills that are not stored yet, in the caller's transaction.
+     *
+     * Two transactions storing the same new skill can both find it missing; the one committing
+     * second then fails on the unique name, and reads the row the other one stored instead.
+     */
+    public void register(Collection<String> names) {
+        load();
+        for (String name : names) {
+            if (name != null && !idsByName.containsKey(name)) {
+                remember(insert(name), name);
+            }
+        }
+    }
+
+    /**
+     * Returns the ID of the skill with this name.
+     *
+     * @throws DataRetrievalFailureException if the skill has not been registered
+     */
+    public int idOf(String name) {
+        load();
+        Integer id = idsByName.get(name);
+        if (id == null) {
+            id = find(name);
+            if (id == null) {
+                throw new DataRetrievalFailureException("Unknown skill: " + name);
+            }
+            remember(id, name);
+        }
+        return id;
+    }
+
+    /**
+     * Returns the name of the skill with this ID.
+     *
+     * @throws DataRetrievalFailureException if there is no such skill
+     */
+    public String nameOf(int id) {
+        load();
+        String name = namesById.get(id);
+        if (name == null) {
+            // Stored by another instance or by the current transaction
+            List<String> names = jdbcTemplate.queryForList(SELECT_NAME, String.class, id);
+            if (names.isEmpty()) {
+                throw new DataRetrievalFailureException("Unknown skill ID: " + id);
+            }
+            name = names.get(0);
+            remember(id, name);
+        }
+        return name;
+    }
+
+    private int insert(String name) {
+        try {
+            jdbcTemplate.update(INSERT_IF_ABSENT, name, name);
+        } catch (DuplicateKeyException e) {
+            Integer id = find(name);
+            if (id == null) {
+                throw e;
+            }
+            return id;
+        }
+        return find(name);
+    }
+
+    private Integer find(String name) {
+        List<Integer> ids = jdbcTemplate.queryForList(SELECT_ID, Integer.class, name);
+        return ids.isEmpty() ? null : ids.get(0);
+    }
+
+    private synchronized void reload() {
+        jdbcTemplate.query(SELECT_ALL, (RowCallbackHandler) row -> put(row.getInt(1), row.getString(2)));
+        loaded = true;
+    }
+
+    private void remember(int id, String name) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(id, name);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(id, name);
+            }
+        });
+    }
+
+    private void put(int id, String name) {
+        // Name first: a reader that finds the ID can always resolve it
+        namesById.put(id, name);
+        idsByName.put(name, id);
+    }
+}
@@ -0,0 +1,59 @@
+package com.wcc.bootcamp.java.mentorship.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+/**
+ * One row of a skill projection query: a mentor or mentee together with one of its skills.
+ *
+ * Projection rows are plain objects, not managed entities, so reading them costs no
+ * persistence-context entries or dirty-checking snapshots. Queries return one row per skill
+ * ordered by owner, and {@link #group} folds consecutive rows back into one skill list per owner.
+ */
+public abstract class SkillRow {
+    private final UUID ownerId;
+    private final String skill;
+
+    protected SkillRow(UUID ownerId, String skill) {
+        this.ownerId = ownerId;
+        this.skill = skill;
+    }
+
+    UUID getOwnerId() {
+        return ownerId;
+    }
+
+    /**
+     * Returns the skill of this row, or null for an owner without skills.
+     */
+    public String getSkill() {
+        return skill;
+    }
+
+    /**
+     * Calls the action once per owner with its first row and all of its skills.
+     * Rows of the same owner must be adjacent in the stream.
+     */
+    public static <R extends SkillRow> void group(Stream<R> rows, BiConsumer<R, List<String>> action) {
+        R first = null;
+        List<String> skills = new ArrayList<>();
+        for (R row : (Iterable<R>) rows::iterator) {
+            if (first == null || !first.getOwnerId().equals(row.getOwnerId())) {
+                if (first != null) {
+                    action.accept(first, skills);
+                    skills = new ArrayList<>();
+                }
+                first = row;
+            }
+            if (row.getSkill() != null) {
+                skills.add(row.getSkill());
+            }
+        }
+        if (first != null) {
+            action.accept(first, skills);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.wcc.bootcamp.java.mentorship.service;
+
+import com.wcc.bootcamp.java.mentorship.ledger.LedgerEvent;
+import com.wcc.bootcamp.java.mentorship.ledger.MatchLedger;
+import com.wcc.bootcamp.java.mentorship.model.Mentee;
+import com.wcc.bootcamp.java.mentorship.model.Mentor;
+import com.wcc.bootcamp.java.mentorship.repository.SkillCatalog;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Imports mentor and mentee profiles from CSV.
+ *
+ * The input is parsed one row at a time and written with JDBC batch inserts, one transaction per
+ * chunk of {@code mentorship.import.batch-size} rows, bypassing the JPA persistence context. Invalid
+ * rows are reported and skipped; a chunk the database rejects is reported row by row and the import
+ * goes on with the next chunk. Skills are written as IDs from the {@link SkillCatalog}; new skills
+ * are registered in the chunk's transaction and are not kept if the chunk is rejected. Each chunk
+ * records its registrations in the {@link MatchLedger} in the same transaction. Imported profiles
+ * are handed to {@link MentorshipService} so that matching sees them straight away.
+ */
+@Service
+public class BulkImportService {
+    private static final Logger log = LoggerFactory.getLogger(BulkImportService.class);
+
+    private static final String INSERT_MENTOR =
+            "insert into mentors (id, name, email, max_mentees, current_mentee_count) values (?, ?, ?, ?, ?)";
+    private static final String INSERT_EXPERTISE =
+            "insert into mentor_skills (mentor_id, skill_id) values (?, ?)";
+    private static final String INSERT_MENTEE =
+            "insert into mentees (id, name, email, experience_level, is_matched) values (?, ?, ?, ?, ?)";
+    private static final String INSERT_GOAL =
+            "insert into mentee_skills (mentee_id, skill_id) values (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MentorshipService mentorshipService;
+    private final SkillCatalog skillCatalog;
+    private final MatchLedger matchLedger;
+    private final Validator validator;
+
+    // Rows written per JDBC batch and per transaction
+    @Value("${mentorship.import.batch-size:1000}")
+    private int batchSize;
+
+    public BulkImportService(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             MentorshipService mentorshipService,
+                             SkillCatalog skillCatalog,
+                             MatchLedger matchLedger,
+                             Validator validator) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.mentorshipService = mentorshipService;
+        this.skillCatalog = skillCatalog;
+        this.matchLedger = matchLedger;
+        this.validator = validator;
+    }
+
+    /**
+     * Imports mentors from {@code name,email,skills[,maxMentees]} rows.
+     */
+    public ImportResult importMentors(Reader csv) throws IOException {
+        return importRows(csv, fields -> CsvProfileReader.toMentor(fields, validator), this::insertMentors,
+                mentorshipService::mentorsImported);
+    }
+
+    /**
+     * Imports mentees from {@code name,email,learningGoals[,experienceLevel]} rows.
+     */
+    public ImportResult importMentees(Reader csv) throws IOException {
+        return importRows(csv, fields -> CsvProfileReader.toMentee(fields, validator), this::insertMentees,
+                mentorshipService::menteesImported);
+    }
+
+    private <T> ImportResult importRows(Reader csv, Function<List<String>, T> parser,
+                                        Consumer<List<T>> insert, Consumer<List<T>> imported) throws IOException {
+        ImportResult result = new ImportResult();
+        int chunkSize = Math.max(1, batchSize);
+        List<T> chunk = new ArrayList<>(chunkSize);
+        List<Long> lines = new ArrayList<>(chunkSize);
+
+        try (CsvProfileReader reader = new CsvProfileReader(csv)) {
+            List<String> fields;
+            while ((fields = reader.nextRecord()) != null) {
+                try {
+                    chunk.add(parser.apply(fields));
+                    lines.add(reader.getLineNumber());
+                } catch (IllegalArgumentException e) {
+                    result.recordError(reader.getLineNumber(), e.getMessage());
+                }
+                if (chunk.size() == chunkSize) {
+                    writeChunk(chunk, lines, insert, imported, result);
+                }
+            }
+            writeChunk(chunk, lines, insert, imported, result);
+        }
+
+        result.finish();
+        log.info("CSV import finished: {}", result);
+        return result;
+    }
+
+    /**
+     * Writes one chunk in its own transaction. Any database failure rejects the chunk, including
+     * a skill the {@link SkillCatalog} cannot resolve, which it reports as a {@link DataAccessException}.
+     */
+    private <T> void writeChunk(List<T> chunk, List<Long> lines, Consumer<List<T>> insert,
+                                Consumer<List<T>> imported, ImportResult result) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert.accept(chunk));
+            result.recordImported(chunk.size());
+            imported.accept(new ArrayList<>(chunk));
+        } catch (DataAccessException e) {
+            String message = "Not imported: " + e.getMostSpecificCause().getMessage();
+            lines.forEach(line -> result.recordError(line, message));
+        }
+        chunk.clear();
+        lines.clear();
+    }
+
+    private void insertMentors(List<Mentor> mentors) {
+        List<Object[]> rows = new ArrayList<>(mentors.size());
+        List<Object[]> skills = new ArrayList<>();
+        List<LedgerEvent> events = new ArrayList<>(mentors.size());
+        skillCatalog.register(mentors.stream().flatMap(mentor -> mentor.getExpertiseAreas().stream()).distinct().toList());
+        for (Mentor mentor : mentors) {
+            rows.add(new Object[] {mentor.getId(), mentor.getName(), mentor.getEmail(),
+                    mentor.getMaxMentees(), mentor.getCurrentMenteeCount()});
+            for (String expertise : mentor.getExpertiseAreas()) {
+                skills.add(new Object[] {mentor.getId(), skillCatalog.idOf(expertise)});
+            }
+            events.add(LedgerEvent.mentorRegistered(mentor.getId(), mentor.getExpertiseAreas(), mentor.getMaxMentees()));
+        }
+        jdbcTemplate.batchUpdate(INSERT_MENTOR, rows);
+        jdbcTemplate.batchUpdate(INSERT_EXPERTISE, skills);
+        matchLedger.append(events);
+    }
+
+    private void insertMentees(List<Mentee> mentees) {
+        List<Object[]> rows = new ArrayList<>(mentees.size());
+        List<Object[]> skills = new ArrayList<>();
+        List<LedgerEvent> events = new ArrayList<>(mentees.size());
+        skillCatalog.register(mentees.stream().flatMap(mentee -> mentee.getLearningGoals().stream()).distinct().toList());
+        for (Mentee mentee : mentees) {
+            rows.add(new Object[] {mentee.getId(), mentee.getName(), mentee.getEmail(),
+                    mentee.getExperienceLevel(), mentee.isMatched()});
+            for (String goal : mentee.getLearningGoals()) {
+                skills.add(new Object[] {mentee.getId(), skillCatalog.idOf(goal)});
+            }
+            events.add(LedgerEvent.menteeRegistered(mentee.getId(), mentee.getLearningGoals()));
+        }
+        jdbcTemplate.batchUpdate(INSERT_MENTEE, rows);
+        jdbcTemplate.batchUpdate(INSERT_GOAL, skills);
+        matchLedger.append(events);
+    }
+}
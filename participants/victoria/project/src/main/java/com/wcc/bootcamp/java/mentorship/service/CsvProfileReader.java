@@ -0,0 +1,219 @@
+package com.wcc.bootcamp.java.mentorship.service;
+
+import com.wcc.bootcamp.java.mentorship.dto.MenteeRegistrationForm;
+import com.wcc.bootcamp.java.mentorship.dto.MentorRegistrationForm;
+import com.wcc.bootcamp.java.mentorship.matching.SkillMatchRules;
+import com.wcc.bootcamp.java.mentorship.model.Mentee;
+import com.wcc.bootcamp.java.mentorship.model.Mentor;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Reads mentor or mentee profiles from CSV one record at a time, so a large file is never held in memory.
+ *
+ * Mentor rows are {@code name,email,skills[,maxMentees]} and mentee rows are
+ * {@code name,email,learningGoals[,experienceLevel]}. Skills are separated by semicolons, or by commas
+ * inside a quoted field. Fields may be quoted as in RFC 4180, and an optional header row starting with
+ * {@code name} is skipped. Each row fills a registration form, which is checked with the same
+ * {@link Validator} as the web forms, and its skills are normalized the same way registration does.
+ */
+public class CsvProfileReader implements Closeable {
+    private final BufferedReader reader;
+    private final StringBuilder field = new StringBuilder();
+    private long lineNumber;
+    private long recordLine;
+    private boolean started;
+
+    public CsvProfileReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+    }
+
+    /**
+     * Reads the fields of the next non-blank record, or returns null at the end of the input.
+     */
+    public List<String> nextRecord() throws IOException {
+        List<String> fields;
+        do {
+            fields = readFields();
+            if (fields == null) {
+                return null;
+            }
+        } while (isBlank(fields) || isHeader(fields));
+        return fields;
+    }
+
+    /**
+     * Returns the line the last record read starts on, counting from 1.
+     */
+    public long getLineNumber() {
+        return recordLine;
+    }
+
+    /**
+     * Creates a mentor from a record, checked like the mentor registration form.
+     *
+     * @throws IllegalArgumentException if the record is not a valid mentor row
+     */
+    public static Mentor toMentor(List<String> fields, Validator validator) {
+        checkColumns(fields, 4);
+        MentorRegistrationForm form = new MentorRegistrationForm();
+        form.setName(field(fields, 0));
+        form.setEmail(field(fields, 1));
+        form.setSkills(skillsField(fields));
+        String max = field(fields, 3);
+        if (!max.isEmpty()) {
+            try {
+                form.setMaxMentees(Integer.parseInt(max));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Max mentees must be a number");
+            }
+        }
+        check(validator.validate(form));
+        return new Mentor(form.getName(), form.getEmail(),
+                skills(form.getSkills(), "At least one skill/expertise area is required"), form.getMaxMentees());
+    }
+
+    /**
+     * Creates a mentee from a record, checked like the mentee registration form.
+     *
+     * @throws IllegalArgumentException if the record is not a valid mentee row
+     */
+    public static Mentee toMentee(List<String> fields, Validator validator) {
+        checkColumns(fields, 4);
+        MenteeRegistrationForm form = new MenteeRegistrationForm();
+        form.setName(field(fields, 0));
+        form.setEmail(field(fields, 1));
+        form.setLearningGoals(skillsField(fields));
+        String experienceLevel = field(fields, 3).toLowerCase();
+        if (!experienceLevel.isEmpty()) {
+            form.setExperienceLevel(experienceLevel);
+        }
+        check(validator.validate(form));
+        return new Mentee(form.getName(), form.getEmail(),
+                skills(form.getLearningGoals(), "At least one learning goal is required"), form.getExperienceLevel());
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Returns the skills field in the comma-separated form the registration forms take.
+     */
+    private static String skillsField(List<String> fields) {
+        return field(fields, 2).replace(';', ',');
+    }
+
+    private static List<String> skills(String skills, String requiredMessage) {
+        List<String> normalized = SkillMatchRules.split(skills);
+        if (normalized.isEmpty()) {
+            throw new IllegalArgumentException(requiredMessage);
+        }
+        return normalized;
+    }
+
+    /**
+     * Fails with the messages the registration form would show, in column order.
+     */
+    private static <T> void check(Set<ConstraintViolation<T>> violations) {
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .sorted(Comparator.comparingInt((ConstraintViolation<T> v) -> column(v))
+                            .thenComparing(ConstraintViolation::getMessage))
+                    .map(ConstraintViolation::getMessage)
+                    .collect(Collectors.joining("; ")));
+        }
+    }
+
+    private static int column(ConstraintViolation<?> violation) {
+        return switch (violation.getPropertyPath().toString()) {
+            case "name" -> 0;
+            case "email" -> 1;
+            case "skills", "learningGoals" -> 2;
+            default -> 3;
+        };
+    }
+
+    private static String field(List<String> fields, int index) {
+        return index < fields.size() ? fields.get(index).trim() : "";
+    }
+
+    private static void checkColumns(List<String> fields, int max) {
+        if (fields.size() > max) {
+            throw new IllegalArgumentException("Expected at most " + max + " columns but found " + fields.size());
+        }
+    }
+
+    private boolean isHeader(List<String> fields) {
+        boolean first = !started;
+        started = true;
+        return first && fields.get(0).trim().equalsIgnoreCase("name");
+    }
+
+    private static boolean isBlank(List<String> fields) {
+        return fields.size() == 1 && fields.get(0).isBlank();
+    }
+
+    /**
+     * Reads one record, which spans several lines when a quoted field contains line breaks.
+     */
+    private List<String> readFields() throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        lineNumber++;
+        recordLine = lineNumber;
+
+        List<String> fields = new ArrayList<>();
+        field.setLength(0);
+        boolean quoted = false;
+        int i = 0;
+        while (true) {
+            if (i == line.length()) {
+                if (!quoted) {
+                    break;
+                }
+                line = reader.readLine();
+                if (line == null) {
+                    throw new IOException("Unterminated quoted field starting on line " + recordLine);
+                }
+                lineNumber++;
+                field.append('\n');
+                i = 0;
+                continue;
+            }
+            char c = line.charAt(i++);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i < line.length() && line.charAt(i) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,90 @@
+package com.wcc.bootcamp.java.mentorship.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of a bulk profile import: how many rows were imported, which rows were rejected and why,
+ * and how fast the import ran. Only the first {@value #MAX_ERRORS} row errors are kept.
+ */
+public class ImportResult {
+    static final int MAX_ERRORS = 100;
+
+    private final long startNanos = System.nanoTime();
+    private final List<RowError> errors = new ArrayList<>();
+    private long imported;
+    private long failed;
+    private long elapsedNanos;
+
+    void recordImported(long rows) {
+        imported += rows;
+    }
+
+    void recordError(long line, String message) {
+        failed++;
+        if (errors.size() < MAX_ERRORS) {
+            errors.add(new RowError(line, message));
+        }
+    }
+
+    ImportResult finish() {
+        elapsedNanos = System.nanoTime() - startNanos;
+        return this;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public List<RowError> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    public long getElapsedMillis() {
+        return elapsedNanos / 1_000_000;
+    }
+
+    /**
+     * Returns the rows imported per second.
+     */
+    public long getRowsPerSecond() {
+        return elapsedNanos == 0 ? 0 : Math.round(imported / (elapsedNanos / 1e9));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Imported %,d rows (%,d rejected) in %,d ms, %,d rows/s",
+                imported, failed, getElapsedMillis(), getRowsPerSecond());
+    }
+
+    /**
+     * A rejected row and the reason it was rejected.
+     */
+    public static class RowError {
+        private final long line;
+        private final String message;
+
+        RowError(long line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+
+        public long getLine() {
+            return line;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return "Line " + line + ": " + message;
+        }
+    }
+}
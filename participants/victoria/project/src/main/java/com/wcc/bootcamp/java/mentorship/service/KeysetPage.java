@@ -0,0 +1,39 @@
+package com.wcc.bootcamp.java.mentorship.service;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated list.
+ *
+ * The next page starts after the sort key of the last item, so the list pages link to it
+ * with that item's key instead of an offset.
+ */
+public final class KeysetPage<T> {
+    private final List<T> items;
+    private final boolean hasNext;
+
+    KeysetPage(List<T> items, boolean hasNext) {
+        this.items = Collections.unmodifiableList(items);
+        this.hasNext = hasNext;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * Returns the last item of the page, whose key continues the list, or null if the page is empty.
+     */
+    public T getLast() {
+        return items.isEmpty() ? null : items.get(items.size() - 1);
+    }
+
+    public boolean hasNext() {
+        return hasNext;
+    }
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+}
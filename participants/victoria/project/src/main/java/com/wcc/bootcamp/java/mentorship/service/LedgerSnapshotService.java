@@ -0,0 +1,44 @@
+package com.wcc.bootcamp.java.mentorship.service;
+
+import com.wcc.bootcamp.java.mentorship.ledger.LedgerState;
+import com.wcc.bootcamp.java.mentorship.ledger.MatchLedger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Takes snapshots of the match ledger, so that rebuilding the matching index only replays the
+ * events recorded since the last one. The job runs on the {@code mentorship.ledger.snapshot-cron}
+ * schedule and does nothing if no event was recorded since the latest snapshot.
+ */
+@Service
+public class LedgerSnapshotService {
+    private static final Logger log = LoggerFactory.getLogger(LedgerSnapshotService.class);
+
+    private final MatchLedger matchLedger;
+
+    public LedgerSnapshotService(MatchLedger matchLedger) {
+        this.matchLedger = matchLedger;
+    }
+
+    @Scheduled(cron = "${mentorship.ledger.snapshot-cron:0 15 * * * *}")
+    public void snapshotOnSchedule() {
+        snapshot();
+    }
+
+    /**
+     * Replays the events since the latest snapshot and saves the result as the new snapshot.
+     *
+     * @return the number of events the new snapshot adds, 0 if none was needed
+     */
+    public long snapshot() {
+        LedgerState state = matchLedger.rebuild();
+        long added = state.getSequence() - state.getSnapshotSequence();
+        if (added > 0) {
+            matchLedger.saveSnapshot(state);
+            log.info("Saved match ledger snapshot at event {} ({} new events)", state.getSequence(), added);
+        }
+        return added;
+    }
+}
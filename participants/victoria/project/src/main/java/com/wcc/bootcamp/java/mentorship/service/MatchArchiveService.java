@@ -0,0 +1,117 @@
+package com.wcc.bootcamp.java.mentorship.service;
+
+import com.wcc.bootcamp.java.mentorship.model.ArchivedMatch;
+import com.wcc.bootcamp.java.mentorship.repository.ArchivedMatchRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Moves completed and cancelled matches out of the live tables.
+ *
+ * Matches in a final status that ended more than {@code mentorship.archive.min-age-days} ago
+ * are copied with their skill IDs into matches_archive and deleted from matches, one transaction
+ * per {@code mentorship.archive.batch-size} matches, so the live table and its indexes only grow
+ * with the matches that are still in use. The job
+ * runs on the {@code mentorship.archive.cron} schedule; archived matches are read back on demand
+ * as the history of a mentor or mentee.
+ */
+@Service
+public class MatchArchiveService {
+    private static final Logger log = LoggerFactory.getLogger(MatchArchiveService.class);
+
+    // Read from idx_match_ended; the order within a batch does not matter
+    private static final String SELECT_ARCHIVABLE =
+            "select id from matches where ended_at < :cutoff and status in ('COMPLETED', 'CANCELLED') "
+                    + "limit :limit";
+    private static final String COPY_MATCHES =
+            "insert into matches_archive (id, mentor_id, mentee_id, match_score, match_date, status, "
+                    + "matched_skill_ids, ended_at, archived_at) "
+                    + "select id, mentor_id, mentee_id, match_score, match_date, status, matched_skill_ids, "
+                    + "ended_at, :archivedAt from matches where id in (:ids)";
+    private static final String DELETE_MATCHES = "delete from matches where id in (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ArchivedMatchRepository archivedMatchRepository;
+
+    // Completed and cancelled matches that ended longer ago than this are archived
+    @Value("${mentorship.archive.min-age-days:180}")
+    private int minAgeDays;
+
+    // Matches moved per transaction
+    @Value("${mentorship.archive.batch-size:1000}")
+    private int batchSize;
+
+    public MatchArchiveService(NamedParameterJdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               ArchivedMatchRepository archivedMatchRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.archivedMatchRepository = archivedMatchRepository;
+    }
+
+    @Scheduled(cron = "${mentorship.archive.cron:0 30 3 * * *}")
+    public void archiveOnSchedule() {
+        archive();
+    }
+
+    /**
+     * Archives every completed or cancelled match that ended before the configured age, in batches.
+     *
+     * @return the number of matches archived
+     */
+    public long archive() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minusDays(minAgeDays);
+        int limit = Math.max(1, batchSize);
+        long archived = 0;
+        int moved;
+        do {
+            moved = transactionTemplate.execute(status -> archiveBatch(cutoff, now, limit));
+            archived += moved;
+        } while (moved == limit);
+
+        log.info("Archived {} matches that ended before {}", archived, cutoff);
+        return archived;
+    }
+
+    private int archiveBatch(LocalDateTime cutoff, LocalDateTime archivedAt, int limit) {
+        List<UUID> ids = jdbcTemplate.queryForList(SELECT_ARCHIVABLE,
+                Map.of("cutoff", cutoff, "limit", limit), UUID.class);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        Map<String, Object> params = Map.of("ids", ids, "archivedAt", archivedAt);
+        jdbcTemplate.update(COPY_MATCHES, params);
+        jdbcTemplate.update(DELETE_MATCHES, params);
+        return ids.size();
+    }
+
+    /**
+     * Returns the archived matches of a mentor, newest first, with their skills.
+     */
+    @Transactional(readOnly = true)
+    public List<ArchivedMatch> findHistoryForMentor(UUID mentorId) {
+        return archivedMatchRepository.findByMentorIdOrderByMatchDateDesc(mentorId);
+    }
+
+    /**
+     * Returns the archived matches of a mentee, newest first, with their skills.
+     */
+    @Transactional(readOnly = true)
+    public List<ArchivedMatch> findHistoryForMentee(UUID menteeId) {
+        return archivedMatchRepository.findByMenteeIdOrderByMatchDateDesc(menteeId);
+    }
+}
@@ -1,27 +1,78 @@
 package com.wcc.bootcamp.java.mentorship.service;
 
+import com.wcc.bootcamp.java.mentorship.ledger.LedgerEvent;
+import com.wcc.bootcamp.java.mentorship.ledger.LedgerState;
+import com.wcc.bootcamp.java.mentorship.ledger.MatchLedger;
+import com.wcc.bootcamp.java.mentorship.matching.MatchScore;
+import com.wcc.bootcamp.java.mentorship.matching.ScoredPair;
+import com.wcc.bootcamp.java.mentorship.matching.SkillIndex;
+import com.wcc.bootcamp.java.mentorship.matching.SkillProfile;
+import com.wcc.bootcamp.java.mentorship.matching.ScoringEngine;
+import com.wcc.bootcamp.java.mentorship.matching.StableMatcher;
 import com.wcc.bootcamp.java.mentorship.model.Match;
 import com.wcc.bootcamp.java.mentorship.model.Mentee;
 import com.wcc.bootcamp.java.mentorship.model.Mentor;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * Service class for managing mentorship matching operations.
  * Handles registration, matching, and persistence of mentor-mentee relationships.
+ * Registrations and match changes are recorded in a {@link MatchLedger} if one is given. The
+ * state the ledger adds up to is rebuilt from its latest snapshot and the events after it when
+ * the matcher is created, and kept up to date as events are recorded.
  */
 public class MentorshipMatcher {
     private final List<Mentor> mentors;
     private final List<Mentee> mentees;
     private final List<Match> matches;
+    private final SkillIndex skillIndex;
+    private final ScoringEngine scoringEngine;
+    private final MatchLedger ledger;
+    private final LedgerState ledgerState;
+    // Events replayed or recorded after which a new snapshot is saved, as in the web application
+    private final long snapshotEvery;
+    private long snapshotSequence;
     private static final String MATCHES_FILE = "matches.txt";
 
+    /**
+     * Creates a matcher using the scoring engine named by the {@code mentorship.matching.engine}
+     * system property, or the default engine if it is not set.
+     */
     public MentorshipMatcher() {
+        this(System.getProperty("mentorship.matching.engine"));
+    }
+
+    /**
+     * Creates a matcher using the named scoring engine, see {@link ScoringEngine#create}.
+     */
+    public MentorshipMatcher(String scoringEngineName) {
+        this(scoringEngineName, MatchLedger.NONE);
+    }
+
+    /**
+     * Creates a matcher using the named scoring engine that records its events in the ledger.
+     */
+    public MentorshipMatcher(String scoringEngineName, MatchLedger ledger) {
+        this.ledger = ledger;
         this.mentors = new ArrayList<>();
         this.mentees = new ArrayList<>();
         this.matches = new ArrayList<>();
+        this.skillIndex = new SkillIndex();
+        this.scoringEngine = ScoringEngine.create(scoringEngineName, skillIndex.getDictionary());
+        this.snapshotEvery = Long.getLong("mentorship.ledger.snapshot-every", 10000);
+        this.ledgerState = ledger.rebuild();
+        this.snapshotSequence = ledgerState.getSnapshotSequence();
+        saveLedgerSnapshotIfDue();
     }
 
     // ==================== Registration Methods ====================
@@ -38,6 +89,8 @@ public class MentorshipMatcher {
         
         Mentor mentor = new Mentor(name, email, normalizedExpertise);
         mentors.add(mentor);
+        skillIndex.indexMentor(mentor);
+        recordRegistration(mentor);
         System.out.println("✓ Mentor registered: " + mentor.getName());
         return mentor;
     }
@@ -53,6 +106,8 @@ public class MentorshipMatcher {
         
         Mentor mentor = new Mentor(name, email, normalizedExpertise, maxMentees);
         mentors.add(mentor);
+        skillIndex.indexMentor(mentor);
+        recordRegistration(mentor);
         System.out.println("✓ Mentor registered: " + mentor.getName());
         return mentor;
     }
@@ -69,6 +124,8 @@ public class MentorshipMatcher {
         
         Mentee mentee = new Mentee(name, email, normalizedGoals);
         mentees.add(mentee);
+        skillIndex.indexMentee(mentee);
+        recordRegistration(mentee);
         System.out.println("✓ Mentee registered: " + mentee.getName());
         return mentee;
     }
@@ -84,10 +141,68 @@ public class MentorshipMatcher {
         
         Mentee mentee = new Mentee(name, email, normalizedGoals, experienceLevel);
         mentees.add(mentee);
+        skillIndex.indexMentee(mentee);
+        recordRegistration(mentee);
         System.out.println("✓ Mentee registered: " + mentee.getName());
         return mentee;
     }
 
+    private void recordRegistration(Mentor mentor) {
+        record(LedgerEvent.mentorRegistered(mentor.getId(), mentor.getExpertiseAreas(), mentor.getMaxMentees()));
+    }
+
+    private void recordRegistration(Mentee mentee) {
+        record(LedgerEvent.menteeRegistered(mentee.getId(), mentee.getLearningGoals()));
+    }
+
+    // ==================== Import Methods ====================
+
+    /**
+     * Registers mentors from CSV rows ({@code name,email,skills[,maxMentees]}), reading one row
+     * at a time. Invalid rows are skipped and reported in the result.
+     */
+    public ImportResult importMentors(Reader csv) throws IOException {
+        return importRows(csv, CsvProfileReader::toMentor, mentor -> {
+            mentors.add(mentor);
+            skillIndex.indexMentor(mentor);
+            recordRegistration(mentor);
+        });
+    }
+
+    /**
+     * Registers mentees from CSV rows ({@code name,email,learningGoals[,experienceLevel]}), reading
+     * one row at a time. Invalid rows are skipped and reported in the result.
+     */
+    public ImportResult importMentees(Reader csv) throws IOException {
+        return importRows(csv, CsvProfileReader::toMentee, mentee -> {
+            mentees.add(mentee);
+            skillIndex.indexMentee(mentee);
+            recordRegistration(mentee);
+        });
+    }
+
+    /**
+     * Reads and registers the rows, checking each like the registration forms of the web application.
+     */
+    private <T> ImportResult importRows(Reader csv, BiFunction<List<String>, Validator, T> parser,
+                                        Consumer<T> register) throws IOException {
+        ImportResult result = new ImportResult();
+        try (ValidatorFactory validation = Validation.buildDefaultValidatorFactory();
+             CsvProfileReader reader = new CsvProfileReader(csv)) {
+            Validator validator = validation.getValidator();
+            List<String> fields;
+            while ((fields = reader.nextRecord()) != null) {
+                try {
+                    register.accept(parser.apply(fields, validator));
+                    result.recordImported(1);
+                } catch (IllegalArgumentException e) {
+                    result.recordError(reader.getLineNumber(), e.getMessage());
+                }
+            }
+        }
+        return result.finish();
+    }
+
     // ==================== Matching Methods ====================
 
     /**
@@ -102,10 +217,10 @@ public class MentorshipMatcher {
                 continue; // Skip mentors who are at capacity
             }
 
-            MatchResult result = calculateMatchScore(mentor, mentee);
+            MatchScore result = calculateMatchScore(mentor, mentee);
             
-            if (result.score > 0) {
-                Match match = new Match(mentor, mentee, result.matchedSkills, result.score);
+            if (result.getScore() > 0) {
+                Match match = new Match(mentor, mentee, result.getMatchedSkills(), result.getScore());
                 potentialMatches.add(match);
             }
         }
@@ -132,10 +247,10 @@ public class MentorshipMatcher {
                 continue; // Skip already matched mentees
             }
 
-            MatchResult result = calculateMatchScore(mentor, mentee);
+            MatchScore result = calculateMatchScore(mentor, mentee);
             
-            if (result.score > 0) {
-                Match match = new Match(mentor, mentee, result.matchedSkills, result.score);
+            if (result.getScore() > 0) {
+                Match match = new Match(mentor, mentee, result.getMatchedSkills(), result.getScore());
                 potentialMatches.add(match);
             }
         }
@@ -152,77 +267,81 @@ public class MentorshipMatcher {
      * - Keyword matching between expertise and learning goals
      * - Number of matching skills
      * - Partial string matching for related terms
+     *
+     * Skills are compared through their precompiled profiles, see {@link ScoringEngine}.
      */
-    private MatchResult calculateMatchScore(Mentor mentor, Mentee mentee) {
-        List<String> matchedSkills = new ArrayList<>();
-        List<String> mentorExpertise = mentor.getExpertiseAreas();
-        List<String> menteeGoals = mentee.getLearningGoals();
-
-        // Find matching skills
-        for (String goal : menteeGoals) {
-            for (String expertise : mentorExpertise) {
-                if (isSkillMatch(expertise, goal)) {
-                    // Add the original goal (what mentee wants to learn)
-                    if (!matchedSkills.contains(goal)) {
-                        matchedSkills.add(goal);
-                    }
-                }
-            }
-        }
-
-        // Calculate score as percentage of mentee goals that can be fulfilled
-        double score = menteeGoals.isEmpty() ? 0 : 
-                (double) matchedSkills.size() / menteeGoals.size();
-
-        return new MatchResult(score, matchedSkills);
+    private MatchScore calculateMatchScore(Mentor mentor, Mentee mentee) {
+        // Score is the percentage of mentee goals that can be fulfilled
+        return scoringEngine.evaluate(mentorProfile(mentor), menteeProfile(mentee));
     }
 
-    /**
-     * Checks if two skills match using various matching strategies:
-     * - Exact match
-     * - Contains match (one string contains the other)
-     * - Common words match
-     */
-    private boolean isSkillMatch(String skill1, String skill2) {
-        String s1 = skill1.toLowerCase().trim();
-        String s2 = skill2.toLowerCase().trim();
-
-        // Exact match
-        if (s1.equals(s2)) {
-            return true;
-        }
-
-        // Contains match
-        if (s1.contains(s2) || s2.contains(s1)) {
-            return true;
-        }
-
-        // Word-level matching
-        Set<String> words1 = new HashSet<>(Arrays.asList(s1.split("\\s+")));
-        Set<String> words2 = new HashSet<>(Arrays.asList(s2.split("\\s+")));
-        
-        // Check for common significant words (length > 2)
-        for (String word : words1) {
-            if (word.length() > 2 && words2.contains(word)) {
-                return true;
-            }
-        }
+    private SkillProfile mentorProfile(Mentor mentor) {
+        return skillIndex.mentorProfile(mentor);
+    }
 
-        return false;
+    private SkillProfile menteeProfile(Mentee mentee) {
+        return skillIndex.menteeProfile(mentee);
     }
 
     /**
      * Creates and activates a match between mentor and mentee.
      */
     public Match createMatch(Mentor mentor, Mentee mentee) {
-        MatchResult result = calculateMatchScore(mentor, mentee);
-        Match match = new Match(mentor, mentee, result.matchedSkills, result.score);
+        MatchScore result = calculateMatchScore(mentor, mentee);
+        Match match = new Match(mentor, mentee, result.getMatchedSkills(), result.getScore());
         match.activate();
         matches.add(match);
+        refreshIndex(match);
+        record(matchedEvent(match));
         System.out.println("✓ Match created: " + mentor.getName() + " <-> " + mentee.getName());
         return match;
     }
 
+    /**
+     * Matches all unmatched mentees at once with capacitated deferred acceptance (Gale-Shapley).
+     * Mentees propose in score order and each mentor keeps its best proposals up to its
+     * free capacity, so no mentee and mentor would both rather be matched with each other.
+     */
+    public List<Match> stableMatchAll() {
+        List<String> menteeIds = new ArrayList<>();
+        List<SkillProfile> profiles = new ArrayList<>();
+        for (Mentee mentee : mentees) {
+            if (!mentee.isMatched()) {
+                menteeIds.add(mentee.getId().toString());
+                profiles.add(menteeProfile(mentee));
+            }
+        }
+
+        Map<String, Integer> capacities = new LinkedHashMap<>();
+        for (Mentor mentor : mentors) {
+            if (mentor.canAcceptMoreMentees()) {
+                capacities.put(mentor.getId().toString(), mentor.getMaxMentees() - mentor.getCurrentMenteeCount());
+            }
+        }
+
+        List<ScoredPair> pairs = new StableMatcher(skillIndex, scoringEngine)
+                .assign(menteeIds, profiles, capacities, ForkJoinPool.commonPool());
+
+        Map<String, Mentor> mentorsById = mentors.stream()
+                .collect(Collectors.toMap(mentor -> mentor.getId().toString(), Function.identity()));
+        Map<String, Mentee> menteesById = mentees.stream()
+                .collect(Collectors.toMap(mentee -> mentee.getId().toString(), Function.identity()));
+        List<Match> created = new ArrayList<>(pairs.size());
+        for (ScoredPair pair : pairs) {
+            Mentor mentor = mentorsById.get(pair.getMentorId());
+            Mentee mentee = menteesById.get(pair.getMenteeId());
+            Match match = new Match(mentor, mentee,
+                    scoringEngine.matchedSkills(mentorProfile(mentor), menteeProfile(mentee)), pair.getScore());
+            match.activate();
+            matches.add(match);
+            refreshIndex(match);
+            created.add(match);
+        }
+        record(created.stream().map(this::matchedEvent).toList());
+        System.out.println("✓ Stable matching created " + created.size() + " matches");
+        return created;
+    }
+
     /**
      * Activates a pending match.
      */
@@ -232,20 +351,88 @@ public class MentorshipMatcher {
             if (!matches.contains(match)) {
                 matches.add(match);
             }
+            refreshIndex(match);
+            record(matchedEvent(match));
             System.out.println("✓ Match activated: " + match);
         }
     }
 
+    private void record(LedgerEvent event) {
+        record(List.of(event));
+    }
+
+    /**
+     * Appends the events to the ledger and applies them to the ledger state, under the sequence
+     * numbers the ledger gave them.
+     */
+    private void record(List<LedgerEvent> events) {
+        ledger.append(events);
+        if (ledger == MatchLedger.NONE) {
+            return; // numbers nothing, so there is no state to keep
+        }
+        long sequence = ledger.lastSequence() - events.size();
+        for (LedgerEvent event : events) {
+            ledgerState.apply(event.withSequence(++sequence));
+        }
+        saveLedgerSnapshotIfDue();
+    }
+
+    private void saveLedgerSnapshotIfDue() {
+        if (snapshotEvery > 0 && ledgerState.getSequence() - snapshotSequence >= snapshotEvery) {
+            saveLedgerSnapshot();
+        }
+    }
+
+    /**
+     * Saves the ledger state as the latest snapshot, unless no event was recorded since the last
+     * one, so the next session replays only the events after it.
+     */
+    public void saveLedgerSnapshot() {
+        if (ledgerState.getSequence() > snapshotSequence) {
+            ledger.saveSnapshot(ledgerState);
+            snapshotSequence = ledgerState.getSequence();
+        }
+    }
+
+    private LedgerEvent matchedEvent(Match match) {
+        return LedgerEvent.matched(match.getId(), match.getMentor().getId(), match.getMentee().getId());
+    }
+
+    /**
+     * Keeps candidate availability in the skill index in line with the match's mentor and mentee.
+     */
+    private void refreshIndex(Match match) {
+        skillIndex.updateMentorCapacity(match.getMentor());
+        skillIndex.updateMenteeStatus(match.getMentee());
+    }
+
     // ==================== Unmatch/Rematch Methods ====================
 
     /**
      * Cancels an existing match (unmatch).
      */
     public void unmatch(Match match) {
+        if (match.getStatus() == Match.MatchStatus.CANCELLED) {
+            return; // nothing to change or record
+        }
         match.cancel();
+        refreshIndex(match);
+        record(LedgerEvent.cancelled(match.getId(), match.getMentor().getId(), match.getMentee().getId()));
         System.out.println("✓ Match cancelled: " + match.getMentor().getName() + " <-> " + match.getMentee().getName());
     }
 
+    /**
+     * Completes an active match, freeing up the mentor and mentee.
+     */
+    public void completeMatch(Match match) {
+        if (match.getStatus() == Match.MatchStatus.ACTIVE) {
+            match.complete();
+            refreshIndex(match);
+            record(LedgerEvent.completed(match.getId(), match.getMentor().getId(), match.getMentee().getId()));
+            System.out.println("✓ Match completed: " + match.getMentor().getName() + " <-> " + match.getMentee().getName());
+        }
+    }
+
     /**
      * Rematches a mentee with a new mentor.
      */
@@ -451,6 +638,15 @@ public class MentorshipMatcher {
         return new ArrayList<>(matches);
     }
 
+    /**
+     * Returns the profiles and active matches recorded in the ledger, across all the sessions
+     * that used it; empty without a ledger. The state is kept by the matcher and must not be
+     * changed.
+     */
+    public LedgerState ledgerState() {
+        return ledgerState;
+    }
+
     public Optional<Mentor> findMentorByName(String name) {
         return mentors.stream()
                 .filter(m -> m.getName().equalsIgnoreCase(name))
@@ -462,15 +658,4 @@ public class MentorshipMatcher {
                 .filter(m -> m.getName().equalsIgnoreCase(name))
                 .findFirst();
     }
-
-    // Helper class for match calculation results
-    private static class MatchResult {
-        final double score;
-        final List<String> matchedSkills;
-
-        MatchResult(double score, List<String> matchedSkills) {
-            this.score = score;
-            this.matchedSkills = matchedSkills;
-        }
-    }
 }
@@ -1,16 +1,47 @@
 package com.wcc.bootcamp.java.mentorship.service;
 
+import com.wcc.bootcamp.java.mentorship.ledger.LedgerEvent;
+import com.wcc.bootcamp.java.mentorship.ledger.LedgerState;
+import com.wcc.bootcamp.java.mentorship.ledger.MatchLedger;
+import com.wcc.bootcamp.java.mentorship.matching.AssignmentEngine;
+import com.wcc.bootcamp.java.mentorship.matching.CandidateCache;
+import com.wcc.bootcamp.java.mentorship.matching.CohortAssigner;
+import com.wcc.bootcamp.java.mentorship.matching.MatchScore;
+import com.wcc.bootcamp.java.mentorship.matching.ParallelMatchScorer;
+import com.wcc.bootcamp.java.mentorship.matching.ScoredPair;
+import com.wcc.bootcamp.java.mentorship.matching.SkillDictionary;
+import com.wcc.bootcamp.java.mentorship.matching.SkillIndex;
+import com.wcc.bootcamp.java.mentorship.matching.SkillMatchRules;
+import com.wcc.bootcamp.java.mentorship.matching.SkillProfile;
+import com.wcc.bootcamp.java.mentorship.matching.ScoringEngine;
+import com.wcc.bootcamp.java.mentorship.matching.StableMatcher;
+import com.wcc.bootcamp.java.mentorship.matching.TopMatchSelector;
 import com.wcc.bootcamp.java.mentorship.model.Match;
 import com.wcc.bootcamp.java.mentorship.model.Mentee;
 import com.wcc.bootcamp.java.mentorship.model.Mentor;
 import com.wcc.bootcamp.java.mentorship.repository.MatchRepository;
 import com.wcc.bootcamp.java.mentorship.repository.MenteeRepository;
+import com.wcc.bootcamp.java.mentorship.repository.MenteeSkillRow;
 import com.wcc.bootcamp.java.mentorship.repository.MentorRepository;
+import com.wcc.bootcamp.java.mentorship.repository.MentorSkillRow;
+import com.wcc.bootcamp.java.mentorship.repository.SkillCatalog;
+import com.wcc.bootcamp.java.mentorship.repository.SkillRow;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Spring-managed service for mentorship matching operations.
@@ -19,32 +50,86 @@ import java.util.stream.Collectors;
 @Service
 @Transactional
 public class MentorshipService {
+    private static final Logger log = LoggerFactory.getLogger(MentorshipService.class);
+    // Key the first page of matches starts before; later than any match date
+    private static final LocalDateTime LATEST_MATCH_DATE = LocalDateTime.of(9999, 12, 31, 0, 0);
+    // Key the first page of mentors and mentees starts after, and the tie-breaker of the first match page
+    private static final UUID FIRST_ID = new UUID(0, 0);
+
     private final MentorRepository mentorRepository;
     private final MenteeRepository menteeRepository;
     private final MatchRepository matchRepository;
     private final EmailService emailService;
+    private final ProfileCacheStatistics profileCacheStatistics;
+    private final SkillCatalog skillCatalog;
+    private final MatchLedger matchLedger;
+    private final SkillIndex skillIndex;
+    private final ScoringEngine scoringEngine;
+    private final ParallelMatchScorer parallelMatchScorer;
+    private final AssignmentEngine assignmentEngine;
+    private final StableMatcher stableMatcher;
+    private volatile boolean skillIndexLoaded;
+    private volatile boolean vocabularyLoaded;
+    private ForkJoinPool matchingPool;
+    private CandidateCache candidateCache;
+    private final StatisticsCounters statistics = new StatisticsCounters();
+
+    // Threads used for all-pairs scoring; 0 means one per available processor
+    @Value("${mentorship.matching.parallelism:0}")
+    private int matchingParallelism;
+
+    // Mentors and mentees whose ranked candidates are cached; 0 disables the cache
+    @Value("${mentorship.matching.cache-size:10000}")
+    private int candidateCacheSize;
+
+    @Value("${mentorship.matching.cache-depth:50}")
+    private int candidateCacheDepth;
+
+    // Seconds after which the dashboard totals are counted again instead of only being updated
+    @Value("${mentorship.statistics.max-age-seconds:300}")
+    private long statisticsMaxAgeSeconds;
+
+    // Events replayed on top of a snapshot after which loading saves a new one; 0 never does
+    @Value("${mentorship.ledger.snapshot-every:10000}")
+    private long ledgerSnapshotEvery;
 
     public MentorshipService(MentorRepository mentorRepository, 
                             MenteeRepository menteeRepository, 
                             MatchRepository matchRepository,
-                            EmailService emailService) {
+                            EmailService emailService,
+                            ProfileCacheStatistics profileCacheStatistics,
+                            SkillCatalog skillCatalog,
+                            MatchLedger matchLedger,
+                            @Value("${mentorship.matching.engine:bitset}") String scoringEngineName) {
         this.mentorRepository = mentorRepository;
         this.menteeRepository = menteeRepository;
         this.matchRepository = matchRepository;
         this.emailService = emailService;
+        this.profileCacheStatistics = profileCacheStatistics;
+        this.skillCatalog = skillCatalog;
+        this.matchLedger = matchLedger;
+        this.skillIndex = new SkillIndex();
+        this.scoringEngine = ScoringEngine.create(scoringEngineName, skillIndex.getDictionary());
+        this.parallelMatchScorer = new ParallelMatchScorer(skillIndex, scoringEngine);
+        this.assignmentEngine = new AssignmentEngine(skillIndex, scoringEngine);
+        this.stableMatcher = new StableMatcher(skillIndex, scoringEngine);
     }
 
     // ==================== Mentor Operations ====================
 
     public Mentor registerMentor(String name, String email, List<String> expertiseAreas, int maxMentees) {
-        List<String> normalizedExpertise = expertiseAreas.stream()
-                .map(String::toLowerCase)
-                .map(String::trim)
-                .filter(s -> !s.isEmpty())
-                .collect(Collectors.toList());
+        List<String> normalizedExpertise = SkillMatchRules.normalizeAll(expertiseAreas);
 
+        skillCatalog.register(normalizedExpertise);
         Mentor mentor = new Mentor(name, email, normalizedExpertise, maxMentees);
-        return mentorRepository.save(mentor);
+        Mentor savedMentor = mentorRepository.save(mentor);
+        matchLedger.append(LedgerEvent.mentorRegistered(savedMentor.getId(), normalizedExpertise, maxMentees));
+        afterCommit(() -> {
+            skillIndex.indexMentor(savedMentor);
+            candidateCache().mentorChanged(savedMentor.getId().toString());
+        });
+        statistics.mentorsAdded(1, savedMentor.canAcceptMoreMentees() ? 1 : 0);
+        return savedMentor;
     }
 
     @Transactional(readOnly = true)
@@ -52,9 +137,16 @@ public class MentorshipService {
         return mentorRepository.findAll();
     }
 
+    /**
+     * Finds a mentor together with its expertise areas. A mentor served from the second-level
+     * cache arrives without them whatever the entity graph asks for, so they are read here,
+     * from the collection cache, while the session is still open.
+     */
     @Transactional(readOnly = true)
-    public Optional<Mentor> findMentorById(String id) {
-        return mentorRepository.findById(id);
+    public Optional<Mentor> findMentorById(UUID id) {
+        Optional<Mentor> mentor = mentorRepository.findById(id);
+        mentor.ifPresent(Mentor::getExpertiseAreas);
+        return mentor;
     }
 
     @Transactional(readOnly = true)
@@ -62,25 +154,39 @@ public class MentorshipService {
         return mentorRepository.findByNameIgnoreCase(name);
     }
 
-    public void deleteMentor(String id) {
-        mentorRepository.findById(id).ifPresent(mentor -> {
-            // Delete all matches involving this mentor first
-            matchRepository.deleteByMentor(mentor);
-            mentorRepository.delete(mentor);
+    /**
+     * Deletes the mentor and its matches, see {@link #offboardCohort(Collection, Collection)}.
+     */
+    public void deleteMentor(UUID id) {
+        offboardCohort(List.of(id), List.of());
+    }
+
+    /**
+     * Makes mentors that a bulk import wrote straight to the database visible to matching.
+     */
+    public void mentorsImported(List<Mentor> mentors) {
+        afterCommit(() -> {
+            mentors.forEach(skillIndex::indexMentor);
+            candidateCache().clearMentorLists();
         });
+        statistics.mentorsAdded(mentors.size(), (int) mentors.stream().filter(Mentor::canAcceptMoreMentees).count());
     }
 
     // ==================== Mentee Operations ====================
 
     public Mentee registerMentee(String name, String email, List<String> learningGoals, String experienceLevel) {
-        List<String> normalizedGoals = learningGoals.stream()
-                .map(String::toLowerCase)
-                .map(String::trim)
-                .filter(s -> !s.isEmpty())
-                .collect(Collectors.toList());
+        List<String> normalizedGoals = SkillMatchRules.normalizeAll(learningGoals);
 
+        skillCatalog.register(normalizedGoals);
         Mentee mentee = new Mentee(name, email, normalizedGoals, experienceLevel);
-        return menteeRepository.save(mentee);
+        Mentee savedMentee = menteeRepository.save(mentee);
+        matchLedger.append(LedgerEvent.menteeRegistered(savedMentee.getId(), normalizedGoals));
+        afterCommit(() -> {
+            skillIndex.indexMentee(savedMentee);
+            candidateCache().menteeChanged(savedMentee.getId().toString());
+        });
+        statistics.menteesAdded(1, savedMentee.isMatched() ? 0 : 1);
+        return savedMentee;
     }
 
     @Transactional(readOnly = true)
@@ -88,9 +194,14 @@ public class MentorshipService {
         return menteeRepository.findAll();
     }
 
+    /**
+     * Finds a mentee together with its learning goals, see {@link #findMentorById(UUID)}.
+     */
     @Transactional(readOnly = true)
-    public Optional<Mentee> findMenteeById(String id) {
-        return menteeRepository.findById(id);
+    public Optional<Mentee> findMenteeById(UUID id) {
+        Optional<Mentee> mentee = menteeRepository.findById(id);
+        mentee.ifPresent(Mentee::getLearningGoals);
+        return mentee;
     }
 
     @Transactional(readOnly = true)
@@ -98,45 +209,134 @@ public class MentorshipService {
         return menteeRepository.findByNameIgnoreCase(name);
     }
 
-    public void deleteMentee(String id) {
-        menteeRepository.findById(id).ifPresent(mentee -> {
-            // Delete all matches involving this mentee first
-            matchRepository.deleteByMentee(mentee);
-            menteeRepository.delete(mentee);
+    /**
+     * Deletes the mentee and its matches, see {@link #offboardCohort(Collection, Collection)}.
+     */
+    public void deleteMentee(UUID id) {
+        offboardCohort(List.of(), List.of(id));
+    }
+
+    /**
+     * Makes mentees that a bulk import wrote straight to the database visible to matching.
+     */
+    public void menteesImported(List<Mentee> mentees) {
+        afterCommit(() -> {
+            mentees.forEach(skillIndex::indexMentee);
+            candidateCache().clearMenteeLists();
+        });
+        statistics.menteesAdded(mentees.size(), (int) mentees.stream().filter(mentee -> !mentee.isMatched()).count());
+    }
+
+    // ==================== Offboarding ====================
+
+    /**
+     * Removes the given mentors and mentees with all their matches using set-based statements:
+     * a fixed number of them however many profiles and matches there are. Mentors that had an
+     * active match with a removed mentee get the slot back, and mentees that had one with a
+     * removed mentor become unmatched. The statements clear the persistence context and evict the
+     * removed and updated profiles from the second-level cache, so no removed or outdated profile
+     * is read afterwards.
+     *
+     * @return the number of mentors and mentees removed
+     */
+    public int offboardCohort(Collection<UUID> mentorIds, Collection<UUID> menteeIds) {
+        Set<UUID> freedMentorIds = new HashSet<>();
+        Set<UUID> freedMenteeIds = new HashSet<>();
+        if (!menteeIds.isEmpty()) {
+            freedMentorIds.addAll(matchRepository.findActiveMentorIds(menteeIds));
+            mentorRepository.releaseSlotsHeldBy(menteeIds);
+        }
+        if (!mentorIds.isEmpty()) {
+            freedMenteeIds.addAll(matchRepository.findActiveMenteeIds(mentorIds));
+            menteeRepository.markUnmatchedByMentors(mentorIds);
+        }
+
+        int removed = 0;
+        if (!mentorIds.isEmpty()) {
+            matchRepository.deleteByMentorIdIn(mentorIds);
+        }
+        if (!menteeIds.isEmpty()) {
+            matchRepository.deleteByMenteeIdIn(menteeIds);
+            removed += menteeRepository.deleteByIdIn(menteeIds);
+        }
+        if (!mentorIds.isEmpty()) {
+            removed += mentorRepository.deleteByIdIn(mentorIds);
+        }
+        List<LedgerEvent> events = new ArrayList<>(mentorIds.size() + menteeIds.size());
+        menteeIds.forEach(id -> events.add(LedgerEvent.menteeRemoved(id)));
+        mentorIds.forEach(id -> events.add(LedgerEvent.mentorRemoved(id)));
+        matchLedger.append(events);
+
+        afterCommit(() -> {
+            mentorIds.forEach(id -> skillIndex.removeMentor(id.toString()));
+            menteeIds.forEach(id -> skillIndex.removeMentee(id.toString()));
+            if (mentorIds.size() == 1) {
+                candidateCache().mentorRemoved(mentorIds.iterator().next().toString());
+            } else if (!mentorIds.isEmpty()) {
+                // Ranking again is cheaper than removing many mentors from every cached list
+                candidateCache().clearMentorLists();
+            }
+            if (menteeIds.size() == 1) {
+                candidateCache().menteeRemoved(menteeIds.iterator().next().toString());
+            } else if (!menteeIds.isEmpty()) {
+                candidateCache().clearMenteeLists();
+            }
         });
+
+        freedMentorIds.removeAll(mentorIds);
+        freedMenteeIds.removeAll(menteeIds);
+        if (!freedMentorIds.isEmpty()) {
+            mentorRepository.findAllById(freedMentorIds).forEach(this::refreshAvailability);
+        }
+        if (!freedMenteeIds.isEmpty()) {
+            menteeRepository.findAllById(freedMenteeIds).forEach(this::refreshAvailability);
+        }
+        statistics.invalidate();
+        return removed;
     }
 
     // ==================== Matching Operations ====================
 
     @Transactional(readOnly = true)
-    public List<Match> findMatchesForMentee(String menteeId) {
+    public List<Match> findMatchesForMentee(UUID menteeId) {
+        return findTopMatchesForMentee(menteeId, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Finds the k best mentors for a mentee, highest score first.
+     * Candidates are ranked on their skill profiles and only the k survivors
+     * are loaded and turned into Match objects.
+     */
+    @Transactional(readOnly = true)
+    public List<Match> findTopMatchesForMentee(UUID menteeId, int k) {
         Optional<Mentee> menteeOpt = findMenteeById(menteeId);
         if (menteeOpt.isEmpty()) {
             return Collections.emptyList();
         }
 
         Mentee mentee = menteeOpt.get();
-        List<Match> potentialMatches = new ArrayList<>();
-
-        for (Mentor mentor : mentorRepository.findAll()) {
-            if (!mentor.canAcceptMoreMentees()) {
-                continue;
-            }
-
-            MatchResult result = calculateMatchScore(mentor, mentee);
-
-            if (result.score > 0) {
-                Match match = new Match(mentor, mentee, result.matchedSkills, result.score);
-                potentialMatches.add(match);
-            }
+        String key = menteeId.toString();
+        CandidateCache cache = candidateCache();
+        List<ScoredPair> ranked = cache.findMentorsForMentee(key, k);
+        if (ranked == null) {
+            int limit = Math.max(k, cache.getDepth());
+            ranked = skillIndexLoaded ? rankMentors(mentee, limit) : queryMentors(mentee, limit);
+            cache.putMentorsForMentee(key, ranked, ranked.size() < limit);
+            ranked = ranked.subList(0, Math.min(k, ranked.size()));
         }
+        return toMatches(ranked, loadMentors(ranked), Map.of(key, mentee));
+    }
 
-        potentialMatches.sort((m1, m2) -> Double.compare(m2.getMatchScore(), m1.getMatchScore()));
-        return potentialMatches;
+    @Transactional(readOnly = true)
+    public List<Match> findMatchesForMentor(UUID mentorId) {
+        return findTopMatchesForMentor(mentorId, Integer.MAX_VALUE);
     }
 
+    /**
+     * Finds the k best unmatched mentees for a mentor, highest score first.
+     */
     @Transactional(readOnly = true)
-    public List<Match> findMatchesForMentor(String mentorId) {
+    public List<Match> findTopMatchesForMentor(UUID mentorId, int k) {
         Optional<Mentor> mentorOpt = findMentorById(mentorId);
         if (mentorOpt.isEmpty()) {
             return Collections.emptyList();
@@ -147,112 +347,320 @@ public class MentorshipService {
             return Collections.emptyList();
         }
 
-        List<Match> potentialMatches = new ArrayList<>();
+        String key = mentorId.toString();
+        CandidateCache cache = candidateCache();
+        List<ScoredPair> ranked = cache.findMenteesForMentor(key, k);
+        if (ranked == null) {
+            int limit = Math.max(k, cache.getDepth());
+            ranked = skillIndexLoaded ? rankMentees(mentor, limit) : queryMentees(mentor, limit);
+            cache.putMenteesForMentor(key, ranked, ranked.size() < limit);
+            ranked = ranked.subList(0, Math.min(k, ranked.size()));
+        }
 
-        for (Mentee mentee : menteeRepository.findAll()) {
-            if (mentee.isMatched()) {
-                continue;
+        Map<String, Mentee> mentees = new HashMap<>();
+        loadMentees(ranked).forEach((menteeId, mentee) -> {
+            if (!mentee.isMatched()) {
+                mentees.put(menteeId, mentee);
             }
+        });
+        return toMatches(ranked, Map.of(key, mentor), mentees);
+    }
 
-            MatchResult result = calculateMatchScore(mentor, mentee);
+    private List<ScoredPair> rankMentors(Mentee mentee, int limit) {
+        SkillProfile menteeProfile = skillIndex.menteeProfile(mentee);
+        String menteeId = mentee.getId().toString();
+        TopMatchSelector selector = new TopMatchSelector(limit);
 
-            if (result.score > 0) {
-                Match match = new Match(mentor, mentee, result.matchedSkills, result.score);
-                potentialMatches.add(match);
+        for (String mentorId : skillIndex.findCandidateMentorIds(menteeProfile)) {
+            SkillProfile mentorProfile = skillIndex.getMentorProfile(mentorId);
+            if (mentorProfile == null) {
+                continue;
             }
-        }
 
-        potentialMatches.sort((m1, m2) -> Double.compare(m2.getMatchScore(), m1.getMatchScore()));
-        return potentialMatches;
+            double score = scoringEngine.score(mentorProfile, menteeProfile);
+            if (score > 0) {
+                selector.offer(mentorId, menteeId, score);
+            }
+        }
+        return selector.results();
     }
 
-    @Transactional(readOnly = true)
-    public List<Match> findAllPotentialMatches() {
-        List<Match> allMatches = new ArrayList<>();
+    private List<ScoredPair> rankMentees(Mentor mentor, int limit) {
+        SkillProfile mentorProfile = skillIndex.mentorProfile(mentor);
+        String mentorId = mentor.getId().toString();
+        TopMatchSelector selector = new TopMatchSelector(limit);
 
-        for (Mentee mentee : menteeRepository.findByIsMatchedFalse()) {
-            allMatches.addAll(findMatchesForMentee(mentee.getId()));
-        }
+        for (String menteeId : skillIndex.findCandidateMenteeIds(mentorProfile)) {
+            SkillProfile menteeProfile = skillIndex.getMenteeProfile(menteeId);
+            if (menteeProfile == null) {
+                continue;
+            }
 
-        // Remove duplicates and sort by score
-        return allMatches.stream()
-                .distinct()
-                .sorted((m1, m2) -> Double.compare(m2.getMatchScore(), m1.getMatchScore()))
-                .collect(Collectors.toList());
+            double score = scoringEngine.score(mentorProfile, menteeProfile);
+            if (score > 0) {
+                selector.offer(mentorId, menteeId, score);
+            }
+        }
+        return selector.results();
     }
 
-    private MatchResult calculateMatchScore(Mentor mentor, Mentee mentee) {
-        List<String> matchedSkills = new ArrayList<>();
-        List<String> mentorExpertise = mentor.getExpertiseAreas();
-        List<String> menteeGoals = mentee.getLearningGoals();
+    /**
+     * Ranks mentors through a candidate query while the skill index is not fully loaded.
+     * The database returns only mentors with spare capacity and an expertise area related to
+     * the mentee's goals. The mentee and the returned mentors are added to the index, so that
+     * cached candidate lists built from the result are kept up to date like any other.
+     */
+    private List<ScoredPair> queryMentors(Mentee mentee, int limit) {
+        ensureVocabularyLoaded();
+        String menteeId = mentee.getId().toString();
+        if (skillIndex.getMenteeProfile(menteeId) == null) {
+            skillIndex.indexMentee(mentee);
+        }
+        SkillProfile menteeProfile = skillIndex.menteeProfile(mentee);
+        List<String> relatedSkills = skillIndex.getDictionary().relatedSkills(menteeProfile);
+        TopMatchSelector selector = new TopMatchSelector(limit);
+        if (relatedSkills.isEmpty()) {
+            return selector.results();
+        }
 
-        for (String goal : menteeGoals) {
-            for (String expertise : mentorExpertise) {
-                if (isSkillMatch(expertise, goal)) {
-                    if (!matchedSkills.contains(goal)) {
-                        matchedSkills.add(goal);
-                    }
+        try (Stream<MentorSkillRow> rows = mentorRepository.streamAvailableSkillRowsWithAny(relatedSkills)) {
+            SkillRow.group(rows, (row, expertiseAreas) -> {
+                String mentorId = row.getMentorId().toString();
+                skillIndex.indexMentor(mentorId, expertiseAreas, true);
+                double score = scoringEngine.score(skillIndex.getMentorProfile(mentorId), menteeProfile);
+                if (score > 0) {
+                    selector.offer(mentorId, menteeId, score);
                 }
-            }
+            });
         }
+        return selector.results();
+    }
 
-        double score = menteeGoals.isEmpty() ? 0 :
-                (double) matchedSkills.size() / menteeGoals.size();
+    /**
+     * Ranks unmatched mentees through a candidate query while the skill index is not fully loaded.
+     */
+    private List<ScoredPair> queryMentees(Mentor mentor, int limit) {
+        ensureVocabularyLoaded();
+        String mentorId = mentor.getId().toString();
+        if (skillIndex.getMentorProfile(mentorId) == null) {
+            skillIndex.indexMentor(mentor);
+        }
+        SkillProfile mentorProfile = skillIndex.mentorProfile(mentor);
+        List<String> relatedSkills = skillIndex.getDictionary().relatedSkills(mentorProfile);
+        TopMatchSelector selector = new TopMatchSelector(limit);
+        if (relatedSkills.isEmpty()) {
+            return selector.results();
+        }
 
-        return new MatchResult(score, matchedSkills);
+        try (Stream<MenteeSkillRow> rows = menteeRepository.streamUnmatchedSkillRowsWithAny(relatedSkills)) {
+            SkillRow.group(rows, (row, learningGoals) -> {
+                String menteeId = row.getMenteeId().toString();
+                skillIndex.indexMentee(menteeId, learningGoals, true);
+                double score = scoringEngine.score(mentorProfile, skillIndex.getMenteeProfile(menteeId));
+                if (score > 0) {
+                    selector.offer(mentorId, menteeId, score);
+                }
+            });
+        }
+        return selector.results();
     }
 
-    private boolean isSkillMatch(String skill1, String skill2) {
-        String s1 = skill1.toLowerCase().trim();
-        String s2 = skill2.toLowerCase().trim();
+    @Transactional(readOnly = true)
+    public List<Match> findAllPotentialMatches() {
+        return findTopPotentialMatches(Integer.MAX_VALUE);
+    }
 
-        if (s1.equals(s2)) {
-            return true;
-        }
+    /**
+     * Finds the k best pairs across all unmatched mentees, highest score first.
+     * Unmatched mentees are read as projection rows and scored in parallel against the
+     * in-memory mentor profiles; only the mentors and mentees of the k survivors are loaded
+     * as entities afterwards.
+     */
+    @Transactional(readOnly = true)
+    public List<Match> findTopPotentialMatches(int k) {
+        ensureSkillIndexLoaded();
+        List<String> menteeIds = new ArrayList<>();
+        List<SkillProfile> menteeProfiles = new ArrayList<>();
+        readUnmatchedMentees(menteeIds, menteeProfiles);
+
+        List<ScoredPair> ranked = parallelMatchScorer.findTopPairs(menteeIds, menteeProfiles, k, matchingPool());
+        return toMatches(ranked, loadMentors(ranked), loadMentees(ranked));
+    }
 
-        if (s1.contains(s2) || s2.contains(s1)) {
-            return true;
+    /**
+     * Collects the IDs and skill profiles of all unmatched mentees without loading Mentee entities.
+     */
+    private void readUnmatchedMentees(List<String> menteeIds, List<SkillProfile> menteeProfiles) {
+        try (Stream<MenteeSkillRow> rows = menteeRepository.streamUnmatchedSkillRows()) {
+            SkillRow.group(rows, (row, learningGoals) -> {
+                String menteeId = row.getMenteeId().toString();
+                menteeIds.add(menteeId);
+                menteeProfiles.add(skillIndex.menteeProfile(menteeId, learningGoals));
+            });
         }
+    }
 
-        Set<String> words1 = new HashSet<>(Arrays.asList(s1.split("\\s+")));
-        Set<String> words2 = new HashSet<>(Arrays.asList(s2.split("\\s+")));
-
-        for (String word : words1) {
-            if (word.length() > 2 && words2.contains(word)) {
-                return true;
+    /**
+     * Builds Match objects for ranked pairs, skipping mentors that have filled up since they were indexed.
+     */
+    private List<Match> toMatches(List<ScoredPair> ranked, Map<String, Mentor> mentors, Map<String, Mentee> mentees) {
+        List<Match> matches = new ArrayList<>(ranked.size());
+        for (ScoredPair pair : ranked) {
+            Mentor mentor = mentors.get(pair.getMentorId());
+            Mentee mentee = mentees.get(pair.getMenteeId());
+            if (mentor == null || mentee == null || !mentor.canAcceptMoreMentees()) {
+                continue;
             }
+
+            List<String> matchedSkills = scoringEngine.matchedSkills(
+                    skillIndex.mentorProfile(mentor), skillIndex.menteeProfile(mentee));
+            matches.add(new Match(mentor, mentee, matchedSkills, pair.getScore()));
         }
+        return matches;
+    }
 
-        return false;
+    /**
+     * Loads the mentors of the pairs, keyed by the string form of their ID like the pairs are.
+     */
+    private Map<String, Mentor> loadMentors(List<ScoredPair> pairs) {
+        Set<UUID> ids = new LinkedHashSet<>();
+        pairs.forEach(pair -> ids.add(UUID.fromString(pair.getMentorId())));
+        if (ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return mentorRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(mentor -> mentor.getId().toString(), mentor -> mentor));
     }
 
-    public Match createMatch(String mentorId, String menteeId) {
-        Optional<Mentor> mentorOpt = findMentorById(mentorId);
-        Optional<Mentee> menteeOpt = findMenteeById(menteeId);
+    private Map<String, Mentee> loadMentees(List<ScoredPair> pairs) {
+        Set<UUID> ids = new LinkedHashSet<>();
+        pairs.forEach(pair -> ids.add(UUID.fromString(pair.getMenteeId())));
+        if (ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return menteeRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(mentee -> mentee.getId().toString(), mentee -> mentee));
+    }
 
-        if (mentorOpt.isEmpty() || menteeOpt.isEmpty()) {
-            throw new IllegalArgumentException("Mentor or Mentee not found");
+    /**
+     * Creates and activates a match. The mentor's slot and the mentee are taken with conditional
+     * updates before anything is read, so concurrent requests cannot overbook the mentor or
+     * match the mentee twice; a request that finds no slot left fails and is rolled back.
+     */
+    public Match createMatch(UUID mentorId, UUID menteeId) {
+        if (mentorRepository.reserveSlot(mentorId) == 0) {
+            throw new IllegalArgumentException(mentorRepository.existsById(mentorId)
+                    ? "Mentor has no free mentee slots" : "Mentor or Mentee not found");
+        }
+        if (menteeRepository.markMatched(menteeId) == 0) {
+            throw new IllegalArgumentException(menteeRepository.existsById(menteeId)
+                    ? "Mentee is already matched" : "Mentor or Mentee not found");
         }
 
-        Mentor mentor = mentorOpt.get();
-        Mentee mentee = menteeOpt.get();
+        // Loaded after the updates, so they already carry the new count and flag
+        Mentor mentor = findMentorById(mentorId).orElseThrow();
+        Mentee mentee = findMenteeById(menteeId).orElseThrow();
 
-        MatchResult result = calculateMatchScore(mentor, mentee);
-        Match match = new Match(mentor, mentee, result.matchedSkills, result.score);
-        match.activate();
-        
-        // Save updated mentor and mentee counts
-        mentorRepository.save(mentor);
-        menteeRepository.save(mentee);
+        MatchScore result = scoringEngine.evaluate(skillIndex.mentorProfile(mentor), skillIndex.menteeProfile(mentee));
+        Match match = new Match(mentor, mentee, result.getMatchedSkills(), result.getScore());
+        match.setStatus(Match.MatchStatus.ACTIVE);
+        refreshAvailability(mentor);
+        refreshAvailability(mentee);
+        statistics.matchActivated(!mentor.canAcceptMoreMentees());
         
         Match savedMatch = matchRepository.save(match);
-        
+        matchLedger.append(LedgerEvent.matched(savedMatch.getId(), mentorId, menteeId));
+
         // Send email notifications to both mentor and mentee
         emailService.sendMatchNotification(savedMatch);
         
         return savedMatch;
     }
 
+    /**
+     * Matches as many unmatched mentees as possible in one batch, choosing the pairs with the
+     * highest total score while respecting each mentor's remaining capacity.
+     */
+    public List<Match> autoAssignMatches() {
+        return assignUnmatchedMentees(assignmentEngine);
+    }
+
+    /**
+     * Matches unmatched mentees with capacitated deferred acceptance, so that no mentee and
+     * mentor would both prefer each other over the pairs they end up with.
+     */
+    public List<Match> stableMatchMentees() {
+        return assignUnmatchedMentees(stableMatcher);
+    }
+
+    /**
+     * Assigns unmatched mentees from projection rows; only the assigned mentors and mentees
+     * are loaded as entities to be updated.
+     */
+    private List<Match> assignUnmatchedMentees(CohortAssigner assigner) {
+        ensureSkillIndexLoaded();
+        List<String> menteeIds = new ArrayList<>();
+        List<SkillProfile> menteeProfiles = new ArrayList<>();
+        readUnmatchedMentees(menteeIds, menteeProfiles);
+
+        Map<String, Integer> capacities = new LinkedHashMap<>();
+        try (Stream<MentorSkillRow> rows = mentorRepository.streamAvailableSkillRows()) {
+            SkillRow.group(rows, (row, expertiseAreas) ->
+                    capacities.put(row.getMentorId().toString(), row.getRemainingCapacity()));
+        }
+
+        List<ScoredPair> assigned = assigner.assign(menteeIds, menteeProfiles, capacities, matchingPool());
+        return createMatches(assigned, loadMentors(assigned), loadMentees(assigned));
+    }
+
+    /**
+     * Activates and saves a batch of matches. Each pair takes its mentor slot and mentee with the
+     * same conditional updates as {@link #createMatch}; pairs whose mentor filled up or whose
+     * mentee was matched since the cohort was read are left out.
+     */
+    private List<Match> createMatches(List<ScoredPair> pairs, Map<String, Mentor> mentors,
+                                      Map<String, Mentee> mentees) {
+        if (pairs.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Match> matches = new ArrayList<>(pairs.size());
+        Map<UUID, Mentor> changedMentors = new LinkedHashMap<>();
+        List<Mentee> changedMentees = new ArrayList<>(pairs.size());
+        for (ScoredPair pair : pairs) {
+            Mentor mentor = mentors.get(pair.getMentorId());
+            Mentee mentee = mentees.get(pair.getMenteeId());
+            if (mentorRepository.reserveSlot(mentor.getId()) == 0) {
+                continue;
+            }
+            if (menteeRepository.markMatched(mentee.getId()) == 0) {
+                mentorRepository.releaseSlot(mentor.getId());
+                continue;
+            }
+
+            List<String> matchedSkills = scoringEngine.matchedSkills(
+                    skillIndex.mentorProfile(mentor), skillIndex.menteeProfile(mentee));
+
+            Match match = new Match(mentor, mentee, matchedSkills, pair.getScore());
+            // The database is already updated; this updates the copies the reservations detached
+            match.activate();
+            matches.add(match);
+            changedMentors.put(mentor.getId(), mentor);
+            changedMentees.add(mentee);
+            statistics.matchActivated(!mentor.canAcceptMoreMentees());
+        }
+
+        List<Match> savedMatches = matchRepository.saveAll(matches);
+        matchLedger.append(savedMatches.stream()
+                .map(match -> LedgerEvent.matched(match.getId(), match.getMentor().getId(), match.getMentee().getId()))
+                .toList());
+        changedMentors.values().forEach(this::refreshAvailability);
+        changedMentees.forEach(this::refreshAvailability);
+
+        savedMatches.forEach(emailService::sendMatchNotification);
+        return savedMatches;
+    }
+
     @Transactional(readOnly = true)
     public List<Match> getActiveMatches() {
         return matchRepository.findByStatus(Match.MatchStatus.ACTIVE);
@@ -263,40 +671,333 @@ public class MentorshipService {
         return matchRepository.findAll();
     }
 
-    public void cancelMatch(String matchId) {
+    /**
+     * Returns the most recently created active matches, newest first.
+     */
+    @Transactional(readOnly = true)
+    public List<Match> getRecentMatches(int limit) {
+        return matchRepository.findByStatusOrderByMatchDateDescIdDesc(Match.MatchStatus.ACTIVE, Limit.of(limit));
+    }
+
+    // ==================== Paginated Listing ====================
+
+    /**
+     * Returns the mentors following the given name and ID in name order, or the first page
+     * if there is no cursor. A blank skill lists mentors with any expertise.
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<Mentor> listMentors(String skill, String afterName, UUID afterId, int size) {
+        String filter = skillFilter(skill);
+        if (isUnknownSkill(filter)) {
+            return new KeysetPage<>(Collections.emptyList(), false);
+        }
+        String name = Objects.requireNonNullElse(afterName, "");
+        UUID id = Objects.requireNonNullElse(afterId, FIRST_ID);
+        List<UUID> ids = filter == null
+                ? mentorRepository.findIdsAfter(name, id, Limit.of(size + 1))
+                : mentorRepository.findIdsWithExpertiseAfter(name, id, filter, Limit.of(size + 1));
+        return toPage(ids, size, mentorRepository::findByIdIn, Mentor::getId);
+    }
+
+    /**
+     * Returns the mentees following the given name and ID in name order, or the first page
+     * if there is no cursor. A null match flag and a blank skill do not filter.
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<Mentee> listMentees(Boolean matched, String skill, String afterName, UUID afterId,
+                                          int size) {
+        String filter = skillFilter(skill);
+        if (isUnknownSkill(filter)) {
+            return new KeysetPage<>(Collections.emptyList(), false);
+        }
+        String name = Objects.requireNonNullElse(afterName, "");
+        UUID id = Objects.requireNonNullElse(afterId, FIRST_ID);
+        Limit limit = Limit.of(size + 1);
+        // One query per combination of filters, so each gets a plan for the filters it has
+        List<UUID> ids;
+        if (filter == null) {
+            ids = matched == null
+                    ? menteeRepository.findIdsAfter(name, id, limit)
+                    : menteeRepository.findIdsWithMatchStatusAfter(name, id, matched, limit);
+        } else {
+            ids = matched == null
+                    ? menteeRepository.findIdsWithGoalAfter(name, id, filter, limit)
+                    : menteeRepository.findIdsWithGoalAndMatchStatusAfter(name, id, matched, filter, limit);
+        }
+        return toPage(ids, size, menteeRepository::findByIdIn, Mentee::getId);
+    }
+
+    /**
+     * Returns the matches preceding the given date and ID, newest first, or the first page
+     * if there is no cursor. A null status lists matches in any status.
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<Match> listMatches(Match.MatchStatus status, LocalDateTime beforeDate, UUID beforeId,
+                                         int size) {
+        boolean first = beforeDate == null || beforeId == null;
+        LocalDateTime date = first ? LATEST_MATCH_DATE : beforeDate;
+        UUID id = first ? FIRST_ID : beforeId;
+        List<UUID> ids = status == null
+                ? matchRepository.findIdsBefore(date, id, Limit.of(size + 1))
+                : matchRepository.findIdsWithStatusBefore(date, id, status, Limit.of(size + 1));
+        return toPage(ids, size, matchRepository::findByIdIn, Match::getId);
+    }
+
+    /**
+     * Loads the entities of one page of IDs, fetched one beyond the page size to tell
+     * whether another page follows, and returns them in the order of the IDs.
+     */
+    private static <T> KeysetPage<T> toPage(List<UUID> ids, int size,
+                                            Function<List<UUID>, List<T>> loader,
+                                            Function<T, UUID> idOf) {
+        boolean hasNext = ids.size() > size;
+        List<UUID> pageIds = hasNext ? ids.subList(0, size) : ids;
+        if (pageIds.isEmpty()) {
+            return new KeysetPage<>(Collections.emptyList(), false);
+        }
+
+        Map<UUID, T> byId = new HashMap<>();
+        for (T item : loader.apply(pageIds)) {
+            byId.put(idOf.apply(item), item);
+        }
+        List<T> items = new ArrayList<>(pageIds.size());
+        for (UUID id : pageIds) {
+            T item = byId.get(id);
+            if (item != null) {
+                items.add(item);
+            }
+        }
+        return new KeysetPage<>(items, hasNext);
+    }
+
+    private static String skillFilter(String skill) {
+        return skill == null || skill.isBlank() ? null : SkillMatchRules.normalize(skill);
+    }
+
+    /**
+     * A skill no profile has ever had matches nothing. Checked before querying, since binding
+     * an unknown skill name would store it as a new skill.
+     */
+    private boolean isUnknownSkill(String filter) {
+        return filter != null && !skillCatalog.contains(filter);
+    }
+
+    /**
+     * Cancels the match and, if it was active, gives the slot back to the mentor and frees the
+     * mentee with relative updates, so matches created meanwhile are not overwritten.
+     */
+    public void cancelMatch(UUID matchId) {
         matchRepository.findById(matchId).ifPresent(match -> {
-            match.cancel();
-            // Save updated mentor and mentee counts
-            mentorRepository.save(match.getMentor());
-            menteeRepository.save(match.getMentee());
-            matchRepository.save(match);
+            Match.MatchStatus status = match.getStatus();
+            if (status == Match.MatchStatus.CANCELLED) {
+                return; // nothing to change or record
+            }
+            if (matchRepository.updateStatus(matchId, status, Match.MatchStatus.CANCELLED, LocalDateTime.now()) == 0) {
+                return; // changed by a concurrent request
+            }
+            match.setStatus(Match.MatchStatus.CANCELLED);
+            UUID mentorId = match.getMentor().getId();
+            UUID menteeId = match.getMentee().getId();
+            if (status == Match.MatchStatus.ACTIVE) {
+                mentorRepository.releaseSlot(mentorId);
+                menteeRepository.markUnmatched(menteeId);
+                findMentorById(mentorId).ifPresent(mentor -> {
+                    refreshAvailability(mentor);
+                    statistics.matchEnded(mentor.getCurrentMenteeCount() == mentor.getMaxMentees() - 1);
+                });
+                findMenteeById(menteeId).ifPresent(this::refreshAvailability);
+            }
+            // Recorded after the profile updates, as everywhere: the ledger's lock is taken last
+            matchLedger.append(LedgerEvent.cancelled(matchId, mentorId, menteeId));
+        });
+    }
+
+    /**
+     * Updates whether the mentor is offered as a candidate, in the index and in cached candidate
+     * lists, once the transaction has committed.
+     */
+    private void refreshAvailability(Mentor mentor) {
+        String mentorId = mentor.getId().toString();
+        afterCommit(() -> {
+            if (skillIndex.getMentorProfile(mentorId) == null) {
+                // Not indexed yet while the index is partial; cached candidate lists still need to see it
+                skillIndex.indexMentor(mentor);
+            } else {
+                skillIndex.updateMentorCapacity(mentor);
+            }
+            candidateCache().mentorChanged(mentorId);
         });
     }
 
-    // Helper class for match calculation
-    private static class MatchResult {
-        final double score;
-        final List<String> matchedSkills;
+    private void refreshAvailability(Mentee mentee) {
+        String menteeId = mentee.getId().toString();
+        afterCommit(() -> {
+            if (skillIndex.getMenteeProfile(menteeId) == null) {
+                skillIndex.indexMentee(mentee);
+            } else {
+                skillIndex.updateMenteeStatus(mentee);
+            }
+            candidateCache().menteeChanged(menteeId);
+        });
+    }
+
+    /**
+     * Runs a change to the skill index or the candidate cache once the current transaction has
+     * committed, so matching never offers a profile or slot that is rolled back; without a
+     * transaction it runs at once.
+     */
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    private synchronized CandidateCache candidateCache() {
+        if (candidateCache == null) {
+            candidateCache = new CandidateCache(skillIndex, scoringEngine, candidateCacheSize, candidateCacheDepth);
+        }
+        return candidateCache;
+    }
+
+    private synchronized ForkJoinPool matchingPool() {
+        if (matchingPool == null) {
+            int parallelism = matchingParallelism > 0
+                    ? matchingParallelism
+                    : Runtime.getRuntime().availableProcessors();
+            matchingPool = new ForkJoinPool(parallelism);
+        }
+        return matchingPool;
+    }
+
+    @PreDestroy
+    synchronized void shutdownMatchingPool() {
+        if (matchingPool != null) {
+            matchingPool.shutdown();
+        }
+    }
+
+    /**
+     * Builds the in-memory skill index the first time all profiles are needed. The profiles are
+     * replayed from the latest ledger snapshot and the events after it rather than scanned from
+     * the tables. Until then single-profile lookups use candidate queries. Afterwards the index
+     * is kept up to date by registration, deletion and match changes.
+     */
+    private void ensureSkillIndexLoaded() {
+        if (skillIndexLoaded) {
+            return;
+        }
+        synchronized (skillIndex) {
+            if (!skillIndexLoaded) {
+                LedgerState state = loadLedgerState();
+                state.getMentors().forEach(mentor -> skillIndex.indexMentor(
+                        mentor.getId().toString(), mentor.getSkills(), mentor.canAcceptMoreMentees()));
+                state.getMentees().forEach(mentee -> skillIndex.indexMentee(
+                        mentee.getId().toString(), mentee.getSkills(), !mentee.isMatched()));
+                statistics.reload(state.getMentorCount(), state.getAvailableMentorCount(), state.getMenteeCount(),
+                        state.getUnmatchedMenteeCount(), state.getActiveMatchCount(), System.currentTimeMillis());
+                skillIndexLoaded = true;
+            }
+        }
+    }
 
-        MatchResult(double score, List<String> matchedSkills) {
-            this.score = score;
-            this.matchedSkills = matchedSkills;
+    /**
+     * Rebuilds the ledger state and checks it against the tables, see
+     * {@link #agreesWithTables(LedgerState)}. Should they differ, for example after profiles were
+     * changed outside the application, the state is read from the tables instead and saved as a
+     * snapshot, so the next start replays from there.
+     */
+    private LedgerState loadLedgerState() {
+        LedgerState state = matchLedger.rebuild();
+        if (agreesWithTables(state)) {
+            if (ledgerSnapshotEvery > 0 && state.getSequence() - state.getSnapshotSequence() >= ledgerSnapshotEvery) {
+                matchLedger.saveSnapshot(state);
+            }
+            return state;
+        }
+
+        log.warn("Match ledger does not agree with the tables at event {}; reading profiles from the tables",
+                state.getSequence());
+        // Taken before reading, so events recorded meanwhile are replayed again rather than missed
+        long sequence = matchLedger.lastSequence();
+        LedgerState scanned = new LedgerState();
+        try (Stream<MentorSkillRow> rows = mentorRepository.streamSkillRows()) {
+            SkillRow.group(rows, (row, expertiseAreas) ->
+                    scanned.putMentor(row.getMentorId(), expertiseAreas, row.getMaxMentees(), 0));
+        }
+        try (Stream<MenteeSkillRow> rows = menteeRepository.streamSkillRows()) {
+            SkillRow.group(rows, (row, learningGoals) -> scanned.putMentee(row.getMenteeId(), learningGoals, false));
+        }
+        // Mentee counts and match flags follow from the active matches, as they do in the ledger
+        for (Match match : matchRepository.findByStatus(Match.MatchStatus.ACTIVE)) {
+            scanned.putActiveMatch(match.getId(), match.getMentor().getId(), match.getMentee().getId());
+        }
+        scanned.setSequence(sequence);
+        matchLedger.saveSnapshot(scanned);
+        return scanned;
+    }
+
+    /**
+     * Returns whether the state has replayed every recorded event and adds up to the same
+     * totals as the tables: mentors, available mentors and taken mentee slots, mentees,
+     * unmatched mentees and active matches. Only aggregates are read, so the check costs a few
+     * index scans however many profiles there are.
+     */
+    private boolean agreesWithTables(LedgerState state) {
+        long takenSlots = state.getMentors().stream().mapToLong(LedgerState.MentorEntry::getCurrentMentees).sum();
+        return state.getMentorCount() == mentorRepository.count()
+                && state.getAvailableMentorCount() == mentorRepository.countAvailable()
+                && takenSlots == mentorRepository.sumCurrentMenteeCounts()
+                && state.getMenteeCount() == menteeRepository.count()
+                && state.getUnmatchedMenteeCount() == menteeRepository.countByIsMatchedFalse()
+                && state.getActiveMatchCount() == matchRepository.countByStatus(Match.MatchStatus.ACTIVE)
+                && state.getSequence() == matchLedger.lastSequence();
+    }
+
+    /**
+     * Interns every stored skill into the dictionary, so that candidate queries can be expanded
+     * to related skills before the index is loaded. Only the distinct skill strings are read.
+     */
+    private void ensureVocabularyLoaded() {
+        if (vocabularyLoaded) {
+            return;
+        }
+        synchronized (skillIndex) {
+            if (!vocabularyLoaded) {
+                SkillDictionary dictionary = skillIndex.getDictionary();
+                mentorRepository.findDistinctExpertiseAreas().forEach(dictionary::intern);
+                menteeRepository.findDistinctLearningGoals().forEach(dictionary::intern);
+                vocabularyLoaded = true;
+            }
         }
     }
 
     // ==================== Statistics ====================
 
+    /**
+     * Returns the dashboard totals. They are kept up to date as profiles and matches change and
+     * only counted in the database when they are stale or older than the configured maximum age.
+     * The hit counts of the candidate cache and of the second-level profile cache are included.
+     */
     @Transactional(readOnly = true)
     public Map<String, Object> getStatistics() {
-        Map<String, Object> stats = new HashMap<>();
-        List<Mentor> allMentors = mentorRepository.findAll();
-        List<Mentee> allMentees = menteeRepository.findAll();
-        
-        stats.put("totalMentors", allMentors.size());
-        stats.put("totalMentees", allMentees.size());
-        stats.put("activeMatches", getActiveMatches().size());
-        stats.put("availableMentors", allMentors.stream().filter(Mentor::canAcceptMoreMentees).count());
-        stats.put("unmatchedMentees", allMentees.stream().filter(m -> !m.isMatched()).count());
+        long now = System.currentTimeMillis();
+        if (statistics.needsReload(now, statisticsMaxAgeSeconds * 1000)) {
+            statistics.reload(mentorRepository.count(), mentorRepository.countAvailable(),
+                    menteeRepository.count(), menteeRepository.countByIsMatchedFalse(),
+                    matchRepository.countByStatus(Match.MatchStatus.ACTIVE), now);
+        }
+
+        Map<String, Object> stats = statistics.snapshot();
+        stats.put("candidateCacheHits", candidateCache().getHitCount());
+        stats.put("candidateCacheMisses", candidateCache().getMissCount());
+        stats.putAll(profileCacheStatistics.snapshot());
         return stats;
     }
 }
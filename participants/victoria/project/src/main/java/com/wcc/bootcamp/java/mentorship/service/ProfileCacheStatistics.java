@@ -0,0 +1,50 @@
+package com.wcc.bootcamp.java.mentorship.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hit and miss counts of the second-level cache regions holding mentor and mentee profiles,
+ * read from the Hibernate statistics (hibernate.generate_statistics).
+ */
+@Service
+public class ProfileCacheStatistics {
+    // Entity and skill list regions named on the Mentor and Mentee mappings
+    private static final List<String> PROFILE_REGIONS =
+            List.of("mentors", "mentor_skills", "mentees", "mentee_skills");
+
+    private final Statistics statistics;
+
+    public ProfileCacheStatistics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * Returns the hits, misses and hit ratio of the profile regions together, and the
+     * hits and misses of the query cache.
+     */
+    public Map<String, Object> snapshot() {
+        long hits = 0;
+        long misses = 0;
+        for (String region : PROFILE_REGIONS) {
+            CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+            hits += regionStatistics.getHitCount();
+            misses += regionStatistics.getMissCount();
+        }
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("profileCacheHits", hits);
+        stats.put("profileCacheMisses", misses);
+        stats.put("profileCacheHitRatio", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+        stats.put("queryCacheHits", statistics.getQueryCacheHitCount());
+        stats.put("queryCacheMisses", statistics.getQueryCacheMissCount());
+        return stats;
+    }
+}
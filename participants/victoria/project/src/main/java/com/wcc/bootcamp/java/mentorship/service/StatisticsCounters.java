@@ -0,0 +1,118 @@
+package com.wcc.bootcamp.java.mentorship.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Running totals behind the dashboard statistics.
+ *
+ * The totals are read with count queries once and then kept up to date as profiles and matches
+ * change, so reading them costs the same however many rows there are. Changes are applied when
+ * the surrounding transaction commits, so rolled-back work is never counted. Changes whose effect
+ * is not known exactly, such as deletes, mark the totals stale instead. Stale totals, and totals
+ * older than the maximum age, are read again on the next request, which also corrects any drift.
+ */
+class StatisticsCounters {
+    private long totalMentors;
+    private long availableMentors;
+    private long totalMentees;
+    private long unmatchedMentees;
+    private long activeMatches;
+    private long loadedAtMillis;
+    private boolean stale = true;
+
+    synchronized boolean needsReload(long nowMillis, long maxAgeMillis) {
+        return stale || nowMillis - loadedAtMillis > maxAgeMillis;
+    }
+
+    synchronized void reload(long totalMentors, long availableMentors, long totalMentees,
+                             long unmatchedMentees, long activeMatches, long nowMillis) {
+        this.totalMentors = totalMentors;
+        this.availableMentors = availableMentors;
+        this.totalMentees = totalMentees;
+        this.unmatchedMentees = unmatchedMentees;
+        this.activeMatches = activeMatches;
+        this.loadedAtMillis = nowMillis;
+        this.stale = false;
+    }
+
+    synchronized Map<String, Object> snapshot() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("totalMentors", totalMentors);
+        stats.put("totalMentees", totalMentees);
+        stats.put("activeMatches", activeMatches);
+        stats.put("availableMentors", availableMentors);
+        stats.put("unmatchedMentees", unmatchedMentees);
+        return stats;
+    }
+
+    // ==================== Changes ====================
+
+    void mentorsAdded(int count, int available) {
+        afterCommit(() -> {
+            totalMentors += count;
+            availableMentors += available;
+        });
+    }
+
+    void menteesAdded(int count, int unmatched) {
+        afterCommit(() -> {
+            totalMentees += count;
+            unmatchedMentees += unmatched;
+        });
+    }
+
+    /**
+     * Counts a new active match.
+     *
+     * @param mentorFilled whether the match took the mentor's last free slot
+     */
+    void matchActivated(boolean mentorFilled) {
+        afterCommit(() -> {
+            activeMatches++;
+            unmatchedMentees--;
+            if (mentorFilled) {
+                availableMentors--;
+            }
+        });
+    }
+
+    /**
+     * Counts an active match that was cancelled.
+     *
+     * @param mentorFreed whether the mentor was full before the match ended
+     */
+    void matchEnded(boolean mentorFreed) {
+        afterCommit(() -> {
+            activeMatches--;
+            unmatchedMentees++;
+            if (mentorFreed) {
+                availableMentors++;
+            }
+        });
+    }
+
+    void invalidate() {
+        afterCommit(() -> stale = true);
+    }
+
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(change);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(change);
+            }
+        });
+    }
+
+    private synchronized void apply(Runnable change) {
+        change.run();
+    }
+}
@@ -0,0 +1,11 @@
+-- Indexes added before the migrations existed, when Hibernate still created them from the
+-- entities. A database baselined at version 1 may already have them, hence IF NOT EXISTS.
+
+-- Keyset pages of the mentor, mentee and match lists
+CREATE INDEX IF NOT EXISTS idx_mentor_name ON mentors (name, id);
+CREATE INDEX IF NOT EXISTS idx_mentee_name ON mentees (name, id);
+CREATE INDEX IF NOT EXISTS idx_match_date ON matches (match_date, id);
+
+-- Candidate queries by skill; replaced by the skill ID indexes in V4
+CREATE INDEX IF NOT EXISTS idx_mentor_expertise ON mentor_expertise (expertise, mentor_id);
+CREATE INDEX IF NOT EXISTS idx_mentee_goal ON mentee_goals (goal, mentee_id);
@@ -0,0 +1,50 @@
+-- Schema as Hibernate (ddl-auto=update) created it before migrations were introduced.
+-- Databases that already have these tables are baselined at this version and skip it.
+
+CREATE TABLE mentors (
+    id                   UUID NOT NULL,
+    name                 VARCHAR(255),
+    email                VARCHAR(255),
+    max_mentees          INTEGER NOT NULL,
+    current_mentee_count INTEGER NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE mentor_expertise (
+    mentor_id UUID NOT NULL,
+    expertise VARCHAR(255),
+    CONSTRAINT fk_mentor_expertise_mentor FOREIGN KEY (mentor_id) REFERENCES mentors (id)
+);
+
+CREATE TABLE mentees (
+    id               UUID NOT NULL,
+    name             VARCHAR(255),
+    email            VARCHAR(255),
+    experience_level VARCHAR(255),
+    is_matched       BOOLEAN NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE mentee_goals (
+    mentee_id UUID NOT NULL,
+    goal      VARCHAR(255),
+    CONSTRAINT fk_mentee_goals_mentee FOREIGN KEY (mentee_id) REFERENCES mentees (id)
+);
+
+CREATE TABLE matches (
+    id          UUID NOT NULL,
+    mentor_id   UUID,
+    mentee_id   UUID,
+    match_score DOUBLE PRECISION NOT NULL,
+    match_date  TIMESTAMP(6),
+    status      ENUM ('PENDING', 'ACTIVE', 'COMPLETED', 'CANCELLED'),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_matches_mentor FOREIGN KEY (mentor_id) REFERENCES mentors (id),
+    CONSTRAINT fk_matches_mentee FOREIGN KEY (mentee_id) REFERENCES mentees (id)
+);
+
+CREATE TABLE match_skills (
+    match_id UUID NOT NULL,
+    skill    VARCHAR(255),
+    CONSTRAINT fk_match_skills_match FOREIGN KEY (match_id) REFERENCES matches (id)
+);
@@ -0,0 +1,13 @@
+-- One index per repository filter that used to scan a whole table.
+-- Skill lookups use idx_mentor_expertise and idx_mentee_goal from V1.1, and collections are
+-- loaded by owner through the indexes H2 creates for every foreign key.
+
+-- findByStatus, and the match list filtered by status (newest first)
+CREATE INDEX idx_match_status ON matches (status, match_date, id);
+
+-- findByMentor[AndStatus], deleteByMentor and the matching mentee-side queries
+CREATE INDEX idx_match_mentor ON matches (mentor_id, status);
+CREATE INDEX idx_match_mentee ON matches (mentee_id, status);
+
+-- findByIsMatchedFalse and the unmatched skill row streams (ordered by id)
+CREATE INDEX idx_mentee_matched ON mentees (is_matched, id);
@@ -0,0 +1,24 @@
+-- Cold storage for COMPLETED and CANCELLED matches, filled by MatchArchiveService so that
+-- matches and match_skills only keep live matches and recent history.
+-- No foreign keys to the profiles: history outlives deleted mentors and mentees.
+
+CREATE TABLE matches_archive (
+    id          UUID NOT NULL,
+    mentor_id   UUID,
+    mentee_id   UUID,
+    match_score DOUBLE PRECISION NOT NULL,
+    match_date  TIMESTAMP(6),
+    status      ENUM ('PENDING', 'ACTIVE', 'COMPLETED', 'CANCELLED'),
+    archived_at TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+-- History of one mentor or mentee, newest first
+CREATE INDEX idx_match_archive_mentor ON matches_archive (mentor_id, match_date);
+CREATE INDEX idx_match_archive_mentee ON matches_archive (mentee_id, match_date);
+
+CREATE TABLE match_skills_archive (
+    match_id UUID NOT NULL,
+    skill    VARCHAR(255),
+    CONSTRAINT fk_match_skills_archive_match FOREIGN KEY (match_id) REFERENCES matches_archive (id)
+);
@@ -0,0 +1,69 @@
+-- One row per distinct skill name; profiles and matches refer to skills by integer ID, so the
+-- join tables hold (owner, INTEGER) pairs and skill lookups compare integers instead of strings.
+-- Names are mapped to IDs in memory by SkillCatalog.
+
+CREATE TABLE skills (
+    id   INTEGER GENERATED BY DEFAULT AS IDENTITY,
+    name VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_skill_name UNIQUE (name)
+);
+
+INSERT INTO skills (name)
+SELECT name FROM (
+    SELECT expertise AS name FROM mentor_expertise
+    UNION SELECT goal FROM mentee_goals
+    UNION SELECT skill FROM match_skills
+    UNION SELECT skill FROM match_skills_archive
+) WHERE name IS NOT NULL
+ORDER BY name;
+
+-- Mentor expertise areas
+
+CREATE TABLE mentor_skills (
+    mentor_id UUID NOT NULL,
+    skill_id  INTEGER NOT NULL,
+    CONSTRAINT fk_mentor_skills_mentor FOREIGN KEY (mentor_id) REFERENCES mentors (id),
+    CONSTRAINT fk_mentor_skills_skill FOREIGN KEY (skill_id) REFERENCES skills (id)
+);
+INSERT INTO mentor_skills (mentor_id, skill_id)
+SELECT e.mentor_id, s.id FROM mentor_expertise e JOIN skills s ON s.name = e.expertise;
+CREATE INDEX idx_mentor_skill ON mentor_skills (skill_id, mentor_id);
+DROP TABLE mentor_expertise;
+
+-- Mentee learning goals
+
+CREATE TABLE mentee_skills (
+    mentee_id UUID NOT NULL,
+    skill_id  INTEGER NOT NULL,
+    CONSTRAINT fk_mentee_skills_mentee FOREIGN KEY (mentee_id) REFERENCES mentees (id),
+    CONSTRAINT fk_mentee_skills_skill FOREIGN KEY (skill_id) REFERENCES skills (id)
+);
+INSERT INTO mentee_skills (mentee_id, skill_id)
+SELECT g.mentee_id, s.id FROM mentee_goals g JOIN skills s ON s.name = g.goal;
+CREATE INDEX idx_mentee_skill ON mentee_skills (skill_id, mentee_id);
+DROP TABLE mentee_goals;
+
+-- Matched skills, live and archived
+
+ALTER TABLE match_skills RENAME TO match_skills_v3;
+CREATE TABLE match_skills (
+    match_id UUID NOT NULL,
+    skill_id INTEGER NOT NULL,
+    CONSTRAINT fk_match_skills_matches FOREIGN KEY (match_id) REFERENCES matches (id),
+    CONSTRAINT fk_match_skills_skill FOREIGN KEY (skill_id) REFERENCES skills (id)
+);
+INSERT INTO match_skills (match_id, skill_id)
+SELECT m.match_id, s.id FROM match_skills_v3 m JOIN skills s ON s.name = m.skill;
+DROP TABLE match_skills_v3;
+
+ALTER TABLE match_skills_archive RENAME TO match_skills_archive_v3;
+CREATE TABLE match_skills_archive (
+    match_id UUID NOT NULL,
+    skill_id INTEGER NOT NULL,
+    CONSTRAINT fk_match_skills_archive_matches FOREIGN KEY (match_id) REFERENCES matches_archive (id),
+    CONSTRAINT fk_match_skills_archive_skill FOREIGN KEY (skill_id) REFERENCES skills (id)
+);
+INSERT INTO match_skills_archive (match_id, skill_id)
+SELECT m.match_id, s.id FROM match_skills_archive_v3 m JOIN skills s ON s.name = m.skill;
+DROP TABLE match_skills_archive_v3;
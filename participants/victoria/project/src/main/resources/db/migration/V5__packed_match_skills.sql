@@ -0,0 +1,15 @@
+-- Matched skills move from one row per skill in match_skills onto the match row itself, as an
+-- array of skill IDs (see V4), so reading matches no longer joins or queries a second table.
+-- Existing lists keep their order.
+
+ALTER TABLE matches ADD COLUMN matched_skill_ids INTEGER ARRAY DEFAULT ARRAY[] NOT NULL;
+UPDATE matches m SET matched_skill_ids = COALESCE(
+    (SELECT ARRAY_AGG(s.skill_id ORDER BY s._ROWID_) FROM match_skills s WHERE s.match_id = m.id),
+    ARRAY[]);
+DROP TABLE match_skills;
+
+ALTER TABLE matches_archive ADD COLUMN matched_skill_ids INTEGER ARRAY DEFAULT ARRAY[] NOT NULL;
+UPDATE matches_archive m SET matched_skill_ids = COALESCE(
+    (SELECT ARRAY_AGG(s.skill_id ORDER BY s._ROWID_) FROM match_skills_archive s WHERE s.match_id = m.id),
+    ARRAY[]);
+DROP TABLE match_skills_archive;
@@ -0,0 +1,40 @@
+-- Append-only log of profile and match events, read back by JdbcMatchLedger, and snapshots of
+-- the state the events add up to, so in-memory read models are rebuilt from the latest snapshot
+-- and the events after it.
+
+CREATE TABLE ledger_events (
+    seq         BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    event_type  VARCHAR(32) NOT NULL,
+    occurred_at TIMESTAMP(6) NOT NULL,
+    match_id    UUID,
+    mentor_id   UUID,
+    mentee_id   UUID,
+    max_mentees INTEGER NOT NULL DEFAULT 0,
+    skill_ids   INTEGER ARRAY,
+    PRIMARY KEY (seq)
+);
+
+CREATE TABLE ledger_snapshots (
+    seq        BIGINT NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    state      BINARY LARGE OBJECT NOT NULL,
+    PRIMARY KEY (seq)
+);
+
+-- Start the log from the current tables: profiles first, then the matches still active
+
+INSERT INTO ledger_events (event_type, occurred_at, mentor_id, max_mentees, skill_ids)
+SELECT 'MENTOR_REGISTERED', CURRENT_TIMESTAMP, m.id, m.max_mentees,
+       COALESCE((SELECT ARRAY_AGG(s.skill_id ORDER BY s._ROWID_) FROM mentor_skills s WHERE s.mentor_id = m.id),
+                ARRAY[])
+FROM mentors m ORDER BY m.id;
+
+INSERT INTO ledger_events (event_type, occurred_at, mentee_id, skill_ids)
+SELECT 'MENTEE_REGISTERED', CURRENT_TIMESTAMP, m.id,
+       COALESCE((SELECT ARRAY_AGG(s.skill_id ORDER BY s._ROWID_) FROM mentee_skills s WHERE s.mentee_id = m.id),
+                ARRAY[])
+FROM mentees m ORDER BY m.id;
+
+INSERT INTO ledger_events (event_type, occurred_at, match_id, mentor_id, mentee_id)
+SELECT 'MATCHED', match_date, id, mentor_id, mentee_id
+FROM matches WHERE status = 'ACTIVE' ORDER BY match_date, id;
@@ -0,0 +1,11 @@
+-- The last sequence number handed out to a ledger event. Appending advances it and holds its row
+-- lock until the transaction ends, so events commit in sequence order without gaps and a reader,
+-- or a snapshot, that sees an event has also seen every event before it.
+
+CREATE TABLE ledger_head (
+    id       INTEGER NOT NULL,
+    last_seq BIGINT NOT NULL,
+    PRIMARY KEY (id)
+);
+
+INSERT INTO ledger_head (id, last_seq) SELECT 1, COALESCE(MAX(seq), 0) FROM ledger_events;
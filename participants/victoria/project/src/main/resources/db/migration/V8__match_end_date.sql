@@ -0,0 +1,13 @@
+-- When a match was completed or cancelled. MatchArchiveService counts the archive age from it,
+-- not from match_date, so a long mentorship that only just ended stays live.
+
+ALTER TABLE matches ADD COLUMN ended_at TIMESTAMP(6);
+ALTER TABLE matches_archive ADD COLUMN ended_at TIMESTAMP(6);
+
+-- The end of matches that finished before this version was not recorded. Counting from now holds
+-- them back one more archive period rather than archiving any of them too early. Archived
+-- matches keep a null end date.
+UPDATE matches SET ended_at = CURRENT_TIMESTAMP WHERE status IN ('COMPLETED', 'CANCELLED');
+
+-- Archive cutoff; pending and active matches have no end date
+CREATE INDEX idx_match_ended ON matches (ended_at);
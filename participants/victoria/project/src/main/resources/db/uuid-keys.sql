@@ -0,0 +1,50 @@
+-- Converts a database created before IDs became binary UUIDs (text columns) to UUID columns.
+-- Run once, before the new version starts on the database, with the H2 Shell or console tool:
+--   RUNSCRIPT FROM 'src/main/resources/db/uuid-keys.sql'
+-- The result matches migration V1, so Flyway baselines it and applies the later scripts,
+-- starting with the indexes of V1_1.
+-- Existing rows keep their random IDs; only new rows get time-ordered ones.
+
+CREATE TABLE mentors_new AS
+SELECT CAST(id AS UUID) AS id, name, email, max_mentees, current_mentee_count FROM mentors;
+CREATE TABLE mentor_expertise_new AS
+SELECT CAST(mentor_id AS UUID) AS mentor_id, expertise FROM mentor_expertise;
+
+CREATE TABLE mentees_new AS
+SELECT CAST(id AS UUID) AS id, name, email, experience_level, is_matched FROM mentees;
+CREATE TABLE mentee_goals_new AS
+SELECT CAST(mentee_id AS UUID) AS mentee_id, goal FROM mentee_goals;
+
+CREATE TABLE matches_new AS
+SELECT CAST(id AS UUID) AS id, CAST(mentor_id AS UUID) AS mentor_id, CAST(mentee_id AS UUID) AS mentee_id,
+       match_score, match_date, CAST(status AS ENUM ('PENDING', 'ACTIVE', 'COMPLETED', 'CANCELLED')) AS status
+FROM matches;
+CREATE TABLE match_skills_new AS
+SELECT CAST(match_id AS UUID) AS match_id, skill FROM match_skills;
+
+DROP TABLE match_skills CASCADE;
+DROP TABLE matches CASCADE;
+DROP TABLE mentee_goals CASCADE;
+DROP TABLE mentees CASCADE;
+DROP TABLE mentor_expertise CASCADE;
+DROP TABLE mentors CASCADE;
+
+ALTER TABLE mentors_new RENAME TO mentors;
+ALTER TABLE mentor_expertise_new RENAME TO mentor_expertise;
+ALTER TABLE mentees_new RENAME TO mentees;
+ALTER TABLE mentee_goals_new RENAME TO mentee_goals;
+ALTER TABLE matches_new RENAME TO matches;
+ALTER TABLE match_skills_new RENAME TO match_skills;
+
+ALTER TABLE mentors ALTER COLUMN id SET NOT NULL;
+ALTER TABLE mentors ADD PRIMARY KEY (id);
+ALTER TABLE mentees ALTER COLUMN id SET NOT NULL;
+ALTER TABLE mentees ADD PRIMARY KEY (id);
+ALTER TABLE matches ALTER COLUMN id SET NOT NULL;
+ALTER TABLE matches ADD PRIMARY KEY (id);
+
+ALTER TABLE mentor_expertise ADD CONSTRAINT fk_mentor_expertise_mentor FOREIGN KEY (mentor_id) REFERENCES mentors (id);
+ALTER TABLE mentee_goals ADD CONSTRAINT fk_mentee_goals_mentee FOREIGN KEY (mentee_id) REFERENCES mentees (id);
+ALTER TABLE matches ADD CONSTRAINT fk_matches_mentor FOREIGN KEY (mentor_id) REFERENCES mentors (id);
+ALTER TABLE matches ADD CONSTRAINT fk_matches_mentee FOREIGN KEY (mentee_id) REFERENCES mentees (id);
+ALTER TABLE match_skills ADD CONSTRAINT fk_match_skills_match FOREIGN KEY (match_id) REFERENCES matches (id);
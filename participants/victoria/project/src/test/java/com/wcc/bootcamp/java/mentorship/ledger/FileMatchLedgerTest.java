@@ -0,0 +1,107 @@
+package com.wcc.bootcamp.java.mentorship.ledger;
+
+import com.wcc.bootcamp.java.mentorship.model.Match;
+import com.wcc.bootcamp.java.mentorship.model.Mentee;
+import com.wcc.bootcamp.java.mentorship.model.Mentor;
+import com.wcc.bootcamp.java.mentorship.service.MentorshipMatcher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the file-based ledger used by the console application.
+ */
+@DisplayName("FileMatchLedger")
+class FileMatchLedgerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("should number events and read them back after reopening")
+    void shouldPersistEvents() {
+        UUID mentorId = UUID.randomUUID();
+        UUID menteeId = UUID.randomUUID();
+        FileMatchLedger ledger = new FileMatchLedger(directory);
+        ledger.append(List.of(LedgerEvent.mentorRegistered(mentorId, List.of("java", "spring boot"), 2),
+                LedgerEvent.menteeRegistered(menteeId, List.of())));
+
+        FileMatchLedger reopened = new FileMatchLedger(directory);
+        reopened.append(LedgerEvent.matched(UUID.randomUUID(), mentorId, menteeId));
+        List<LedgerEvent> events = new ArrayList<>();
+        reopened.readAfter(1, events::add);
+
+        assertEquals(3, reopened.lastSequence());
+        assertEquals(List.of(2L, 3L), events.stream().map(LedgerEvent::getSequence).toList());
+        assertEquals(LedgerEvent.Type.MENTEE_REGISTERED, events.get(0).getType());
+        assertTrue(events.get(0).getSkills().isEmpty());
+        assertEquals(mentorId, events.get(1).getMentorId());
+    }
+
+    @Test
+    @DisplayName("should rebuild from the latest snapshot and the events after it")
+    void shouldRebuildFromSnapshotAndTail() {
+        UUID mentorId = UUID.randomUUID();
+        FileMatchLedger ledger = new FileMatchLedger(directory);
+        ledger.append(LedgerEvent.mentorRegistered(mentorId, List.of("java"), 1));
+        ledger.saveSnapshot(ledger.rebuild());
+        ledger.append(LedgerEvent.menteeRegistered(UUID.randomUUID(), List.of("java")));
+
+        LedgerState state = new FileMatchLedger(directory).rebuild();
+
+        assertEquals(1, state.getSnapshotSequence());
+        assertEquals(2, state.getSequence());
+        assertEquals(1, state.getMentorCount());
+        assertEquals(1, state.getUnmatchedMenteeCount());
+    }
+
+    @Test
+    @DisplayName("should continue numbering from the last line after trailing blank lines")
+    void shouldReadLastSequenceFromEnd() throws IOException {
+        FileMatchLedger ledger = new FileMatchLedger(directory);
+        ledger.append(List.of(LedgerEvent.menteeRegistered(UUID.randomUUID(), List.of("java")),
+                LedgerEvent.menteeRegistered(UUID.randomUUID(), List.of("sql"))));
+        Files.writeString(directory.resolve("events.log"), "\n\n", StandardOpenOption.APPEND);
+
+        FileMatchLedger reopened = new FileMatchLedger(directory);
+        reopened.append(LedgerEvent.menteeRegistered(UUID.randomUUID(), List.of("kotlin")));
+        List<LedgerEvent> events = new ArrayList<>();
+        reopened.readAfter(2, events::add);
+
+        assertEquals(3, reopened.lastSequence());
+        assertEquals(List.of(List.of("kotlin")), events.stream().map(LedgerEvent::getSkills).toList());
+    }
+
+    @Test
+    @DisplayName("should keep the console's ledger state across sessions and snapshot it")
+    void shouldKeepConsoleStateAcrossSessions() {
+        MentorshipMatcher session = new MentorshipMatcher(null, new FileMatchLedger(directory));
+        Mentor mentor = session.registerMentor("Grace Hopper", "grace@example.com", List.of("Java"), 2);
+        Mentee mentee = session.registerMentee("Ada Lovelace", "ada@example.com", List.of("Java"));
+        Match match = session.createMatch(mentor, mentee);
+        session.unmatch(match);
+        session.unmatch(match);
+        session.completeMatch(session.createMatch(mentor, mentee));
+
+        assertEquals(0, session.ledgerState().getActiveMatchCount());
+        session.saveLedgerSnapshot();
+
+        FileMatchLedger ledger = new FileMatchLedger(directory);
+        assertEquals(6, ledger.lastSequence()); // the second unmatch records nothing
+        assertEquals(6, ledger.latestSnapshot().orElseThrow().getSequence());
+        LedgerState restored = new MentorshipMatcher(null, ledger).ledgerState();
+        assertEquals(6, restored.getSnapshotSequence());
+        assertEquals(1, restored.getAvailableMentorCount());
+        assertEquals(1, restored.getUnmatchedMenteeCount());
+    }
+}
@@ -0,0 +1,127 @@
+package com.wcc.bootcamp.java.mentorship.ledger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for replaying ledger events and for the snapshot format.
+ */
+@DisplayName("LedgerState")
+class LedgerStateTest {
+
+    private final UUID mentorId = UUID.randomUUID();
+    private final UUID menteeId = UUID.randomUUID();
+    private final UUID otherMenteeId = UUID.randomUUID();
+    private final UUID matchId = UUID.randomUUID();
+
+    private LedgerState state;
+    private long sequence;
+
+    @BeforeEach
+    void setUp() {
+        state = new LedgerState();
+        sequence = 0;
+        apply(LedgerEvent.mentorRegistered(mentorId, List.of("java", "sql"), 1));
+        apply(LedgerEvent.menteeRegistered(menteeId, List.of("java")));
+        apply(LedgerEvent.menteeRegistered(otherMenteeId, List.of("sql")));
+    }
+
+    @Nested
+    @DisplayName("Replaying")
+    class Replaying {
+
+        @Test
+        @DisplayName("should take the mentor's slot and match the mentee")
+        void shouldApplyMatch() {
+            apply(LedgerEvent.matched(matchId, mentorId, menteeId));
+
+            assertEquals(1, state.getActiveMatchCount());
+            assertEquals(0, state.getAvailableMentorCount());
+            assertEquals(1, state.getUnmatchedMenteeCount());
+            assertEquals(4, state.getSequence());
+        }
+
+        @Test
+        @DisplayName("should free the slot and the mentee when a match ends")
+        void shouldApplyEndOfMatch() {
+            apply(LedgerEvent.matched(matchId, mentorId, menteeId));
+            apply(LedgerEvent.completed(matchId, mentorId, menteeId));
+            apply(LedgerEvent.cancelled(matchId, mentorId, menteeId));
+
+            assertEquals(0, state.getActiveMatchCount());
+            assertEquals(1, state.getAvailableMentorCount());
+            assertEquals(2, state.getUnmatchedMenteeCount());
+            assertEquals(0, state.getMentors().iterator().next().getCurrentMentees());
+        }
+
+        @Test
+        @DisplayName("should end the active matches of a removed mentor")
+        void shouldApplyMentorRemoval() {
+            apply(LedgerEvent.matched(matchId, mentorId, menteeId));
+            apply(LedgerEvent.mentorRemoved(mentorId));
+
+            assertEquals(0, state.getMentorCount());
+            assertEquals(0, state.getActiveMatchCount());
+            assertEquals(2, state.getUnmatchedMenteeCount());
+        }
+
+        @Test
+        @DisplayName("should ignore events about unknown profiles")
+        void shouldIgnoreUnknownProfiles() {
+            apply(LedgerEvent.menteeRemoved(UUID.randomUUID()));
+            apply(LedgerEvent.cancelled(UUID.randomUUID(), mentorId, menteeId));
+
+            assertEquals(1, state.getMentorCount());
+            assertEquals(2, state.getMenteeCount());
+            assertEquals(2, state.getUnmatchedMenteeCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Snapshots")
+    class Snapshots {
+
+        @Test
+        @DisplayName("should restore profiles, matches and sequence from a snapshot")
+        void shouldRoundTrip() {
+            apply(LedgerEvent.matched(matchId, mentorId, menteeId));
+
+            LedgerState restored = LedgerState.fromBytes(state.toBytes());
+
+            assertEquals(4, restored.getSequence());
+            assertEquals(4, restored.getSnapshotSequence());
+            assertEquals(1, restored.getMentorCount());
+            assertEquals(2, restored.getMenteeCount());
+            assertEquals(1, restored.getActiveMatchCount());
+            assertEquals(List.of("java", "sql"), restored.getMentors().iterator().next().getSkills());
+            assertEquals(0, restored.getAvailableMentorCount());
+
+            restored.apply(new LedgerEvent(5, LedgerEvent.Type.CANCELLED, LocalDateTime.now(), matchId,
+                    mentorId, menteeId, 0, null));
+            assertEquals(1, restored.getAvailableMentorCount());
+            assertEquals(5, restored.getSequence());
+            assertEquals(4, restored.getSnapshotSequence());
+        }
+
+        @Test
+        @DisplayName("should reject a snapshot in an unknown format")
+        void shouldRejectUnknownFormat() {
+            byte[] snapshot = state.toBytes();
+            snapshot[3] = 99;
+
+            assertThrows(IllegalArgumentException.class, () -> LedgerState.fromBytes(snapshot));
+        }
+    }
+
+    private void apply(LedgerEvent event) {
+        state.apply(event.withSequence(++sequence));
+    }
+}
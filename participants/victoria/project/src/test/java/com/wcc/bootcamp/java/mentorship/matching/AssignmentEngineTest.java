@@ -0,0 +1,150 @@
+package com.wcc.bootcamp.java.mentorship.matching;
+
+import com.wcc.bootcamp.java.mentorship.model.Mentee;
+import com.wcc.bootcamp.java.mentorship.model.Mentor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the AssignmentEngine min-cost flow.
+ */
+@DisplayName("AssignmentEngine")
+class AssignmentEngineTest {
+
+    private static final List<String> SKILLS = List.of(
+            "java", "spring boot", "python", "machine learning", "deep learning",
+            "web development", "react", "sql");
+
+    private SkillIndex index;
+    private SkillScorer skillScorer;
+    private AssignmentEngine engine;
+    private List<String> menteeIds;
+    private List<SkillProfile> menteeProfiles;
+    private Map<String, Integer> capacities;
+
+    @BeforeEach
+    void setUp() {
+        index = new SkillIndex();
+        skillScorer = new SkillScorer(index.getDictionary());
+        engine = new AssignmentEngine(index, skillScorer);
+        menteeIds = new ArrayList<>();
+        menteeProfiles = new ArrayList<>();
+        capacities = new LinkedHashMap<>();
+    }
+
+    @Test
+    @DisplayName("should prefer the best total score over the best single pair")
+    void shouldMaximizeTotalScore() {
+        String generalist = addMentor(List.of("java", "python"), 1);
+        String javaMentor = addMentor(List.of("java"), 1);
+        String both = addMentee(List.of("java", "python"));
+        String javaOnly = addMentee(List.of("java", "kotlin"));
+
+        List<ScoredPair> pairs = engine.assign(menteeIds, menteeProfiles, capacities, ForkJoinPool.commonPool());
+
+        assertEquals(2, pairs.size());
+        assertEquals(generalist, mentorOf(pairs, both));
+        assertEquals(javaMentor, mentorOf(pairs, javaOnly));
+        assertEquals(1.5, totalScore(pairs), 1e-9);
+    }
+
+    @Test
+    @DisplayName("should respect remaining mentor capacity")
+    void shouldRespectCapacity() {
+        String mentor = addMentor(List.of("java"), 2);
+        for (int i = 0; i < 4; i++) {
+            addMentee(List.of("java"));
+        }
+
+        List<ScoredPair> pairs = engine.assign(menteeIds, menteeProfiles, capacities, ForkJoinPool.commonPool());
+
+        assertEquals(2, pairs.size());
+        assertTrue(pairs.stream().allMatch(pair -> pair.getMentorId().equals(mentor)));
+    }
+
+    @Test
+    @DisplayName("should leave mentees without a related mentor unassigned")
+    void shouldSkipMenteesWithoutCandidates() {
+        addMentor(List.of("java"), 3);
+        addMentee(List.of("cooking"));
+
+        assertTrue(engine.assign(menteeIds, menteeProfiles, capacities, ForkJoinPool.commonPool()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("should find the same total score as exhaustive search")
+    void shouldMatchExhaustiveSearch() {
+        Random random = new Random(7);
+        for (int round = 0; round < 30; round++) {
+            setUp();
+            for (int i = 0; i < 3; i++) {
+                addMentor(randomSkills(random), 1 + random.nextInt(2));
+            }
+            for (int i = 0; i < 5; i++) {
+                addMentee(randomSkills(random));
+            }
+
+            List<ScoredPair> pairs = engine.assign(menteeIds, menteeProfiles, capacities, ForkJoinPool.commonPool());
+
+            assertEquals(bestTotal(0, new HashMap<>(capacities)), totalScore(pairs), 1e-9);
+        }
+    }
+
+    private double bestTotal(int menteeIndex, Map<String, Integer> remaining) {
+        if (menteeIndex == menteeIds.size()) {
+            return 0;
+        }
+        double best = bestTotal(menteeIndex + 1, remaining);
+        for (Map.Entry<String, Integer> entry : remaining.entrySet()) {
+            double score = skillScorer.score(index.getMentorProfile(entry.getKey()), menteeProfiles.get(menteeIndex));
+            if (entry.getValue() > 0 && score > 0) {
+                entry.setValue(entry.getValue() - 1);
+                best = Math.max(best, score + bestTotal(menteeIndex + 1, remaining));
+                entry.setValue(entry.getValue() + 1);
+            }
+        }
+        return best;
+    }
+
+    private String addMentor(List<String> skills, int capacity) {
+        Mentor mentor = new Mentor("Mentor", "mentor@example.com", skills, capacity);
+        index.indexMentor(mentor);
+        capacities.put(mentor.getId().toString(), capacity);
+        return mentor.getId().toString();
+    }
+
+    private String addMentee(List<String> goals) {
+        Mentee mentee = new Mentee("Mentee", "mentee@example.com", goals, "beginner");
+        index.indexMentee(mentee);
+        menteeIds.add(mentee.getId().toString());
+        menteeProfiles.add(index.menteeProfile(mentee));
+        return mentee.getId().toString();
+    }
+
+    private static String mentorOf(List<ScoredPair> pairs, String menteeId) {
+        return pairs.stream()
+                .filter(pair -> pair.getMenteeId().equals(menteeId))
+                .map(ScoredPair::getMentorId)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static double totalScore(List<ScoredPair> pairs) {
+        return pairs.stream().mapToDouble(ScoredPair::getScore).sum();
+    }
+
+    private static List<String> randomSkills(Random random) {
+        List<String> skills = new ArrayList<>();
+        int count = 1 + random.nextInt(3);
+        for (int i = 0; i < count; i++) {
+            skills.add(SKILLS.get(random.nextInt(SKILLS.size())));
+        }
+        return skills;
+    }
+}
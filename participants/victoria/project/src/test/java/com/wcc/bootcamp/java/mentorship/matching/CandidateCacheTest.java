@@ -0,0 +1,128 @@
+package com.wcc.bootcamp.java.mentorship.matching;
+
+import com.wcc.bootcamp.java.mentorship.model.Mentee;
+import com.wcc.bootcamp.java.mentorship.model.Mentor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the CandidateCache incremental candidate lists.
+ */
+@DisplayName("CandidateCache")
+class CandidateCacheTest {
+
+    private SkillIndex index;
+    private SkillScorer scorer;
+    private CandidateCache cache;
+    private Mentor javaMentor;
+    private Mentee javaMentee;
+
+    @BeforeEach
+    void setUp() {
+        index = new SkillIndex();
+        scorer = new SkillScorer(index.getDictionary());
+        cache = new CandidateCache(index, scorer, 2, 3);
+        javaMentor = new Mentor("Alice", "alice@example.com", List.of("java"), 1);
+        javaMentee = new Mentee("Carol", "carol@example.com", List.of("java", "sql"), "beginner");
+        index.indexMentor(javaMentor);
+        index.indexMentee(javaMentee);
+        cache.putMentorsForMentee(javaMentee.getId().toString(),
+                List.of(new ScoredPair(javaMentor.getId().toString(), javaMentee.getId().toString(), 0.5, 0)), true);
+        cache.putMenteesForMentor(javaMentor.getId().toString(),
+                List.of(new ScoredPair(javaMentor.getId().toString(), javaMentee.getId().toString(), 0.5, 0)), true);
+    }
+
+    @Nested
+    @DisplayName("Lookups")
+    class LookupTests {
+
+        @Test
+        @DisplayName("should count hits and misses")
+        void shouldCountHitsAndMisses() {
+            assertEquals(1, cache.findMentorsForMentee(javaMentee.getId().toString(), 10).size());
+            assertNull(cache.findMentorsForMentee("unknown", 10));
+
+            assertEquals(1, cache.getHitCount());
+            assertEquals(1, cache.getMissCount());
+        }
+
+        @Test
+        @DisplayName("should evict the least recently used list")
+        void shouldEvictLeastRecentlyUsed() {
+            cache.putMentorsForMentee("second", List.of(), true);
+            cache.findMentorsForMentee(javaMentee.getId().toString(), 1);
+            cache.putMentorsForMentee("third", List.of(), true);
+
+            assertNotNull(cache.findMentorsForMentee(javaMentee.getId().toString(), 1));
+            assertNull(cache.findMentorsForMentee("second", 1));
+        }
+
+        @Test
+        @DisplayName("should not answer from a cut-off list that is too short")
+        void shouldMissWhenCutOffListIsTooShort() {
+            cache.putMentorsForMentee("busy", List.of(
+                    new ScoredPair("m1", "busy", 1.0, 0),
+                    new ScoredPair("m2", "busy", 0.9, 1),
+                    new ScoredPair("m3", "busy", 0.8, 2),
+                    new ScoredPair("m4", "busy", 0.7, 3)), false);
+
+            assertEquals(3, cache.findMentorsForMentee("busy", 3).size());
+            assertNull(cache.findMentorsForMentee("busy", 4));
+        }
+    }
+
+    @Nested
+    @DisplayName("Incremental Updates")
+    class IncrementalUpdateTests {
+
+        @Test
+        @DisplayName("should insert a new mentor into related mentee lists by score")
+        void shouldInsertNewMentor() {
+            Mentor fullMentor = new Mentor("Bob", "bob@example.com", List.of("java", "sql"), 2);
+            index.indexMentor(fullMentor);
+            cache.mentorChanged(fullMentor.getId().toString());
+
+            List<ScoredPair> ranked = cache.findMentorsForMentee(javaMentee.getId().toString(), 10);
+            assertEquals(2, ranked.size());
+            assertEquals(fullMentor.getId().toString(), ranked.get(0).getMentorId());
+            assertEquals(1.0, ranked.get(0).getScore(), 0.0001);
+        }
+
+        @Test
+        @DisplayName("should remove a full mentor and restore it when capacity frees up")
+        void shouldFollowMentorCapacity() {
+            javaMentor.incrementMenteeCount();
+            index.updateMentorCapacity(javaMentor);
+            cache.mentorChanged(javaMentor.getId().toString());
+
+            assertTrue(cache.findMentorsForMentee(javaMentee.getId().toString(), 10).isEmpty());
+
+            javaMentor.decrementMenteeCount();
+            index.updateMentorCapacity(javaMentor);
+            cache.mentorChanged(javaMentor.getId().toString());
+
+            assertEquals(1, cache.findMentorsForMentee(javaMentee.getId().toString(), 10).size());
+        }
+
+        @Test
+        @DisplayName("should drop matched and deleted mentees from mentor lists")
+        void shouldDropMatchedAndDeletedMentees() {
+            javaMentee.setMatched(true);
+            index.updateMenteeStatus(javaMentee);
+            cache.menteeChanged(javaMentee.getId().toString());
+
+            assertTrue(cache.findMenteesForMentor(javaMentor.getId().toString(), 10).isEmpty());
+
+            index.removeMentee(javaMentee.getId().toString());
+            cache.menteeRemoved(javaMentee.getId().toString());
+
+            assertNull(cache.findMentorsForMentee(javaMentee.getId().toString(), 10));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.wcc.bootcamp.java.mentorship.matching;
+
+import com.wcc.bootcamp.java.mentorship.model.Mentee;
+import com.wcc.bootcamp.java.mentorship.model.Mentor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ParallelMatchScorer fork-join scoring.
+ */
+@DisplayName("ParallelMatchScorer")
+class ParallelMatchScorerTest {
+
+    private static final List<String> SKILLS = List.of(
+            "java", "spring boot", "python", "machine learning", "deep learning",
+            "web development", "react", "sql", "cloud computing", "kotlin");
+
+    private SkillIndex index;
+    private ParallelMatchScorer scorer;
+    private SkillScorer skillScorer;
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void setUp() {
+        index = new SkillIndex();
+        skillScorer = new SkillScorer(index.getDictionary());
+        scorer = new ParallelMatchScorer(index, skillScorer);
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("should return the same ranking as sequential scoring")
+    void shouldMatchSequentialRanking() {
+        Random random = new Random(42);
+        for (int i = 0; i < 50; i++) {
+            index.indexMentor(new Mentor("Mentor" + i, "mentor" + i + "@example.com",
+                    randomSkills(random), 3));
+        }
+
+        List<String> menteeIds = new ArrayList<>();
+        List<SkillProfile> menteeProfiles = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            Mentee mentee = new Mentee("Mentee" + i, "mentee" + i + "@example.com",
+                    randomSkills(random), "beginner");
+            index.indexMentee(mentee);
+            menteeIds.add(mentee.getId().toString());
+            menteeProfiles.add(index.menteeProfile(mentee));
+        }
+
+        TopMatchSelector sequential = new TopMatchSelector(25);
+        for (int i = 0; i < menteeIds.size(); i++) {
+            for (String mentorId : index.findCandidateMentorIds(menteeProfiles.get(i))) {
+                double score = skillScorer.score(index.getMentorProfile(mentorId), menteeProfiles.get(i));
+                if (score > 0) {
+                    sequential.offer(mentorId, menteeIds.get(i), score);
+                }
+            }
+        }
+
+        List<ScoredPair> expected = sequential.results();
+        List<ScoredPair> actual = scorer.findTopPairs(menteeIds, menteeProfiles, 25, pool);
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getScore(), actual.get(i).getScore());
+        }
+    }
+
+    @Test
+    @DisplayName("should return no pairs when there are no mentees")
+    void shouldReturnNoPairsWithoutMentees() {
+        assertTrue(scorer.findTopPairs(List.of(), List.of(), 10, pool).isEmpty());
+    }
+
+    private static List<String> randomSkills(Random random) {
+        List<String> skills = new ArrayList<>();
+        int count = 1 + random.nextInt(3);
+        for (int i = 0; i < count; i++) {
+            skills.add(SKILLS.get(random.nextInt(SKILLS.size())));
+        }
+        return skills;
+    }
+}
@@ -0,0 +1,130 @@
+package com.wcc.bootcamp.java.mentorship.matching;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ScoringEngine selection and for the equivalence of every engine
+ * with the original pairwise matching algorithm.
+ */
+@DisplayName("ScoringEngine")
+class ScoringEngineTest {
+
+    private static final List<String> VOCABULARY = List.of(
+            "java", "javascript", "spring boot", "spring", "boot camp", "sql", "database design",
+            "machine learning", "deep learning", "python", "data science", "data analysis",
+            "react", "node.js", "go", "go tools", "ci/cd", "Java", " kotlin ", "android",
+            "mobile development", "mobile apps", "aws", "cloud computing", "");
+
+    private SkillDictionary dictionary;
+
+    @BeforeEach
+    void setUp() {
+        dictionary = new SkillDictionary();
+    }
+
+    @Nested
+    @DisplayName("Engine Selection")
+    class EngineSelectionTests {
+
+        @Test
+        @DisplayName("should default to the bitset engine")
+        void shouldDefaultToBitsetEngine() {
+            assertInstanceOf(SkillScorer.class, ScoringEngine.create(null, dictionary));
+            assertInstanceOf(SkillScorer.class, ScoringEngine.create(" ", dictionary));
+            assertInstanceOf(SkillScorer.class, ScoringEngine.create("Bitset", dictionary));
+        }
+
+        @Test
+        @DisplayName("should select the reference engine by name")
+        void shouldSelectReferenceEngine() {
+            assertInstanceOf(ReferenceScoringEngine.class, ScoringEngine.create("reference", dictionary));
+        }
+
+        @Test
+        @DisplayName("should reject unknown engine names")
+        void shouldRejectUnknownEngines() {
+            assertThrows(IllegalArgumentException.class, () -> ScoringEngine.create("simd", dictionary));
+        }
+    }
+
+    @Nested
+    @DisplayName("Equivalence")
+    class EquivalenceTests {
+
+        @Test
+        @DisplayName("bitset engine should match the original algorithm")
+        void bitsetEngineShouldMatchOriginalAlgorithm() {
+            assertMatchesOriginalAlgorithm(ScoringEngine.create(ScoringEngine.BITSET, dictionary));
+        }
+
+        @Test
+        @DisplayName("reference engine should match the original algorithm")
+        void referenceEngineShouldMatchOriginalAlgorithm() {
+            assertMatchesOriginalAlgorithm(ScoringEngine.create(ScoringEngine.REFERENCE, dictionary));
+        }
+    }
+
+    @Test
+    @DisplayName("should only list matched skills for positive scores")
+    void shouldEvaluateScoreAndMatchedSkills() {
+        ScoringEngine engine = ScoringEngine.create(ScoringEngine.BITSET, dictionary);
+        SkillProfile mentor = dictionary.profile(List.of("java", "sql"));
+
+        MatchScore matched = engine.evaluate(mentor, dictionary.profile(List.of("java", "react")));
+        MatchScore unmatched = engine.evaluate(mentor, dictionary.profile(List.of("react")));
+
+        assertEquals(0.5, matched.getScore(), 0.0001);
+        assertEquals(List.of("java"), matched.getMatchedSkills());
+        assertEquals(0.0, unmatched.getScore(), 0.0);
+        assertTrue(unmatched.getMatchedSkills().isEmpty());
+    }
+
+    private void assertMatchesOriginalAlgorithm(ScoringEngine engine) {
+        Random random = new Random(42);
+        for (int i = 0; i < 500; i++) {
+            List<String> expertise = randomSkills(random);
+            List<String> goals = randomSkills(random);
+
+            SkillProfile mentor = dictionary.profile(expertise);
+            SkillProfile mentee = dictionary.profile(goals);
+            List<String> expected = originalMatchedSkills(expertise, goals);
+            double expectedScore = goals.isEmpty() ? 0 : (double) expected.size() / goals.size();
+
+            assertEquals(expectedScore, engine.score(mentor, mentee), 0.0, expertise + " / " + goals);
+            assertEquals(expected, engine.matchedSkills(mentor, mentee), expertise + " / " + goals);
+        }
+    }
+
+    private static List<String> randomSkills(Random random) {
+        List<String> skills = new ArrayList<>();
+        int count = random.nextInt(5);
+        for (int i = 0; i < count; i++) {
+            skills.add(VOCABULARY.get(random.nextInt(VOCABULARY.size())));
+        }
+        return skills;
+    }
+
+    /**
+     * The matching loop of the original calculateMatchScore.
+     */
+    private static List<String> originalMatchedSkills(List<String> expertise, List<String> goals) {
+        List<String> matchedSkills = new ArrayList<>();
+        for (String goal : goals) {
+            for (String skill : expertise) {
+                if (SkillMatchRules.isSkillMatch(skill, goal) && !matchedSkills.contains(goal)) {
+                    matchedSkills.add(goal);
+                }
+            }
+        }
+        return matchedSkills;
+    }
+}
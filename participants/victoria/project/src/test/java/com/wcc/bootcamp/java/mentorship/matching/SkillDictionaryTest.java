@@ -0,0 +1,116 @@
+package com.wcc.bootcamp.java.mentorship.matching;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the SkillDictionary.
+ */
+@DisplayName("SkillDictionary")
+class SkillDictionaryTest {
+
+    private SkillDictionary dictionary;
+
+    @BeforeEach
+    void setUp() {
+        dictionary = new SkillDictionary();
+    }
+
+    @Nested
+    @DisplayName("Interning")
+    class InterningTests {
+
+        @Test
+        @DisplayName("should assign the same ID to normalized duplicates")
+        void shouldAssignSameIdToNormalizedDuplicates() {
+            int id = dictionary.intern("Java");
+
+            assertEquals(id, dictionary.intern("  java "));
+            assertEquals(id, dictionary.idOf("JAVA"));
+            assertEquals("java", dictionary.skillOf(id));
+            assertEquals(1, dictionary.size());
+        }
+
+        @Test
+        @DisplayName("should return -1 for unknown skills")
+        void shouldReturnMinusOneForUnknownSkills() {
+            assertEquals(-1, dictionary.idOf("rust"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Related Skills")
+    class RelatedSkillsTests {
+
+        @Test
+        @DisplayName("should relate skills in both directions regardless of intern order")
+        void shouldRelateSkillsSymmetrically() {
+            int java = dictionary.intern("java");
+            int python = dictionary.intern("python");
+            int javascript = dictionary.intern("javascript");
+
+            assertTrue(dictionary.relatedTo(java).get(javascript));
+            assertTrue(dictionary.relatedTo(javascript).get(java));
+            assertFalse(dictionary.relatedTo(python).get(java));
+            assertTrue(dictionary.relatedTo(python).get(python));
+        }
+
+        @Test
+        @DisplayName("should relate skills sharing a significant word")
+        void shouldRelateSkillsSharingWord() {
+            int machineLearning = dictionary.intern("machine learning");
+            int deepLearning = dictionary.intern("deep learning");
+            int goBasics = dictionary.intern("go basics");
+            int goTools = dictionary.intern("go tools");
+
+            assertTrue(dictionary.relatedTo(machineLearning).get(deepLearning));
+            assertFalse(dictionary.relatedTo(goBasics).get(goTools));
+        }
+
+        @Test
+        @DisplayName("should relate the same skills as comparing every pair")
+        void shouldMatchPairwiseRules() {
+            Random random = new Random(42);
+            String[] words = {"java", "script", "go", "data", "base", "ml", "spring boot"};
+            List<String> vocabulary = new ArrayList<>(List.of("", "a"));
+            for (int i = 0; i < 300; i++) {
+                StringBuilder skill = new StringBuilder();
+                int parts = 1 + random.nextInt(3);
+                for (int p = 0; p < parts; p++) {
+                    skill.append(words[random.nextInt(words.length)]).append(random.nextBoolean() ? " " : "");
+                }
+                vocabulary.add(skill.toString());
+            }
+
+            List<Integer> skillIds = new ArrayList<>();
+            for (String skill : vocabulary) {
+                skillIds.add(dictionary.intern(skill));
+            }
+
+            for (int i = 0; i < vocabulary.size(); i++) {
+                for (int j = 0; j < vocabulary.size(); j++) {
+                    boolean expected = SkillMatchRules.isSkillMatch(vocabulary.get(i), vocabulary.get(j));
+                    assertEquals(expected, dictionary.relatedTo(skillIds.get(i)).get(skillIds.get(j)),
+                            "'" + vocabulary.get(i) + "' vs '" + vocabulary.get(j) + "'");
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("should compile profiles with distinct skills and original size")
+    void shouldCompileProfiles() {
+        SkillProfile profile = dictionary.profile(List.of("java", "sql", "java"));
+
+        assertEquals(3, profile.getSkillCount());
+        assertEquals(2, profile.getDistinctSkillCount());
+    }
+}
@@ -0,0 +1,99 @@
+package com.wcc.bootcamp.java.mentorship.matching;
+
+import com.wcc.bootcamp.java.mentorship.model.Mentee;
+import com.wcc.bootcamp.java.mentorship.model.Mentor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the SkillIndex inverted index.
+ */
+@DisplayName("SkillIndex")
+class SkillIndexTest {
+
+    private SkillIndex index;
+    private Mentor javaMentor;
+    private Mentor pythonMentor;
+    private Mentee javaMentee;
+
+    @BeforeEach
+    void setUp() {
+        index = new SkillIndex();
+        javaMentor = new Mentor("Alice", "alice@example.com", List.of("java", "spring boot"), 1);
+        pythonMentor = new Mentor("Bob", "bob@example.com", List.of("python", "machine learning"), 2);
+        javaMentee = new Mentee("Carol", "carol@example.com", List.of("Java", "web development"), "beginner");
+        index.indexMentor(javaMentor);
+        index.indexMentor(pythonMentor);
+        index.indexMentee(javaMentee);
+    }
+
+    @Nested
+    @DisplayName("Candidate Lookup")
+    class CandidateLookupTests {
+
+        @Test
+        @DisplayName("should find mentors with a shared skill")
+        void shouldFindMentorsWithSharedSkill() {
+            assertEquals(Set.of(javaMentor.getId().toString()), index.findCandidateMentorIds(List.of("java")));
+        }
+
+        @Test
+        @DisplayName("should find mentors through contains and shared-word rules")
+        void shouldFindMentorsThroughRelatedSkills() {
+            assertEquals(Set.of(javaMentor.getId().toString()), index.findCandidateMentorIds(List.of("spring")));
+            assertEquals(Set.of(pythonMentor.getId().toString()),
+                    index.findCandidateMentorIds(List.of("deep learning")));
+        }
+
+        @Test
+        @DisplayName("should find mentees whose goals relate to the expertise")
+        void shouldFindMenteesForExpertise() {
+            assertEquals(Set.of(javaMentee.getId().toString()), index.findCandidateMenteeIds(List.of("JAVA")));
+            assertTrue(index.findCandidateMenteeIds(List.of("kotlin")).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Index Maintenance")
+    class IndexMaintenanceTests {
+
+        @Test
+        @DisplayName("should exclude mentors at capacity until capacity is freed")
+        void shouldExcludeMentorsAtCapacity() {
+            javaMentor.incrementMenteeCount();
+            index.updateMentorCapacity(javaMentor);
+
+            assertTrue(index.findCandidateMentorIds(List.of("java")).isEmpty());
+
+            javaMentor.decrementMenteeCount();
+            index.updateMentorCapacity(javaMentor);
+
+            assertEquals(Set.of(javaMentor.getId().toString()), index.findCandidateMentorIds(List.of("java")));
+        }
+
+        @Test
+        @DisplayName("should exclude matched mentees")
+        void shouldExcludeMatchedMentees() {
+            javaMentee.setMatched(true);
+            index.updateMenteeStatus(javaMentee);
+
+            assertTrue(index.findCandidateMenteeIds(List.of("java")).isEmpty());
+        }
+
+        @Test
+        @DisplayName("should drop removed mentors")
+        void shouldDropRemovedMentors() {
+            index.removeMentor(javaMentor.getId().toString());
+
+            assertTrue(index.findCandidateMentorIds(List.of("java")).isEmpty());
+            assertEquals(1, index.getMentorCount());
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.wcc.bootcamp.java.mentorship.matching;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the SkillScorer.
+ * Scores are compared against the original pairwise string comparison.
+ */
+@DisplayName("SkillScorer")
+class SkillScorerTest {
+
+    private static final List<String> VOCABULARY = List.of(
+            "java", "javascript", "spring boot", "spring", "boot camp", "sql", "database design",
+            "machine learning", "deep learning", "python", "data science", "data analysis",
+            "react", "node.js", "go", "go tools", "ci/cd", "Java", " kotlin ", "android",
+            "mobile development", "mobile apps", "aws", "cloud computing", "");
+
+    private SkillDictionary dictionary;
+    private SkillScorer scorer;
+
+    @BeforeEach
+    void setUp() {
+        dictionary = new SkillDictionary();
+        scorer = new SkillScorer(dictionary);
+    }
+
+    @Test
+    @DisplayName("should score the fraction of matched goals")
+    void shouldScoreFractionOfMatchedGoals() {
+        SkillProfile mentor = dictionary.profile(List.of("java", "spring boot", "sql"));
+        SkillProfile mentee = dictionary.profile(List.of("java", "web development"));
+
+        assertEquals(0.5, scorer.score(mentor, mentee), 0.0001);
+        assertEquals(List.of("java"), scorer.matchedSkills(mentor, mentee));
+    }
+
+    @Test
+    @DisplayName("should count a goal entered twice once, as registration stores it")
+    void shouldCountRepeatedGoalOnce() {
+        SkillProfile mentor = dictionary.profile(List.of("sql"));
+        SkillProfile mentee = dictionary.profile(SkillMatchRules.split("Java, java ,SQL"));
+
+        assertEquals(List.of("java", "sql"), SkillMatchRules.split("Java, java ,SQL"));
+        assertEquals(0.5, scorer.score(mentor, mentee), 0.0001);
+    }
+
+    @Test
+    @DisplayName("should return zero for mentees without goals")
+    void shouldReturnZeroForMenteesWithoutGoals() {
+        SkillProfile mentor = dictionary.profile(List.of("java"));
+        SkillProfile mentee = dictionary.profile(List.of());
+
+        assertEquals(0.0, scorer.score(mentor, mentee), 0.0);
+    }
+
+    @Test
+    @DisplayName("should produce the same scores as pairwise string comparison")
+    void shouldMatchPairwiseStringComparison() {
+        Random random = new Random(42);
+        for (int i = 0; i < 500; i++) {
+            List<String> expertise = randomSkills(random);
+            List<String> goals = randomSkills(random);
+
+            SkillProfile mentor = dictionary.profile(expertise);
+            SkillProfile mentee = dictionary.profile(goals);
+            List<String> expected = pairwiseMatchedSkills(expertise, goals);
+            double expectedScore = goals.isEmpty() ? 0 : (double) expected.size() / goals.size();
+
+            assertEquals(expectedScore, scorer.score(mentor, mentee), 0.0, expertise + " / " + goals);
+            assertEquals(expected, scorer.matchedSkills(mentor, mentee), expertise + " / " + goals);
+        }
+    }
+
+    private static List<String> randomSkills(Random random) {
+        List<String> skills = new ArrayList<>();
+        int count = random.nextInt(5);
+        for (int i = 0; i < count; i++) {
+            skills.add(VOCABULARY.get(random.nextInt(VOCABULARY.size())));
+        }
+        return skills;
+    }
+
+    private static List<String> pairwiseMatchedSkills(List<String> expertise, List<String> goals) {
+        List<String> matchedSkills = new ArrayList<>();
+        for (String goal : goals) {
+            for (String skill : expertise) {
+                if (SkillMatchRules.isSkillMatch(skill, goal) && !matchedSkills.contains(goal)) {
+                    matchedSkills.add(goal);
+                }
+            }
+        }
+        return matchedSkills;
+    }
+}
@@ -0,0 +1,133 @@
+package com.wcc.bootcamp.java.mentorship.matching;
+
+import com.wcc.bootcamp.java.mentorship.model.Mentee;
+import com.wcc.bootcamp.java.mentorship.model.Mentor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the StableMatcher deferred acceptance.
+ */
+@DisplayName("StableMatcher")
+class StableMatcherTest {
+
+    private static final List<String> SKILLS = List.of(
+            "java", "spring boot", "python", "machine learning", "deep learning",
+            "web development", "react", "sql");
+
+    private SkillIndex index;
+    private SkillScorer skillScorer;
+    private StableMatcher matcher;
+    private List<String> menteeIds;
+    private List<SkillProfile> menteeProfiles;
+    private Map<String, Integer> capacities;
+
+    @BeforeEach
+    void setUp() {
+        index = new SkillIndex();
+        skillScorer = new SkillScorer(index.getDictionary());
+        matcher = new StableMatcher(index, skillScorer);
+        menteeIds = new ArrayList<>();
+        menteeProfiles = new ArrayList<>();
+        capacities = new LinkedHashMap<>();
+    }
+
+    @Test
+    @DisplayName("should give a contested mentor to the mentee it scores highest")
+    void shouldKeepBestProposal() {
+        String javaMentor = addMentor(List.of("java"), 1);
+        String halfJava = addMentee(List.of("java", "python"));
+        String fullJava = addMentee(List.of("java"));
+
+        List<ScoredPair> pairs = matcher.assign(menteeIds, menteeProfiles, capacities, ForkJoinPool.commonPool());
+
+        assertEquals(1, pairs.size());
+        assertEquals(javaMentor, pairs.get(0).getMentorId());
+        assertEquals(fullJava, pairs.get(0).getMenteeId());
+        assertNotEquals(halfJava, pairs.get(0).getMenteeId());
+    }
+
+    @Test
+    @DisplayName("should respect remaining mentor capacity")
+    void shouldRespectCapacity() {
+        addMentor(List.of("java"), 2);
+        for (int i = 0; i < 5; i++) {
+            addMentee(List.of("java"));
+        }
+
+        List<ScoredPair> pairs = matcher.assign(menteeIds, menteeProfiles, capacities, ForkJoinPool.commonPool());
+
+        assertEquals(2, pairs.size());
+    }
+
+    @Test
+    @DisplayName("should leave no blocking pair")
+    void shouldProduceStableMatching() {
+        Random random = new Random(11);
+        for (int round = 0; round < 30; round++) {
+            setUp();
+            for (int i = 0; i < 6; i++) {
+                addMentor(randomSkills(random), 1 + random.nextInt(3));
+            }
+            for (int i = 0; i < 25; i++) {
+                addMentee(randomSkills(random));
+            }
+
+            List<ScoredPair> pairs = matcher.assign(menteeIds, menteeProfiles, capacities, ForkJoinPool.commonPool());
+
+            assertStable(pairs);
+        }
+    }
+
+    private void assertStable(List<ScoredPair> pairs) {
+        Map<String, Double> menteeScore = new HashMap<>();
+        Map<String, List<Double>> mentorScores = new HashMap<>();
+        for (ScoredPair pair : pairs) {
+            assertNull(menteeScore.put(pair.getMenteeId(), pair.getScore()), "mentee matched twice");
+            mentorScores.computeIfAbsent(pair.getMentorId(), id -> new ArrayList<>()).add(pair.getScore());
+        }
+
+        for (Map.Entry<String, Integer> mentor : capacities.entrySet()) {
+            List<Double> held = mentorScores.getOrDefault(mentor.getKey(), List.of());
+            assertTrue(held.size() <= mentor.getValue(), "mentor over capacity");
+            double worstHeld = held.stream().mapToDouble(Double::doubleValue).min().orElse(0);
+
+            for (int i = 0; i < menteeIds.size(); i++) {
+                double score = skillScorer.score(index.getMentorProfile(mentor.getKey()), menteeProfiles.get(i));
+                boolean menteeWantsMentor = score > menteeScore.getOrDefault(menteeIds.get(i), 0.0);
+                boolean mentorWantsMentee = held.size() < mentor.getValue() || score > worstHeld;
+                assertFalse(score > 0 && menteeWantsMentor && mentorWantsMentee, "blocking pair found");
+            }
+        }
+    }
+
+    private String addMentor(List<String> skills, int capacity) {
+        Mentor mentor = new Mentor("Mentor", "mentor@example.com", skills, capacity);
+        index.indexMentor(mentor);
+        capacities.put(mentor.getId().toString(), capacity);
+        return mentor.getId().toString();
+    }
+
+    private String addMentee(List<String> goals) {
+        Mentee mentee = new Mentee("Mentee", "mentee@example.com", goals, "beginner");
+        index.indexMentee(mentee);
+        menteeIds.add(mentee.getId().toString());
+        menteeProfiles.add(index.menteeProfile(mentee));
+        return mentee.getId().toString();
+    }
+
+    private static List<String> randomSkills(Random random) {
+        List<String> skills = new ArrayList<>();
+        int count = 1 + random.nextInt(3);
+        for (int i = 0; i < count; i++) {
+            skills.add(SKILLS.get(random.nextInt(SKILLS.size())));
+        }
+        return skills;
+    }
+}
@@ -0,0 +1,74 @@
+package com.wcc.bootcamp.java.mentorship.matching;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the TopMatchSelector bounded heap.
+ */
+@DisplayName("TopMatchSelector")
+class TopMatchSelectorTest {
+
+    @Test
+    @DisplayName("should keep only the k best pairs, best first")
+    void shouldKeepOnlyKBestPairs() {
+        TopMatchSelector selector = new TopMatchSelector(2);
+        selector.offer("m1", "e1", 0.25);
+        selector.offer("m2", "e1", 1.0);
+        selector.offer("m3", "e1", 0.5);
+        selector.offer("m4", "e1", 0.1);
+
+        List<ScoredPair> results = selector.results();
+
+        assertEquals(2, results.size());
+        assertEquals("m2", results.get(0).getMentorId());
+        assertEquals("m3", results.get(1).getMentorId());
+    }
+
+    @Test
+    @DisplayName("should keep offer order for equal scores")
+    void shouldKeepOfferOrderForEqualScores() {
+        TopMatchSelector selector = new TopMatchSelector(2);
+        selector.offer("m1", "e1", 0.5);
+        selector.offer("m2", "e1", 0.5);
+        selector.offer("m3", "e1", 0.5);
+
+        List<ScoredPair> results = selector.results();
+
+        assertEquals("m1", results.get(0).getMentorId());
+        assertEquals("m2", results.get(1).getMentorId());
+    }
+
+    @Test
+    @DisplayName("should agree with a full sort")
+    void shouldAgreeWithFullSort() {
+        Random random = new Random(7);
+        TopMatchSelector selector = new TopMatchSelector(10);
+        List<Double> scores = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            double score = random.nextInt(20) / 20.0;
+            scores.add(score);
+            selector.offer("m" + i, "e", score);
+        }
+        scores.sort(Comparator.reverseOrder());
+
+        List<ScoredPair> results = selector.results();
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(scores.get(i), results.get(i).getScore(), 0.0);
+        }
+    }
+
+    @Test
+    @DisplayName("should reject a non-positive limit")
+    void shouldRejectNonPositiveLimit() {
+        assertThrows(IllegalArgumentException.class, () -> new TopMatchSelector(0));
+    }
+}
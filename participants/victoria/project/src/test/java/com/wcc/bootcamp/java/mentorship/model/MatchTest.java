@@ -112,6 +112,7 @@ class MatchTest {
             match.cancel();
             
             assertEquals(Match.MatchStatus.CANCELLED, match.getStatus());
+            assertNotNull(match.getEndedAt());
         }
 
         @Test
@@ -140,6 +141,7 @@ class MatchTest {
             match.complete();
             
             assertEquals(Match.MatchStatus.COMPLETED, match.getStatus());
+            assertNotNull(match.getEndedAt());
         }
 
         @Test
@@ -191,8 +193,8 @@ class MatchTest {
             String format = match.toFileFormat();
             
             assertNotNull(format);
-            assertTrue(format.contains(mentor.getId()));
-            assertTrue(format.contains(mentee.getId()));
+            assertTrue(format.contains(mentor.getId().toString()));
+            assertTrue(format.contains(mentee.getId().toString()));
             assertTrue(format.contains("java"));
             assertTrue(format.contains("PENDING"));
         }
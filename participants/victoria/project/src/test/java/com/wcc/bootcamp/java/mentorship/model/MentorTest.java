@@ -38,6 +38,12 @@ class MentorTest {
             assertNotEquals(mentor.getId(), mentor2.getId());
         }
 
+        @Test
+        @DisplayName("should leave the ID of an entity being loaded to JPA")
+        void shouldNotGenerateIdForLoadedEntity() {
+            assertNull(new Mentor().getId());
+        }
+
         @Test
         @DisplayName("should set default max mentees to 3")
         void shouldSetDefaultMaxMentees() {
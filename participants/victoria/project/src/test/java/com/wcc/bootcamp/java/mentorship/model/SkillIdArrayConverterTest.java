@@ -0,0 +1,69 @@
+package com.wcc.bootcamp.java.mentorship.model;
+
+import com.wcc.bootcamp.java.mentorship.repository.SkillCatalog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for packing matched skills into an array of skill IDs.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SkillIdArrayConverter")
+class SkillIdArrayConverterTest {
+
+    @Mock
+    private SkillCatalog skillCatalog;
+
+    @InjectMocks
+    private SkillIdArrayConverter converter;
+
+    @Test
+    @DisplayName("should store skill names as their IDs, in order")
+    void shouldEncodeNames() {
+        when(skillCatalog.idOf("java")).thenReturn(7);
+        when(skillCatalog.idOf("sql")).thenReturn(3);
+
+        assertArrayEquals(new int[] {7, 3}, converter.convertToDatabaseColumn(List.of("java", "sql")));
+        assertArrayEquals(new int[0], converter.convertToDatabaseColumn(List.of()));
+    }
+
+    @Test
+    @DisplayName("should look up the names only when the list is read")
+    void shouldDecodeOnFirstRead() {
+        when(skillCatalog.nameOf(7)).thenReturn("java");
+        when(skillCatalog.nameOf(3)).thenReturn("sql");
+
+        List<String> skills = converter.convertToEntityAttribute(new int[] {7, 3});
+        assertEquals(2, skills.size());
+        verifyNoInteractions(skillCatalog);
+
+        assertEquals(List.of("java", "sql"), skills);
+        assertEquals("sql", skills.get(1));
+        verify(skillCatalog, times(1)).nameOf(7);
+    }
+
+    @Test
+    @DisplayName("should write a list it read back without looking up names or IDs")
+    void shouldReencodeWithoutLookups() {
+        List<String> skills = converter.convertToEntityAttribute(new int[] {7, 3});
+
+        assertArrayEquals(new int[] {7, 3}, converter.convertToDatabaseColumn(skills));
+        verifyNoInteractions(skillCatalog);
+    }
+
+    @Test
+    @DisplayName("should read a missing or empty array as no skills")
+    void shouldDecodeEmpty() {
+        assertTrue(converter.convertToEntityAttribute(null).isEmpty());
+        assertTrue(converter.convertToEntityAttribute(new int[0]).isEmpty());
+    }
+}
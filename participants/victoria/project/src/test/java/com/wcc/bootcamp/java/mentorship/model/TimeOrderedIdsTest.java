@@ -0,0 +1,55 @@
+package com.wcc.bootcamp.java.mentorship.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the time-ordered primary key generator.
+ */
+@DisplayName("TimeOrderedIds")
+class TimeOrderedIdsTest {
+
+    @Test
+    @DisplayName("should generate version 7 UUIDs with the RFC variant")
+    void shouldGenerateVersion7() {
+        UUID id = TimeOrderedIds.next();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+    }
+
+    @Test
+    @DisplayName("should store the timestamp in the leading 48 bits")
+    void shouldStoreTimestamp() {
+        long millis = 1_760_000_000_000L;
+
+        assertEquals(millis, TimeOrderedIds.next(millis).getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    @DisplayName("should sort keys from a later millisecond after earlier ones")
+    void shouldSortByTime() {
+        UUID earlier = TimeOrderedIds.next(1_760_000_000_000L);
+        UUID later = TimeOrderedIds.next(1_760_000_000_001L);
+
+        assertTrue(earlier.compareTo(later) < 0);
+        assertTrue(earlier.toString().compareTo(later.toString()) < 0);
+    }
+
+    @Test
+    @DisplayName("should not repeat keys within the same millisecond")
+    void shouldBeUniqueWithinMillisecond() {
+        Set<UUID> ids = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(TimeOrderedIds.next(1_760_000_000_000L));
+        }
+
+        assertEquals(10_000, ids.size());
+    }
+}
@@ -0,0 +1,130 @@
+package com.wcc.bootcamp.java.mentorship.repository;
+
+import com.wcc.bootcamp.java.mentorship.model.Match;
+import com.wcc.bootcamp.java.mentorship.model.Mentee;
+import com.wcc.bootcamp.java.mentorship.model.Mentor;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the repository fetch plans, counting the SQL statements
+ * Hibernate prepares while a result list and all its collections are read.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.mail.enabled=false"})
+@DisplayName("Repository fetch plans")
+class FetchPlanTest {
+
+    private static final int MENTORS = 100;
+    private static final int MATCHES = 10_000;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    @Autowired
+    private MenteeRepository menteeRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private SkillCatalog skillCatalog;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        List<String> skills = new ArrayList<>(List.of("java", "sql"));
+        for (int i = 0; i < MENTORS; i++) {
+            skills.add("skill" + i);
+        }
+        for (int i = 0; i < MATCHES; i++) {
+            skills.add("goal" + i);
+        }
+        skillCatalog.register(skills);
+
+        List<Mentor> mentors = new ArrayList<>();
+        for (int i = 0; i < MENTORS; i++) {
+            mentors.add(new Mentor("Mentor" + i, "mentor" + i + "@example.com",
+                    List.of("java", "sql", "skill" + i), MATCHES / MENTORS));
+        }
+        mentors = mentorRepository.saveAll(mentors);
+
+        List<Mentee> mentees = new ArrayList<>();
+        for (int i = 0; i < MATCHES; i++) {
+            mentees.add(new Mentee("Mentee" + i, "mentee" + i + "@example.com",
+                    List.of("java", "goal" + i), "beginner"));
+        }
+        mentees = menteeRepository.saveAll(mentees);
+
+        List<Match> matches = new ArrayList<>();
+        for (int i = 0; i < MATCHES; i++) {
+            matches.add(new Match(mentors.get(i % MENTORS), mentees.get(i), List.of("java"), 0.5));
+        }
+        matchRepository.saveAll(matches);
+    }
+
+    @AfterEach
+    void tearDown() {
+        matchRepository.deleteAll();
+        menteeRepository.deleteAll();
+        mentorRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("should list matches with their skills, mentors and mentees in a constant number of statements")
+    void shouldListMatchesInConstantStatements() {
+        statistics.clear();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Match> matches = matchRepository.findAll();
+            assertEquals(MATCHES, matches.size());
+            for (Match match : matches) {
+                assertFalse(match.getMatchedSkills().isEmpty());
+                assertFalse(match.getMentor().getExpertiseAreas().isEmpty());
+                assertFalse(match.getMentee().getLearningGoals().isEmpty());
+            }
+        });
+
+        // Matches with their skills, mentors and mentees, then one query each for expertise and goals
+        assertTrue(statistics.getPrepareStatementCount() <= 3,
+                "statements: " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("should list mentors with their expertise in two statements")
+    void shouldListMentorsInTwoStatements() {
+        statistics.clear();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Mentor> mentors = mentorRepository.findAll();
+            assertEquals(MENTORS, mentors.size());
+            mentors.forEach(mentor -> assertEquals(3, mentor.getExpertiseAreas().size()));
+        });
+
+        assertTrue(statistics.getPrepareStatementCount() <= 2,
+                "statements: " + statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,77 @@
+package com.wcc.bootcamp.java.mentorship.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the migrated schema, checking that the repository filters
+ * are planned on their indexes rather than on a table scan.
+ */
+@SpringBootTest(properties = "spring.mail.enabled=false")
+@DisplayName("Schema migrations")
+class SchemaMigrationTest {
+
+    private static final String ANY_ID = "CAST('00000000-0000-7000-8000-000000000000' AS UUID)";
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("should apply every migration")
+    void shouldApplyEveryMigration() {
+        assertEquals(0, flyway.info().pending().length);
+        assertEquals("8", flyway.info().current().getVersion().getVersion());
+    }
+
+    @Test
+    @DisplayName("should plan status, mentor and mentee filters on the match indexes")
+    void shouldUseMatchIndexes() {
+        assertTrue(plan("SELECT id FROM matches WHERE status = 'ACTIVE'").contains("IDX_MATCH_STATUS"));
+        assertTrue(plan("SELECT id FROM matches WHERE mentor_id = " + ANY_ID + " AND status = 'ACTIVE'")
+                .contains("IDX_MATCH_MENTOR"));
+        assertTrue(plan("SELECT id FROM matches WHERE mentee_id = " + ANY_ID + " AND status = 'ACTIVE'")
+                .contains("IDX_MATCH_MENTEE"));
+    }
+
+    @Test
+    @DisplayName("should plan the unmatched mentee filter on its index")
+    void shouldUseMenteeMatchedIndex() {
+        assertTrue(plan("SELECT id FROM mentees WHERE is_matched = FALSE").contains("IDX_MENTEE_MATCHED"));
+    }
+
+    @Test
+    @DisplayName("should seek list pages on the name and date indexes")
+    void shouldUseListIndexes() {
+        assertTrue(plan("SELECT id FROM mentors WHERE name > 'a' ORDER BY name, id").contains("IDX_MENTOR_NAME"));
+        assertTrue(plan("SELECT id FROM mentees WHERE name > 'a' ORDER BY name, id").contains("IDX_MENTEE_NAME"));
+        assertTrue(plan("SELECT id FROM matches WHERE match_date < TIMESTAMP '2030-01-01 00:00:00'")
+                .contains("IDX_MATCH_DATE"));
+    }
+
+    @Test
+    @DisplayName("should plan the archive cutoff on the end date index")
+    void shouldUseEndedIndex() {
+        assertTrue(plan("SELECT id FROM matches WHERE ended_at < TIMESTAMP '2030-01-01 00:00:00'")
+                .contains("IDX_MATCH_ENDED"));
+    }
+
+    @Test
+    @DisplayName("should plan skill lookups on the integer skill indexes")
+    void shouldUseSkillIndexes() {
+        assertTrue(plan("SELECT mentor_id FROM mentor_skills WHERE skill_id IN (1, 2)").contains("IDX_MENTOR_SKILL"));
+        assertTrue(plan("SELECT mentee_id FROM mentee_skills WHERE skill_id IN (1, 2)").contains("IDX_MENTEE_SKILL"));
+    }
+
+    private String plan(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class).toUpperCase();
+    }
+}
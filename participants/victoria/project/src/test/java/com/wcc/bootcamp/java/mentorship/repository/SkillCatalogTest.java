@@ -0,0 +1,157 @@
+package com.wcc.bootcamp.java.mentorship.repository;
+
+import com.wcc.bootcamp.java.mentorship.model.Mentor;
+import com.wcc.bootcamp.java.mentorship.service.MentorshipService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the skills table: profiles store skill IDs, and the catalog maps
+ * names to IDs and back.
+ */
+@SpringBootTest(properties = "spring.mail.enabled=false")
+@DisplayName("Skill catalog")
+class SkillCatalogTest {
+
+    @Autowired
+    private SkillCatalog skillCatalog;
+
+    @Autowired
+    private MentorshipService mentorshipService;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        mentorRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("should store each skill name once and profiles as skill IDs")
+    void shouldStoreSkillIds() {
+        Mentor grace = mentorshipService.registerMentor("Grace Hopper", "grace@example.com",
+                List.of("catalog java", "catalog sql"), 2);
+        mentorshipService.registerMentor("Ada Lovelace", "ada@example.com", List.of("catalog java"), 2);
+
+        assertEquals(1, count("SELECT COUNT(*) FROM skills WHERE name = 'catalog java'"));
+        assertEquals(skillCatalog.idOf("catalog java"), count(
+                "SELECT MIN(skill_id) FROM mentor_skills WHERE mentor_id = '" + grace.getId() + "'"));
+        assertEquals(List.of("catalog java", "catalog sql"),
+                mentorshipService.findMentorById(grace.getId()).orElseThrow().getExpertiseAreas());
+    }
+
+    @Test
+    @DisplayName("should map a registered name to the same ID and back")
+    void shouldMapBothWays() {
+        skillCatalog.register(List.of("catalog kotlin"));
+        int id = skillCatalog.idOf("catalog kotlin");
+        skillCatalog.register(List.of("catalog kotlin"));
+
+        assertEquals(id, skillCatalog.idOf("catalog kotlin"));
+        assertEquals("catalog kotlin", skillCatalog.nameOf(id));
+        assertTrue(skillCatalog.contains("catalog kotlin"));
+        assertEquals(1, count("SELECT COUNT(*) FROM skills WHERE name = 'catalog kotlin'"));
+        assertThrows(DataRetrievalFailureException.class, () -> skillCatalog.nameOf(-1));
+    }
+
+    @Test
+    @Timeout(30)
+    @DisplayName("should store a skill two transactions register at the same time once")
+    void shouldRegisterSameSkillConcurrently() throws Exception {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        CountDownLatch registered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Integer> first = executor.submit(() -> transaction.execute(status -> {
+                skillCatalog.register(List.of("catalog go"));
+                registered.countDown();
+                await(release);
+                return skillCatalog.idOf("catalog go");
+            }));
+            assertTrue(registered.await(10, TimeUnit.SECONDS));
+            Future<Integer> second = executor.submit(() -> transaction.execute(status -> {
+                skillCatalog.register(List.of("catalog go"));
+                return skillCatalog.idOf("catalog go");
+            }));
+
+            Thread.sleep(200);
+            release.countDown();
+
+            assertEquals(first.get(), second.get());
+            assertEquals(1, count("SELECT COUNT(*) FROM skills WHERE name = 'catalog go'"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("should roll a new skill back with the registration that stored it")
+    void shouldRollBackSkillWithRegistration() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            mentorshipService.registerMentor("Grace Hopper", "grace@example.com", List.of("catalog rust"), 2);
+            mentorRepository.flush();
+            status.setRollbackOnly();
+        });
+
+        assertEquals(0, mentorRepository.count());
+        assertEquals(0, count("SELECT COUNT(*) FROM skills WHERE name = 'catalog rust'"));
+        assertFalse(skillCatalog.contains("catalog rust"));
+    }
+
+    @Test
+    @DisplayName("should not store a skill a profile is saved with without registering it")
+    void shouldNotStoreUnregisteredSkill() {
+        assertThrows(DataAccessException.class, () -> mentorRepository.saveAndFlush(
+                new Mentor("Grace Hopper", "grace@example.com", List.of("catalog scala"))));
+
+        assertEquals(0, count("SELECT COUNT(*) FROM skills WHERE name = 'catalog scala'"));
+    }
+
+    @Test
+    @DisplayName("should not store a skill that is only searched for")
+    void shouldNotStoreSearchedSkill() {
+        assertTrue(mentorshipService.listMentors("catalog cobol", null, null, 10).isEmpty());
+
+        assertEquals(0, count("SELECT COUNT(*) FROM skills WHERE name = 'catalog cobol'"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
@@ -0,0 +1,51 @@
+package com.wcc.bootcamp.java.mentorship.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for grouping skill projection rows per owner.
+ */
+@DisplayName("SkillRow")
+class SkillRowTest {
+
+    private static final UUID A = new UUID(0, 1);
+    private static final UUID B = new UUID(0, 2);
+
+    @Test
+    @DisplayName("should group consecutive rows into one skill list per owner")
+    void shouldGroupRowsPerOwner() {
+        List<UUID> ids = new ArrayList<>();
+        List<List<String>> skills = new ArrayList<>();
+
+        SkillRow.group(Stream.of(
+                new MentorSkillRow(A, 0, 2, "java"),
+                new MentorSkillRow(A, 0, 2, "sql"),
+                new MentorSkillRow(B, 1, 1, "python")), (row, expertise) -> {
+            ids.add(row.getMentorId());
+            skills.add(expertise);
+        });
+
+        assertEquals(List.of(A, B), ids);
+        assertEquals(List.of(List.of("java", "sql"), List.of("python")), skills);
+    }
+
+    @Test
+    @DisplayName("should report owners without skills with an empty list")
+    void shouldReportOwnerWithoutSkills() {
+        List<List<String>> skills = new ArrayList<>();
+
+        SkillRow.group(Stream.of(
+                new MenteeSkillRow(A, false, null),
+                new MenteeSkillRow(B, true, "java")), (row, goals) -> skills.add(goals));
+
+        assertEquals(List.of(List.of(), List.of("java")), skills);
+    }
+}
@@ -0,0 +1,117 @@
+package com.wcc.bootcamp.java.mentorship.service;
+
+import com.wcc.bootcamp.java.mentorship.model.Match;
+import com.wcc.bootcamp.java.mentorship.model.Mentee;
+import com.wcc.bootcamp.java.mentorship.model.Mentor;
+import com.wcc.bootcamp.java.mentorship.repository.MatchRepository;
+import com.wcc.bootcamp.java.mentorship.repository.MenteeRepository;
+import com.wcc.bootcamp.java.mentorship.repository.MentorRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the CSV import against the in-memory database.
+ */
+@SpringBootTest(properties = {"spring.mail.enabled=false", "mentorship.import.batch-size=500"})
+@DisplayName("Bulk CSV import")
+class BulkImportServiceTest {
+
+    private static final int MENTORS = 20_000;
+
+    @Autowired
+    private BulkImportService bulkImportService;
+
+    @Autowired
+    private MentorshipService mentorshipService;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    @Autowired
+    private MenteeRepository menteeRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @AfterEach
+    void tearDown() {
+        matchRepository.deleteAll();
+        menteeRepository.deleteAllInBatch();
+        mentorRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @Timeout(60)
+    @DisplayName("should import a large mentor file in batches")
+    void shouldImportLargeMentorFile() throws IOException {
+        StringBuilder csv = new StringBuilder("name,email,skills,maxMentees\n");
+        for (int i = 0; i < MENTORS; i++) {
+            csv.append("Mentor ").append(letters(i)).append(",mentor").append(i).append("@example.com,")
+                    .append("\"java, skill").append(i % 50).append("\",2\n");
+        }
+
+        ImportResult result = bulkImportService.importMentors(new StringReader(csv.toString()));
+
+        assertEquals(MENTORS, result.getImported());
+        assertEquals(0, result.getFailed());
+        assertEquals(MENTORS, mentorRepository.count());
+        Mentor mentor = mentorRepository.findByNameIgnoreCase("Mentor " + letters(7)).orElseThrow();
+        assertEquals(List.of("java", "skill7"), mentor.getExpertiseAreas());
+        assertEquals(2, mentor.getMaxMentees());
+    }
+
+    @Test
+    @DisplayName("should report invalid rows and import the rest")
+    void shouldReportInvalidRows() throws IOException {
+        String csv = """
+                name,email,learningGoals,experienceLevel
+                Frank Lee,frank@example.com,Java;Spring,intermediate
+                Grace Chen,not-an-email,python,beginner
+                Henry Wilson,henry@example.com,,beginner
+                Ivy Taylor,ivy@example.com,Kotlin
+                """;
+
+        ImportResult result = bulkImportService.importMentees(new StringReader(csv));
+
+        assertEquals(2, result.getImported());
+        assertEquals(2, result.getFailed());
+        assertEquals(List.of(3L, 4L), result.getErrors().stream().map(ImportResult.RowError::getLine).toList());
+        Mentee frank = menteeRepository.findByNameIgnoreCase("Frank Lee").orElseThrow();
+        assertEquals(List.of("java", "spring"), frank.getLearningGoals());
+        assertEquals("intermediate", frank.getExperienceLevel());
+        assertEquals("beginner", menteeRepository.findByNameIgnoreCase("Ivy Taylor").orElseThrow().getExperienceLevel());
+    }
+
+    @Test
+    @DisplayName("should make imported mentors available to matching")
+    void shouldMatchImportedMentors() throws IOException {
+        Mentee mentee = mentorshipService.registerMentee("Karen Davis", "karen@example.com",
+                List.of("rust"), "beginner");
+        assertTrue(mentorshipService.findMatchesForMentee(mentee.getId()).isEmpty());
+
+        bulkImportService.importMentors(new StringReader("Alice Johnson,alice@example.com,Rust;Go\n"));
+
+        List<Match> matches = mentorshipService.findMatchesForMentee(mentee.getId());
+        assertEquals(1, matches.size());
+        assertEquals("Alice Johnson", matches.get(0).getMentor().getName());
+    }
+
+    private static String letters(int i) {
+        StringBuilder name = new StringBuilder();
+        do {
+            name.append((char) ('a' + i % 26));
+            i /= 26;
+        } while (i > 0);
+        return name.toString();
+    }
+}
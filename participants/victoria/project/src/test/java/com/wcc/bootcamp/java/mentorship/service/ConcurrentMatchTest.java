@@ -0,0 +1,188 @@
+package com.wcc.bootcamp.java.mentorship.service;
+
+import com.wcc.bootcamp.java.mentorship.model.Match;
+import com.wcc.bootcamp.java.mentorship.model.Mentee;
+import com.wcc.bootcamp.java.mentorship.model.Mentor;
+import com.wcc.bootcamp.java.mentorship.repository.MatchRepository;
+import com.wcc.bootcamp.java.mentorship.repository.MenteeRepository;
+import com.wcc.bootcamp.java.mentorship.repository.MentorRepository;
+import com.wcc.bootcamp.java.mentorship.repository.SkillCatalog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Stress tests for creating matches from many threads at once against the in-memory database.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:concurrency;DB_CLOSE_DELAY=-1",
+        "spring.mail.enabled=false"})
+@DisplayName("Concurrent match creation")
+class ConcurrentMatchTest {
+
+    private static final int THREADS = 16;
+    private static final int MENTORS = 20;
+    private static final int CAPACITY = 5;
+    private static final int REQUESTS_PER_MENTOR = 20;
+
+    @Autowired
+    private MentorshipService mentorshipService;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    @Autowired
+    private MenteeRepository menteeRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private SkillCatalog skillCatalog;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        matchRepository.deleteAll();
+        menteeRepository.deleteAll();
+        mentorRepository.deleteAll();
+    }
+
+    @Test
+    @Timeout(60)
+    @DisplayName("should never overbook a mentor")
+    void shouldNeverOverbookMentor() throws Exception {
+        skillCatalog.register(List.of("java"));
+        List<Mentor> mentors = new ArrayList<>();
+        for (int i = 0; i < MENTORS; i++) {
+            mentors.add(new Mentor("Mentor " + i, "mentor" + i + "@example.com", List.of("java"), CAPACITY));
+        }
+        mentors = mentorRepository.saveAll(mentors);
+        List<Mentee> mentees = new ArrayList<>();
+        for (int i = 0; i < MENTORS * REQUESTS_PER_MENTOR; i++) {
+            mentees.add(new Mentee("Mentee " + i, "mentee" + i + "@example.com", List.of("java"), "beginner"));
+        }
+        mentees = menteeRepository.saveAll(mentees);
+
+        List<UUID[]> requests = new ArrayList<>();
+        for (int i = 0; i < mentees.size(); i++) {
+            requests.add(new UUID[] {mentors.get(i % MENTORS).getId(), mentees.get(i).getId()});
+        }
+
+        Map<String, Object> before = mentorshipService.getStatistics();
+        int created = createConcurrently(requests);
+        Map<String, Object> after = mentorshipService.getStatistics();
+
+        assertEquals(MENTORS * CAPACITY, created);
+        assertEquals((long) created, change(before, after, "activeMatches"));
+        assertEquals((long) -created, change(before, after, "unmatchedMentees"));
+        assertEquals((long) -MENTORS, change(before, after, "availableMentors"));
+        for (Mentor mentor : mentorRepository.findAll()) {
+            assertEquals(CAPACITY, mentor.getCurrentMenteeCount(), mentor.getName());
+            assertEquals(CAPACITY, matchRepository.findByMentorAndStatus(mentor, Match.MatchStatus.ACTIVE).size(),
+                    mentor.getName());
+        }
+        assertEquals(mentees.size() - created, menteeRepository.findByIsMatchedFalse().size());
+    }
+
+    @Test
+    @Timeout(60)
+    @DisplayName("should match a mentee only once")
+    void shouldMatchMenteeOnce() throws Exception {
+        Mentee mentee = mentorshipService.registerMentee("Frank Lee", "frank@example.com",
+                List.of("java"), "beginner");
+        List<UUID[]> requests = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Mentor mentor = mentorshipService.registerMentor("Mentor " + i, "mentor" + i + "@example.com",
+                    List.of("java"), 1);
+            requests.add(new UUID[] {mentor.getId(), mentee.getId()});
+        }
+
+        int created = createConcurrently(requests);
+
+        assertEquals(1, created);
+        assertEquals(1, matchRepository.findByStatus(Match.MatchStatus.ACTIVE).size());
+        int booked = mentorRepository.findAll().stream().mapToInt(Mentor::getCurrentMenteeCount).sum();
+        assertEquals(1, booked);
+    }
+
+    @Test
+    @DisplayName("should keep offering a mentor whose match was rolled back")
+    void shouldIgnoreRolledBackMatch() {
+        Mentor mentor = mentorshipService.registerMentor("Ada Byron", "ada@example.com", List.of("rollback java"), 1);
+        Mentee mentee = mentorshipService.registerMentee("Frank Lee", "frank@example.com",
+                List.of("rollback java"), "beginner");
+        Mentee other = mentorshipService.registerMentee("Grace Hopper", "grace@example.com",
+                List.of("rollback java"), "beginner");
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            mentorshipService.createMatch(mentor.getId(), mentee.getId());
+            status.setRollbackOnly();
+        });
+
+        assertEquals(0, mentorRepository.findById(mentor.getId()).orElseThrow().getCurrentMenteeCount());
+        assertTrue(mentorshipService.findMatchesForMentee(other.getId()).stream()
+                .anyMatch(match -> match.getMentor().getId().equals(mentor.getId())));
+    }
+
+    private static long change(Map<String, Object> before, Map<String, Object> after, String key) {
+        return (Long) after.get(key) - (Long) before.get(key);
+    }
+
+    /**
+     * Sends every (mentor ID, mentee ID) request at once from a thread pool and returns how many
+     * matches were created. Requests may only fail because the mentor or mentee was taken.
+     */
+    private int createConcurrently(List<UUID[]> requests) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (UUID[] request : requests) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        mentorshipService.createMatch(request[0], request[1]);
+                        return true;
+                    } catch (IllegalArgumentException e) {
+                        assertNotEquals("Mentor or Mentee not found", e.getMessage());
+                        return false;
+                    }
+                }));
+            }
+
+            long startNanos = System.nanoTime();
+            start.countDown();
+            int created = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    created++;
+                }
+            }
+            long millis = Math.max(1, (System.nanoTime() - startNanos) / 1_000_000);
+            System.out.printf("%,d match requests (%,d created) in %,d ms, %,d requests/s%n",
+                    requests.size(), created, millis, requests.size() * 1000L / millis);
+            return created;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.wcc.bootcamp.java.mentorship.service;
+
+import com.wcc.bootcamp.java.mentorship.dto.MentorRegistrationForm;
+import com.wcc.bootcamp.java.mentorship.matching.SkillMatchRules;
+import com.wcc.bootcamp.java.mentorship.model.Mentee;
+import com.wcc.bootcamp.java.mentorship.model.Mentor;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CsvProfileReader")
+class CsvProfileReaderTest {
+
+    private static Validator validator;
+
+    @BeforeAll
+    static void setUp() {
+        validator = Validation.buildDefaultValidatorFactory().getValidator();
+    }
+
+    private static List<List<String>> readAll(String csv) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        try (CsvProfileReader reader = new CsvProfileReader(new StringReader(csv))) {
+            List<String> fields;
+            while ((fields = reader.nextRecord()) != null) {
+                records.add(fields);
+            }
+        }
+        return records;
+    }
+
+    @Nested
+    @DisplayName("Parsing")
+    class Parsing {
+
+        @Test
+        @DisplayName("should skip the header row and blank lines")
+        void shouldSkipHeaderAndBlankLines() throws IOException {
+            List<List<String>> records = readAll("name,email,skills\n\nAnn,ann@example.com,java\n");
+
+            assertEquals(List.of(List.of("Ann", "ann@example.com", "java")), records);
+        }
+
+        @Test
+        @DisplayName("should keep commas, escaped quotes and line breaks inside quoted fields")
+        void shouldParseQuotedFields() throws IOException {
+            List<List<String>> records = readAll("\"Ann \"\"A\"\" Lee\",ann@example.com,\"java, sql\nspring\"\n"
+                    + "Ben,ben@example.com,python\n");
+
+            assertEquals(2, records.size());
+            assertEquals(List.of("Ann \"A\" Lee", "ann@example.com", "java, sql\nspring"), records.get(0));
+            assertEquals(List.of("Ben", "ben@example.com", "python"), records.get(1));
+        }
+
+        @Test
+        @DisplayName("should report the line each record starts on")
+        void shouldReportRecordLine() throws IOException {
+            try (CsvProfileReader reader = new CsvProfileReader(
+                    new StringReader("name,email,skills\nAnn,a@x.io,\"java\nsql\"\nBen,b@x.io,go\n"))) {
+                reader.nextRecord();
+                assertEquals(2, reader.getLineNumber());
+                reader.nextRecord();
+                assertEquals(4, reader.getLineNumber());
+                assertNull(reader.nextRecord());
+            }
+        }
+
+        @Test
+        @DisplayName("should fail on an unterminated quoted field")
+        void shouldFailOnUnterminatedQuote() {
+            assertThrows(IOException.class, () -> readAll("Ann,ann@example.com,\"java\n"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Profiles")
+    class Profiles {
+
+        @Test
+        @DisplayName("should normalize skills like registration does")
+        void shouldNormalizeSkills() {
+            Mentor mentor = CsvProfileReader.toMentor(
+                    List.of("Alice Johnson", "alice@example.com", " Java ; Spring Boot;;JAVA", "5"), validator);
+
+            assertEquals(List.of("java", "spring boot"), mentor.getExpertiseAreas());
+            assertEquals(SkillMatchRules.split(" Java , Spring Boot,,JAVA"), mentor.getExpertiseAreas());
+            assertEquals(5, mentor.getMaxMentees());
+        }
+
+        @Test
+        @DisplayName("should default max mentees and experience level")
+        void shouldApplyDefaults() {
+            Mentor mentor = CsvProfileReader.toMentor(List.of("Alice Johnson", "alice@example.com", "java"), validator);
+            Mentee mentee = CsvProfileReader.toMentee(List.of("Frank Lee", "frank@example.com", "java, sql"), validator);
+
+            assertEquals(3, mentor.getMaxMentees());
+            assertEquals("beginner", mentee.getExperienceLevel());
+            assertEquals(List.of("java", "sql"), mentee.getLearningGoals());
+        }
+
+        @Test
+        @DisplayName("should reject rows with the registration forms' messages")
+        void shouldRejectInvalidRows() {
+            assertEquals("Please provide a valid email address", assertThrows(IllegalArgumentException.class,
+                    () -> CsvProfileReader.toMentor(List.of("Alice", "not-an-email", "java"), validator)).getMessage());
+            assertEquals("At least one learning goal is required", assertThrows(IllegalArgumentException.class,
+                    () -> CsvProfileReader.toMentee(List.of("Frank", "frank@example.com", " ; "), validator)).getMessage());
+            assertEquals("Cannot accept more than 10 mentees", assertThrows(IllegalArgumentException.class,
+                    () -> CsvProfileReader.toMentor(List.of("Alice", "alice@example.com", "java", "11"), validator))
+                    .getMessage());
+            assertEquals("Name contains invalid characters", assertThrows(IllegalArgumentException.class,
+                    () -> CsvProfileReader.toMentor(List.of("<b>Alice</b>", "alice@example.com", "java"), validator))
+                    .getMessage());
+        }
+
+        @Test
+        @DisplayName("should accept the same emails as the registration forms")
+        void shouldAcceptFormEmails() {
+            MentorRegistrationForm form = new MentorRegistrationForm();
+            form.setName("Alice Johnson");
+            form.setEmail("alice@localhost");
+            form.setSkills("java");
+
+            assertTrue(validator.validate(form).isEmpty());
+            assertEquals("alice@localhost", CsvProfileReader.toMentor(
+                    List.of("Alice Johnson", "alice@localhost", "java"), validator).getEmail());
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.wcc.bootcamp.java.mentorship.service;
+
+import com.wcc.bootcamp.java.mentorship.model.Match;
+import com.wcc.bootcamp.java.mentorship.model.Mentee;
+import com.wcc.bootcamp.java.mentorship.model.Mentor;
+import com.wcc.bootcamp.java.mentorship.repository.MatchRepository;
+import com.wcc.bootcamp.java.mentorship.repository.MenteeRepository;
+import com.wcc.bootcamp.java.mentorship.repository.MentorRepository;
+import com.wcc.bootcamp.java.mentorship.repository.SkillCatalog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the keyset-paginated listings against the in-memory database.
+ */
+@SpringBootTest(properties = "spring.mail.enabled=false")
+@DisplayName("Keyset pagination")
+class KeysetPaginationTest {
+
+    @Autowired
+    private MentorshipService mentorshipService;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    @Autowired
+    private MenteeRepository menteeRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private SkillCatalog skillCatalog;
+
+    @BeforeEach
+    void setUp() {
+        skillCatalog.register(List.of("java", "sql", "python"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        matchRepository.deleteAll();
+        menteeRepository.deleteAll();
+        mentorRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("should walk all mentors once in (name, id) order, including equal names")
+    void shouldWalkAllMentorsInKeyOrder() {
+        List<Mentor> mentors = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            mentors.add(new Mentor(i % 3 == 0 ? "Same Name" : "Mentor " + i, "mentor" + i + "@example.com",
+                    List.of("java"), 2));
+        }
+        mentorRepository.saveAll(mentors);
+
+        List<UUID> seen = new ArrayList<>();
+        KeysetPage<Mentor> page = mentorshipService.listMentors(null, null, null, 3);
+        page.getItems().forEach(mentor -> seen.add(mentor.getId()));
+        while (page.hasNext()) {
+            Mentor last = page.getLast();
+            page = mentorshipService.listMentors(null, last.getName(), last.getId(), 3);
+            page.getItems().forEach(mentor -> seen.add(mentor.getId()));
+        }
+
+        List<UUID> expected = mentors.stream()
+                .sorted(Comparator.comparing(Mentor::getName).thenComparing(Mentor::getId))
+                .map(Mentor::getId)
+                .toList();
+        assertEquals(expected, seen);
+    }
+
+    @Test
+    @DisplayName("should page mentors with one expertise area past the cursor")
+    void shouldPageMentorsWithExpertise() {
+        Mentor ann = new Mentor("Ann", "ann@example.com", List.of("java", "sql"), 2);
+        Mentor ben = new Mentor("Ben", "ben@example.com", List.of("python"), 2);
+        Mentor cat = new Mentor("Cat", "cat@example.com", List.of("sql", "java"), 2);
+        Mentor dan = new Mentor("Dan", "dan@example.com", List.of("java"), 2);
+        mentorRepository.saveAll(List.of(ann, ben, cat, dan));
+
+        KeysetPage<Mentor> first = mentorshipService.listMentors("Java", null, null, 2);
+        KeysetPage<Mentor> second = mentorshipService.listMentors(
+                "Java", first.getLast().getName(), first.getLast().getId(), 2);
+
+        assertEquals(List.of(ann.getId(), cat.getId()), first.getItems().stream().map(Mentor::getId).toList());
+        assertTrue(first.hasNext());
+        assertEquals(List.of(dan.getId()), second.getItems().stream().map(Mentor::getId).toList());
+        assertFalse(second.hasNext());
+    }
+
+    @Test
+    @DisplayName("should filter mentees by match status and learning goal")
+    void shouldFilterMentees() {
+        Mentee javaSeeker = new Mentee("Ann", "ann@example.com", List.of("java", "sql"), "beginner");
+        Mentee pythonSeeker = new Mentee("Ben", "ben@example.com", List.of("python"), "beginner");
+        Mentee matchedJava = new Mentee("Cat", "cat@example.com", List.of("java"), "beginner");
+        matchedJava.setMatched(true);
+        menteeRepository.saveAll(List.of(javaSeeker, pythonSeeker, matchedJava));
+
+        KeysetPage<Mentee> page = mentorshipService.listMentees(false, "Java", null, null, 10);
+
+        assertEquals(List.of(javaSeeker.getId()), page.getItems().stream().map(Mentee::getId).toList());
+        assertFalse(page.hasNext());
+        assertEquals(List.of(javaSeeker.getId(), matchedJava.getId()), mentorshipService
+                .listMentees(null, "Java", null, null, 10).getItems().stream().map(Mentee::getId).toList());
+        assertEquals(List.of(javaSeeker.getId(), pythonSeeker.getId()), mentorshipService
+                .listMentees(false, null, null, null, 10).getItems().stream().map(Mentee::getId).toList());
+        assertEquals(3, mentorshipService.listMentees(null, null, null, null, 10).getItems().size());
+    }
+
+    @Test
+    @DisplayName("should list matches of one status newest first")
+    void shouldListMatchesNewestFirst() {
+        Mentor mentor = mentorRepository.save(new Mentor("Alice", "alice@example.com", List.of("java"), 5));
+        List<Match> matches = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Mentee mentee = menteeRepository.save(
+                    new Mentee("Mentee " + i, "mentee" + i + "@example.com", List.of("java"), "beginner"));
+            Match match = new Match(mentor, mentee, List.of("java"), 1.0);
+            match.activate();
+            if (i == 2) {
+                match.cancel();
+            }
+            matches.add(match);
+        }
+        matchRepository.saveAll(matches);
+
+        KeysetPage<Match> first = mentorshipService.listMatches(Match.MatchStatus.ACTIVE, null, null, 2);
+        Match last = first.getLast();
+        KeysetPage<Match> second = mentorshipService.listMatches(
+                Match.MatchStatus.ACTIVE, last.getMatchDate(), last.getId(), 2);
+
+        List<Match> listed = new ArrayList<>(first.getItems());
+        listed.addAll(second.getItems());
+        assertEquals(3, listed.size());
+        assertFalse(second.hasNext());
+        for (int i = 1; i < listed.size(); i++) {
+            assertFalse(listed.get(i).getMatchDate().isAfter(listed.get(i - 1).getMatchDate()));
+        }
+        assertTrue(listed.stream().allMatch(match -> match.getStatus() == Match.MatchStatus.ACTIVE));
+        assertEquals(4, mentorshipService.listMatches(null, null, null, 10).getItems().size());
+    }
+}
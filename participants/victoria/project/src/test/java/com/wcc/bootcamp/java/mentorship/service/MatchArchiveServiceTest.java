@@ -0,0 +1,141 @@
+package com.wcc.bootcamp.java.mentorship.service;
+
+import com.wcc.bootcamp.java.mentorship.model.ArchivedMatch;
+import com.wcc.bootcamp.java.mentorship.model.Match;
+import com.wcc.bootcamp.java.mentorship.model.Mentee;
+import com.wcc.bootcamp.java.mentorship.model.Mentor;
+import com.wcc.bootcamp.java.mentorship.repository.MatchRepository;
+import com.wcc.bootcamp.java.mentorship.repository.MenteeRepository;
+import com.wcc.bootcamp.java.mentorship.repository.MentorRepository;
+import com.wcc.bootcamp.java.mentorship.repository.SkillCatalog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for archiving old completed and cancelled matches and reading them back.
+ */
+@SpringBootTest(properties = {
+        "spring.mail.enabled=false",
+        "mentorship.archive.min-age-days=30",
+        "mentorship.archive.batch-size=10"})
+@DisplayName("Match archive")
+class MatchArchiveServiceTest {
+
+    private static final int OLD_MATCHES = 25;
+
+    @Autowired
+    private MatchArchiveService matchArchiveService;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    @Autowired
+    private MenteeRepository menteeRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private SkillCatalog skillCatalog;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Mentor mentor;
+    private List<Mentee> mentees;
+
+    @BeforeEach
+    void setUp() {
+        skillCatalog.register(List.of("java"));
+        mentor = mentorRepository.save(new Mentor("Grace Hopper", "grace@example.com", List.of("java"), 50));
+        mentees = new ArrayList<>();
+        for (int i = 0; i < OLD_MATCHES + 3; i++) {
+            mentees.add(new Mentee("Mentee " + i, "mentee" + i + "@example.com", List.of("java"), "beginner"));
+        }
+        mentees = menteeRepository.saveAll(mentees);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM matches_archive");
+        matchRepository.deleteAll();
+        menteeRepository.deleteAll();
+        mentorRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("should move old completed and cancelled matches to the archive")
+    void shouldArchiveOldFinishedMatches() {
+        for (int i = 0; i < OLD_MATCHES; i++) {
+            match(mentees.get(i), i % 2 == 0 ? Match.MatchStatus.COMPLETED : Match.MatchStatus.CANCELLED, 60 + i);
+        }
+        Match oldActive = match(mentees.get(OLD_MATCHES), Match.MatchStatus.ACTIVE, 90);
+        Match recentCancelled = match(mentees.get(OLD_MATCHES + 1), Match.MatchStatus.CANCELLED, 5);
+        Match longCompleted = match(mentees.get(OLD_MATCHES + 2), Match.MatchStatus.COMPLETED, 400, 5);
+
+        assertEquals(OLD_MATCHES, matchArchiveService.archive());
+
+        assertEquals(3, rows("matches"));
+        assertEquals(OLD_MATCHES, rows("matches_archive"));
+        assertTrue(matchRepository.findById(oldActive.getId()).isPresent());
+        assertTrue(matchRepository.findById(recentCancelled.getId()).isPresent());
+        assertTrue(matchRepository.findById(longCompleted.getId()).isPresent());
+        assertEquals(0, matchArchiveService.archive());
+    }
+
+    @Test
+    @DisplayName("should read the archived history of a mentor and a mentee, newest first")
+    void shouldReadHistory() {
+        Match older = match(mentees.get(0), Match.MatchStatus.COMPLETED, 400);
+        Match newer = match(mentees.get(1), Match.MatchStatus.CANCELLED, 40);
+        matchArchiveService.archive();
+
+        List<ArchivedMatch> mentorHistory = matchArchiveService.findHistoryForMentor(mentor.getId());
+        List<ArchivedMatch> menteeHistory = matchArchiveService.findHistoryForMentee(mentees.get(0).getId());
+
+        assertEquals(List.of(newer.getId(), older.getId()), mentorHistory.stream().map(ArchivedMatch::getId).toList());
+        assertEquals(Match.MatchStatus.CANCELLED, mentorHistory.get(0).getStatus());
+        assertEquals(List.of("java"), mentorHistory.get(0).getMatchedSkills());
+        assertNotNull(mentorHistory.get(0).getEndedAt());
+        assertNotNull(mentorHistory.get(0).getArchivedAt());
+        assertEquals(1, menteeHistory.size());
+        assertEquals(mentor.getId(), menteeHistory.get(0).getMentorId());
+    }
+
+    /**
+     * Saves a match in the given status, made and, if finished, ended the given number of days ago.
+     */
+    private Match match(Mentee mentee, Match.MatchStatus status, int daysAgo) {
+        return match(mentee, status, daysAgo, daysAgo);
+    }
+
+    /**
+     * Saves a match in the given status, made the given number of days ago and, if finished,
+     * ended the other given number of days ago.
+     */
+    private Match match(Mentee mentee, Match.MatchStatus status, int madeDaysAgo, int endedDaysAgo) {
+        Match match = new Match(mentor, mentee, List.of("java"), 0.8);
+        match.setStatus(status);
+        match = matchRepository.save(match);
+        boolean finished = status == Match.MatchStatus.COMPLETED || status == Match.MatchStatus.CANCELLED;
+        jdbcTemplate.update("UPDATE matches SET match_date = ?, ended_at = ? WHERE id = ?",
+                LocalDateTime.now().minusDays(madeDaysAgo),
+                finished ? LocalDateTime.now().minusDays(endedDaysAgo) : null, match.getId());
+        return match;
+    }
+
+    private long rows(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+}
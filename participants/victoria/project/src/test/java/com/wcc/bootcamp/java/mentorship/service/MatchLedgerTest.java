@@ -0,0 +1,168 @@
+package com.wcc.bootcamp.java.mentorship.service;
+
+import com.wcc.bootcamp.java.mentorship.ledger.LedgerEvent;
+import com.wcc.bootcamp.java.mentorship.ledger.LedgerState;
+import com.wcc.bootcamp.java.mentorship.ledger.MatchLedger;
+import com.wcc.bootcamp.java.mentorship.model.Match;
+import com.wcc.bootcamp.java.mentorship.model.Mentee;
+import com.wcc.bootcamp.java.mentorship.model.Mentor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for recording profile and match events in the ledger tables, in sequence
+ * order, and rebuilding the state from a snapshot.
+ */
+@SpringBootTest(properties = "spring.mail.enabled=false")
+@DisplayName("Match ledger")
+class MatchLedgerTest {
+
+    @Autowired
+    private MentorshipService mentorshipService;
+
+    @Autowired
+    private LedgerSnapshotService ledgerSnapshotService;
+
+    @Autowired
+    private MatchLedger matchLedger;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<UUID> mentorIds = new ArrayList<>();
+    private final List<UUID> menteeIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        mentorshipService.offboardCohort(mentorIds, menteeIds);
+    }
+
+    @Test
+    @DisplayName("should record registrations and match changes in order")
+    void shouldRecordEventsInOrder() {
+        long before = matchLedger.lastSequence();
+        Mentor mentor = registerMentor("Ledger Mentor", List.of("ledger java", "ledger sql"));
+        Mentee mentee = registerMentee("Ledger Mentee");
+        Match match = mentorshipService.createMatch(mentor.getId(), mentee.getId());
+        mentorshipService.cancelMatch(match.getId());
+
+        List<LedgerEvent> events = new ArrayList<>();
+        matchLedger.readAfter(before, events::add);
+
+        assertEquals(List.of(LedgerEvent.Type.MENTOR_REGISTERED, LedgerEvent.Type.MENTEE_REGISTERED,
+                        LedgerEvent.Type.MATCHED, LedgerEvent.Type.CANCELLED),
+                events.stream().map(LedgerEvent::getType).toList());
+        assertEquals(List.of("ledger java", "ledger sql"), events.get(0).getSkills());
+        assertEquals(2, events.get(0).getMaxMentees());
+        assertEquals(match.getId(), events.get(2).getMatchId());
+        assertEquals(mentee.getId(), events.get(3).getMenteeId());
+        assertEquals(before + 4, matchLedger.lastSequence());
+    }
+
+    @Test
+    @DisplayName("should rebuild the profiles from the latest snapshot and the events after it")
+    void shouldRebuildFromSnapshot() {
+        Mentor mentor = registerMentor("Snapshot Mentor", List.of("ledger java"));
+        Mentee mentee = registerMentee("Snapshot Mentee");
+        assertTrue(ledgerSnapshotService.snapshot() >= 2);
+        mentorshipService.createMatch(mentor.getId(), mentee.getId());
+        Mentee later = registerMentee("Snapshot Mentee Two");
+
+        LedgerState state = matchLedger.rebuild();
+
+        assertEquals(matchLedger.lastSequence() - 2, state.getSnapshotSequence());
+        assertEquals(matchLedger.lastSequence(), state.getSequence());
+        LedgerState.MentorEntry mentorEntry = state.getMentors().stream()
+                .filter(entry -> entry.getId().equals(mentor.getId())).findFirst().orElseThrow();
+        assertEquals(1, mentorEntry.getCurrentMentees());
+        assertEquals(List.of("ledger java"), mentorEntry.getSkills());
+        assertTrue(isMatched(state, mentee.getId()));
+        assertFalse(isMatched(state, later.getId()));
+        assertEquals(2, ledgerSnapshotService.snapshot());
+        assertEquals(0, ledgerSnapshotService.snapshot());
+    }
+
+    @Test
+    @Timeout(30)
+    @DisplayName("should make an append wait until the one before it has committed")
+    void shouldCommitEventsInSequenceOrder() throws Exception {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        CountDownLatch appended = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            long before = matchLedger.lastSequence();
+            Future<?> first = executor.submit(() -> transaction.executeWithoutResult(status -> {
+                matchLedger.append(unknownCancellation());
+                appended.countDown();
+                await(release);
+            }));
+            assertTrue(appended.await(10, TimeUnit.SECONDS));
+            Future<?> second = executor.submit(() -> transaction.executeWithoutResult(
+                    status -> matchLedger.append(unknownCancellation())));
+
+            // Otherwise a snapshot taken now could include the second event and skip the first
+            assertThrows(TimeoutException.class, () -> second.get(200, TimeUnit.MILLISECONDS));
+            assertEquals(before, matchLedger.lastSequence());
+
+            release.countDown();
+            first.get();
+            second.get();
+            List<Long> sequences = new ArrayList<>();
+            matchLedger.readAfter(before, event -> sequences.add(event.getSequence()));
+            assertEquals(List.of(before + 1, before + 2), sequences);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // Ignored when the state is rebuilt, as the match is unknown
+    private static LedgerEvent unknownCancellation() {
+        return LedgerEvent.cancelled(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean isMatched(LedgerState state, UUID menteeId) {
+        return state.getMentees().stream()
+                .filter(entry -> entry.getId().equals(menteeId)).findFirst().orElseThrow().isMatched();
+    }
+
+    private Mentor registerMentor(String name, List<String> skills) {
+        Mentor mentor = mentorshipService.registerMentor(name, name.replace(' ', '.') + "@example.com", skills, 2);
+        mentorIds.add(mentor.getId());
+        return mentor;
+    }
+
+    private Mentee registerMentee(String name) {
+        Mentee mentee = mentorshipService.registerMentee(name, name.replace(' ', '.') + "@example.com",
+                List.of("ledger java"), "beginner");
+        menteeIds.add(mentee.getId());
+        return mentee;
+    }
+}
@@ -1,11 +1,17 @@
 package com.wcc.bootcamp.java.mentorship.service;
 
+import com.wcc.bootcamp.java.mentorship.ledger.LedgerEvent;
+import com.wcc.bootcamp.java.mentorship.ledger.LedgerState;
+import com.wcc.bootcamp.java.mentorship.ledger.MatchLedger;
 import com.wcc.bootcamp.java.mentorship.model.Match;
 import com.wcc.bootcamp.java.mentorship.model.Mentee;
 import com.wcc.bootcamp.java.mentorship.model.Mentor;
 import com.wcc.bootcamp.java.mentorship.repository.MatchRepository;
 import com.wcc.bootcamp.java.mentorship.repository.MenteeRepository;
+import com.wcc.bootcamp.java.mentorship.repository.MenteeSkillRow;
 import com.wcc.bootcamp.java.mentorship.repository.MentorRepository;
+import com.wcc.bootcamp.java.mentorship.repository.MentorSkillRow;
+import com.wcc.bootcamp.java.mentorship.repository.SkillCatalog;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -15,11 +21,16 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -45,6 +56,15 @@ class MentorshipServiceTest {
     @Mock
     private EmailService emailService;
 
+    @Mock
+    private ProfileCacheStatistics profileCacheStatistics;
+
+    @Mock
+    private SkillCatalog skillCatalog;
+
+    @Mock
+    private MatchLedger matchLedger;
+
     @InjectMocks
     private MentorshipService mentorshipService;
 
@@ -75,6 +95,7 @@ class MentorshipServiceTest {
             assertNotNull(result);
             assertEquals("Alice Johnson", result.getName());
             verify(mentorRepository).save(any(Mentor.class));
+            verify(matchLedger).append(any(LedgerEvent.class));
         }
 
         @Test
@@ -89,6 +110,7 @@ class MentorshipServiceTest {
             Mentor capturedMentor = mentorCaptor.getValue();
             assertTrue(capturedMentor.getExpertiseAreas().stream()
                     .allMatch(s -> s.equals(s.toLowerCase().trim())));
+            verify(skillCatalog).register(List.of("java", "spring boot", "sql"));
         }
 
         @Test
@@ -128,13 +150,14 @@ class MentorshipServiceTest {
         @Test
         @DisplayName("should delete mentor and associated matches")
         void shouldDeleteMentorAndAssociatedMatches() {
-            when(mentorRepository.findById(sampleMentor.getId()))
-                    .thenReturn(Optional.of(sampleMentor));
+            List<UUID> ids = List.of(sampleMentor.getId());
 
             mentorshipService.deleteMentor(sampleMentor.getId());
 
-            verify(matchRepository).deleteByMentor(sampleMentor);
-            verify(mentorRepository).delete(sampleMentor);
+            verify(menteeRepository).markUnmatchedByMentors(ids);
+            verify(matchRepository).deleteByMentorIdIn(ids);
+            verify(mentorRepository).deleteByIdIn(ids);
+            verify(mentorRepository, never()).delete(any(Mentor.class));
         }
     }
 
@@ -184,13 +207,14 @@ class MentorshipServiceTest {
         @Test
         @DisplayName("should delete mentee and associated matches")
         void shouldDeleteMenteeAndAssociatedMatches() {
-            when(menteeRepository.findById(sampleMentee.getId()))
-                    .thenReturn(Optional.of(sampleMentee));
+            List<UUID> ids = List.of(sampleMentee.getId());
 
             mentorshipService.deleteMentee(sampleMentee.getId());
 
-            verify(matchRepository).deleteByMentee(sampleMentee);
-            verify(menteeRepository).delete(sampleMentee);
+            verify(mentorRepository).releaseSlotsHeldBy(ids);
+            verify(matchRepository).deleteByMenteeIdIn(ids);
+            verify(menteeRepository).deleteByIdIn(ids);
+            verify(menteeRepository, never()).delete(any(Mentee.class));
         }
     }
 
@@ -203,7 +227,10 @@ class MentorshipServiceTest {
         void shouldFindMatchesForMentee() {
             when(menteeRepository.findById(sampleMentee.getId()))
                     .thenReturn(Optional.of(sampleMentee));
-            when(mentorRepository.findAll()).thenReturn(List.of(sampleMentor));
+            when(mentorRepository.streamAvailableSkillRowsWithAny(any()))
+                    .thenAnswer(i -> mentorRows(sampleMentor));
+            when(mentorRepository.findAllById(Set.of(sampleMentor.getId())))
+                    .thenReturn(List.of(sampleMentor));
 
             List<Match> matches = mentorshipService.findMatchesForMentee(sampleMentee.getId());
 
@@ -214,9 +241,10 @@ class MentorshipServiceTest {
         @Test
         @DisplayName("should return empty list when mentee not found")
         void shouldReturnEmptyListWhenMenteeNotFound() {
-            when(menteeRepository.findById("invalid-id")).thenReturn(Optional.empty());
+            UUID unknownId = UUID.randomUUID();
+            when(menteeRepository.findById(unknownId)).thenReturn(Optional.empty());
 
-            List<Match> matches = mentorshipService.findMatchesForMentee("invalid-id");
+            List<Match> matches = mentorshipService.findMatchesForMentee(unknownId);
 
             assertTrue(matches.isEmpty());
         }
@@ -224,23 +252,110 @@ class MentorshipServiceTest {
         @Test
         @DisplayName("should not match with mentor at capacity")
         void shouldNotMatchWithMentorAtCapacity() {
-            // Fill mentor to capacity
+            List<MentorSkillRow> rowsBeforeFilling = mentorRows(sampleMentor).toList();
+
+            // Fill mentor to capacity after the candidate query
             sampleMentor.incrementMenteeCount();
             sampleMentor.incrementMenteeCount();
             sampleMentor.incrementMenteeCount();
 
             when(menteeRepository.findById(sampleMentee.getId()))
                     .thenReturn(Optional.of(sampleMentee));
-            when(mentorRepository.findAll()).thenReturn(List.of(sampleMentor));
+            when(mentorRepository.streamAvailableSkillRowsWithAny(any()))
+                    .thenAnswer(i -> rowsBeforeFilling.stream());
+            when(mentorRepository.findAllById(Set.of(sampleMentor.getId())))
+                    .thenReturn(List.of(sampleMentor));
 
             List<Match> matches = mentorshipService.findMatchesForMentee(sampleMentee.getId());
 
             assertTrue(matches.isEmpty());
         }
 
+        @Test
+        @DisplayName("should query only mentors with a skill related to the mentee's goals")
+        void shouldQueryMentorsByRelatedSkills() {
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<Collection<String>> skillsCaptor = ArgumentCaptor.forClass(Collection.class);
+            when(menteeRepository.findById(sampleMentee.getId()))
+                    .thenReturn(Optional.of(sampleMentee));
+            when(mentorRepository.findDistinctExpertiseAreas())
+                    .thenReturn(List.of("java", "java ee", "spring boot", "python"));
+            when(mentorRepository.streamAvailableSkillRowsWithAny(skillsCaptor.capture()))
+                    .thenAnswer(i -> mentorRows(sampleMentor));
+            when(mentorRepository.findAllById(Set.of(sampleMentor.getId())))
+                    .thenReturn(List.of(sampleMentor));
+
+            List<Match> matches = mentorshipService.findMatchesForMentee(sampleMentee.getId());
+
+            assertEquals(1, matches.size());
+            assertEquals(sampleMentor, matches.get(0).getMentor());
+            assertTrue(skillsCaptor.getValue().containsAll(List.of("java", "java ee", "web development")));
+            assertFalse(skillsCaptor.getValue().contains("python"));
+            verify(matchLedger, never()).rebuild();
+        }
+
+        @Test
+        @DisplayName("should rank mentors in memory once the skill index is loaded")
+        void shouldRankMentorsInMemoryOnceIndexLoaded() {
+            stubLedger(List.of(sampleMentor), List.of(sampleMentee));
+            when(menteeRepository.findById(sampleMentee.getId()))
+                    .thenReturn(Optional.of(sampleMentee));
+            when(mentorRepository.findAllById(Set.of(sampleMentor.getId())))
+                    .thenReturn(List.of(sampleMentor));
+
+            // The find page needs every profile and loads the whole index
+            mentorshipService.findAllPotentialMatches();
+            List<Match> matches = mentorshipService.findMatchesForMentee(sampleMentee.getId());
+
+            assertEquals(1, matches.size());
+            verify(mentorRepository, never()).streamAvailableSkillRowsWithAny(any());
+        }
+
+        @Test
+        @DisplayName("should return only the top k matches for mentee")
+        void shouldReturnOnlyTopKMatchesForMentee() {
+            Mentor partialMentor = new Mentor("Carol", "carol@example.com", List.of("java"), 2);
+            Mentor fullMentor = new Mentor("Dave", "dave@example.com", List.of("java", "web development"), 2);
+
+            when(menteeRepository.findById(sampleMentee.getId()))
+                    .thenReturn(Optional.of(sampleMentee));
+            when(mentorRepository.streamAvailableSkillRowsWithAny(any()))
+                    .thenAnswer(i -> mentorRows(partialMentor, fullMentor));
+            when(mentorRepository.findAllById(Set.of(fullMentor.getId())))
+                    .thenReturn(List.of(fullMentor));
+
+            List<Match> matches = mentorshipService.findTopMatchesForMentee(sampleMentee.getId(), 1);
+
+            assertEquals(1, matches.size());
+            assertEquals(fullMentor, matches.get(0).getMentor());
+            assertEquals(1.0, matches.get(0).getMatchScore(), 0.0001);
+        }
+
+        @Test
+        @DisplayName("should rank potential matches from projection rows")
+        void shouldRankPotentialMatchesFromProjectionRows() {
+            Mentor pythonMentor = new Mentor("Carol", "carol@example.com", List.of("python"), 2);
+
+            stubLedger(List.of(sampleMentor, pythonMentor), List.of(sampleMentee));
+            when(menteeRepository.streamUnmatchedSkillRows()).thenAnswer(i -> menteeRows(sampleMentee));
+            when(mentorRepository.findAllById(Set.of(sampleMentor.getId())))
+                    .thenReturn(List.of(sampleMentor));
+            when(menteeRepository.findAllById(Set.of(sampleMentee.getId())))
+                    .thenReturn(List.of(sampleMentee));
+
+            List<Match> matches = mentorshipService.findAllPotentialMatches();
+
+            assertEquals(1, matches.size());
+            assertEquals(sampleMentor, matches.get(0).getMentor());
+            assertEquals(sampleMentee, matches.get(0).getMentee());
+            verify(menteeRepository, never()).findByIsMatchedFalse();
+        }
+
         @Test
         @DisplayName("should create and activate match")
         void shouldCreateAndActivateMatch() {
+            when(mentorRepository.reserveSlot(sampleMentor.getId())).thenReturn(1);
+            when(menteeRepository.markMatched(sampleMentee.getId())).thenReturn(1);
             when(mentorRepository.findById(sampleMentor.getId()))
                     .thenReturn(Optional.of(sampleMentor));
             when(menteeRepository.findById(sampleMentee.getId()))
@@ -251,19 +366,148 @@ class MentorshipServiceTest {
                     sampleMentor.getId(), sampleMentee.getId());
 
             assertEquals(Match.MatchStatus.ACTIVE, result.getStatus());
-            verify(mentorRepository).save(sampleMentor);
-            verify(menteeRepository).save(sampleMentee);
+            verify(mentorRepository).reserveSlot(sampleMentor.getId());
+            verify(menteeRepository).markMatched(sampleMentee.getId());
+            verify(mentorRepository, never()).save(any());
             verify(matchRepository).save(any(Match.class));
         }
 
+        @Test
+        @DisplayName("should not create a match when the mentor has no free slot")
+        void shouldNotCreateMatchWhenMentorIsFull() {
+            when(mentorRepository.existsById(sampleMentor.getId())).thenReturn(true);
+
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                    () -> mentorshipService.createMatch(sampleMentor.getId(), sampleMentee.getId()));
+
+            assertEquals("Mentor has no free mentee slots", e.getMessage());
+            verify(menteeRepository, never()).markMatched(any());
+            verify(matchRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("should auto-assign mentees for the best total score within capacity")
+        void shouldAutoAssignForBestTotalScore() {
+            Mentor javaMentor = new Mentor("Carol", "carol@example.com", List.of("java"), 1);
+            Mentor webMentor = new Mentor("Dave", "dave@example.com", List.of("web development"), 1);
+            Mentee javaOnlyMentee = new Mentee("Eve", "eve@example.com", List.of("java"), "beginner");
+            stubLedger(List.of(javaMentor, webMentor), List.of(sampleMentee, javaOnlyMentee));
+            when(menteeRepository.streamUnmatchedSkillRows()).thenAnswer(i -> menteeRows(sampleMentee, javaOnlyMentee));
+            when(mentorRepository.streamAvailableSkillRows()).thenAnswer(i -> mentorRows(javaMentor, webMentor));
+            when(mentorRepository.findAllById(any())).thenReturn(List.of(javaMentor, webMentor));
+            when(menteeRepository.findAllById(any())).thenReturn(List.of(sampleMentee, javaOnlyMentee));
+            when(mentorRepository.reserveSlot(any())).thenReturn(1);
+            when(menteeRepository.markMatched(any())).thenReturn(1);
+            when(matchRepository.saveAll(any())).thenAnswer(i -> i.getArgument(0));
+
+            List<Match> matches = mentorshipService.autoAssignMatches();
+
+            // Greedy would give the java mentor to the first mentee and leave the second unmatched
+            assertEquals(2, matches.size());
+            assertEquals(javaMentor, matches.get(0).getMentor());
+            assertEquals(javaOnlyMentee, matches.get(0).getMentee());
+            assertEquals(webMentor, matches.get(1).getMentor());
+            assertEquals(sampleMentee, matches.get(1).getMentee());
+            assertFalse(javaMentor.canAcceptMoreMentees());
+            assertTrue(sampleMentee.isMatched());
+            verify(emailService, times(2)).sendMatchNotification(any(Match.class));
+            verify(matchLedger).append(argThat((List<LedgerEvent> events) -> events.size() == 2
+                    && events.stream().allMatch(event -> event.getType() == LedgerEvent.Type.MATCHED)));
+        }
+
+        @Test
+        @DisplayName("should read the profiles from the tables when a mentee count differs")
+        void shouldScanTablesWhenMenteeCountDiffers() {
+            // Same number of mentors and available mentors, but not the same taken slots
+            LedgerState state = new LedgerState();
+            state.putMentor(sampleMentor.getId(), sampleMentor.getExpertiseAreas(), sampleMentor.getMaxMentees(), 0);
+            state.putMentee(sampleMentee.getId(), sampleMentee.getLearningGoals(), false);
+            when(matchLedger.rebuild()).thenReturn(state);
+            when(mentorRepository.count()).thenReturn(1L);
+            when(mentorRepository.countAvailable()).thenReturn(1L);
+            when(mentorRepository.sumCurrentMenteeCounts()).thenReturn(1L);
+            when(mentorRepository.streamSkillRows()).thenAnswer(i -> mentorRows(sampleMentor));
+            when(menteeRepository.streamSkillRows()).thenAnswer(i -> menteeRows(sampleMentee));
+            when(menteeRepository.streamUnmatchedSkillRows()).thenAnswer(i -> menteeRows(sampleMentee));
+            when(mentorRepository.findAllById(Set.of(sampleMentor.getId()))).thenReturn(List.of(sampleMentor));
+            when(menteeRepository.findAllById(Set.of(sampleMentee.getId()))).thenReturn(List.of(sampleMentee));
+
+            mentorshipService.findAllPotentialMatches();
+
+            verify(matchLedger).saveSnapshot(any(LedgerState.class));
+        }
+
+        @Test
+        @DisplayName("should read the profiles from the tables when the ledger has events it did not replay")
+        void shouldScanTablesWhenSequenceDiffers() {
+            stubLedger(List.of(sampleMentor), List.of(sampleMentee));
+            when(matchLedger.lastSequence()).thenReturn(42L);
+            when(mentorRepository.streamSkillRows()).thenAnswer(i -> mentorRows(sampleMentor));
+            when(menteeRepository.streamSkillRows()).thenAnswer(i -> menteeRows(sampleMentee));
+            when(menteeRepository.streamUnmatchedSkillRows()).thenAnswer(i -> menteeRows(sampleMentee));
+            when(mentorRepository.findAllById(Set.of(sampleMentor.getId()))).thenReturn(List.of(sampleMentor));
+            when(menteeRepository.findAllById(Set.of(sampleMentee.getId()))).thenReturn(List.of(sampleMentee));
+
+            mentorshipService.findAllPotentialMatches();
+
+            ArgumentCaptor<LedgerState> snapshot = ArgumentCaptor.forClass(LedgerState.class);
+            verify(matchLedger).saveSnapshot(snapshot.capture());
+            assertEquals(42L, snapshot.getValue().getSequence());
+        }
+
+        @Test
+        @DisplayName("should read the profiles from the tables when the ledger disagrees with them")
+        void shouldScanTablesWhenLedgerIsBehind() {
+            when(matchLedger.rebuild()).thenReturn(new LedgerState());
+            when(matchLedger.lastSequence()).thenReturn(42L);
+            when(mentorRepository.count()).thenReturn(1L);
+            when(mentorRepository.streamSkillRows()).thenAnswer(i -> mentorRows(sampleMentor));
+            when(menteeRepository.streamSkillRows()).thenAnswer(i -> menteeRows(sampleMentee));
+            when(menteeRepository.streamUnmatchedSkillRows()).thenAnswer(i -> menteeRows(sampleMentee));
+            when(mentorRepository.findAllById(Set.of(sampleMentor.getId()))).thenReturn(List.of(sampleMentor));
+            when(menteeRepository.findAllById(Set.of(sampleMentee.getId()))).thenReturn(List.of(sampleMentee));
+
+            List<Match> matches = mentorshipService.findAllPotentialMatches();
+
+            assertEquals(1, matches.size());
+            ArgumentCaptor<LedgerState> snapshot = ArgumentCaptor.forClass(LedgerState.class);
+            verify(matchLedger).saveSnapshot(snapshot.capture());
+            assertEquals(42L, snapshot.getValue().getSequence());
+            assertEquals(1L, snapshot.getValue().getMentorCount());
+            assertEquals(1L, snapshot.getValue().getUnmatchedMenteeCount());
+        }
+
+        @Test
+        @DisplayName("should stable-match mentees within mentor capacity")
+        void shouldStableMatchMentees() {
+            Mentee javaOnlyMentee = new Mentee("Eve", "eve@example.com", List.of("java"), "beginner");
+            Mentor javaMentor = new Mentor("Carol", "carol@example.com", List.of("java"), 1);
+            stubLedger(List.of(javaMentor), List.of(sampleMentee, javaOnlyMentee));
+            when(menteeRepository.streamUnmatchedSkillRows()).thenAnswer(i -> menteeRows(sampleMentee, javaOnlyMentee));
+            when(mentorRepository.streamAvailableSkillRows()).thenAnswer(i -> mentorRows(javaMentor));
+            when(mentorRepository.findAllById(any())).thenReturn(List.of(javaMentor));
+            when(menteeRepository.findAllById(any())).thenReturn(List.of(javaOnlyMentee));
+            when(mentorRepository.reserveSlot(any())).thenReturn(1);
+            when(menteeRepository.markMatched(any())).thenReturn(1);
+            when(matchRepository.saveAll(any())).thenAnswer(i -> i.getArgument(0));
+
+            List<Match> matches = mentorshipService.stableMatchMentees();
+
+            assertEquals(1, matches.size());
+            assertEquals(javaOnlyMentee, matches.get(0).getMentee());
+            assertEquals(Match.MatchStatus.ACTIVE, matches.get(0).getStatus());
+            assertFalse(sampleMentee.isMatched());
+        }
+
         @Test
         @DisplayName("should throw exception when creating match with invalid IDs")
         void shouldThrowExceptionWhenCreatingMatchWithInvalidIds() {
-            when(mentorRepository.findById("invalid")).thenReturn(Optional.empty());
-            when(menteeRepository.findById("invalid")).thenReturn(Optional.empty());
+            UUID unknownId = UUID.randomUUID();
 
-            assertThrows(IllegalArgumentException.class, 
-                    () -> mentorshipService.createMatch("invalid", "invalid"));
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class, 
+                    () -> mentorshipService.createMatch(unknownId, unknownId));
+
+            assertEquals("Mentor or Mentee not found", e.getMessage());
         }
 
         @Test
@@ -288,13 +532,80 @@ class MentorshipServiceTest {
             match.activate();
             
             when(matchRepository.findById(match.getId())).thenReturn(Optional.of(match));
+            when(matchRepository.updateStatus(eq(match.getId()), eq(Match.MatchStatus.ACTIVE),
+                    eq(Match.MatchStatus.CANCELLED), any()))
+                    .thenReturn(1);
+            when(mentorRepository.findById(sampleMentor.getId())).thenReturn(Optional.of(sampleMentor));
+            when(menteeRepository.findById(sampleMentee.getId())).thenReturn(Optional.of(sampleMentee));
 
             mentorshipService.cancelMatch(match.getId());
 
             assertEquals(Match.MatchStatus.CANCELLED, match.getStatus());
-            verify(mentorRepository).save(sampleMentor);
-            verify(menteeRepository).save(sampleMentee);
-            verify(matchRepository).save(match);
+            verify(mentorRepository).releaseSlot(sampleMentor.getId());
+            verify(menteeRepository).markUnmatched(sampleMentee.getId());
+            verify(mentorRepository, never()).save(any());
+            verify(matchLedger).append(argThat((LedgerEvent event) -> event.getType() == LedgerEvent.Type.CANCELLED));
+        }
+
+        @Test
+        @DisplayName("should leave an already cancelled match alone")
+        void shouldNotCancelTwice() {
+            Match match = new Match(sampleMentor, sampleMentee, List.of("java"), 0.5);
+            match.cancel();
+            when(matchRepository.findById(match.getId())).thenReturn(Optional.of(match));
+
+            mentorshipService.cancelMatch(match.getId());
+
+            verify(matchRepository, never()).updateStatus(any(), any(), any(), any());
+            verifyNoInteractions(matchLedger);
+        }
+    }
+
+    @Nested
+    @DisplayName("Paginated Listing")
+    class PaginatedListingTests {
+
+        @Test
+        @DisplayName("should return one page of mentors in key order and report a next page")
+        void shouldReturnMentorPageInKeyOrder() {
+            Mentor carol = new Mentor("Carol", "carol@example.com", List.of("java"), 2);
+            when(mentorRepository.findIdsAfter("", new UUID(0, 0), Limit.of(3)))
+                    .thenReturn(List.of(sampleMentor.getId(), carol.getId(), UUID.randomUUID()));
+            when(mentorRepository.findByIdIn(List.of(sampleMentor.getId(), carol.getId())))
+                    .thenReturn(List.of(carol, sampleMentor));
+
+            KeysetPage<Mentor> page = mentorshipService.listMentors(null, null, null, 2);
+
+            assertEquals(List.of(sampleMentor, carol), page.getItems());
+            assertEquals(carol, page.getLast());
+            assertTrue(page.hasNext());
+        }
+
+        @Test
+        @DisplayName("should continue after the cursor with normalized filters")
+        void shouldContinueAfterCursorWithFilters() {
+            when(skillCatalog.contains("java")).thenReturn(true);
+            when(menteeRepository.findIdsWithGoalAndMatchStatusAfter("Bob Smith", sampleMentee.getId(), false, "java", Limit.of(3)))
+                    .thenReturn(List.of());
+
+            KeysetPage<Mentee> page = mentorshipService.listMentees(
+                    false, "  Java ", "Bob Smith", sampleMentee.getId(), 2);
+
+            assertTrue(page.isEmpty());
+            assertFalse(page.hasNext());
+            verify(menteeRepository, never()).findByIdIn(any());
+        }
+
+        @Test
+        @DisplayName("should return an empty page for a skill no profile has")
+        void shouldNotQueryUnknownSkill() {
+            when(skillCatalog.contains("cobol")).thenReturn(false);
+
+            KeysetPage<Mentor> page = mentorshipService.listMentors("COBOL", null, null, 2);
+
+            assertTrue(page.isEmpty());
+            verify(mentorRepository, never()).findIdsAfter(any(), any(), any());
+            verify(mentorRepository, never()).findIdsWithExpertiseAfter(any(), any(), any(), any());
         }
     }
 
@@ -303,26 +614,51 @@ class MentorshipServiceTest {
     class StatisticsTests {
 
         @Test
-        @DisplayName("should calculate statistics correctly")
+        @DisplayName("should calculate statistics with count queries")
         void shouldCalculateStatisticsCorrectly() {
-            Mentor availableMentor = new Mentor("Carol", "carol@example.com", 
-                    List.of("python"), 2);
-            Mentee unmatchedMentee = new Mentee("Dave", "dave@example.com", 
-                    List.of("python"), "beginner");
-            
-            Match activeMatch = new Match(sampleMentor, sampleMentee, List.of("java"), 0.5);
-            activeMatch.activate();
-
-            when(mentorRepository.findAll()).thenReturn(List.of(sampleMentor, availableMentor));
-            when(menteeRepository.findAll()).thenReturn(List.of(sampleMentee, unmatchedMentee));
-            when(matchRepository.findByStatus(Match.MatchStatus.ACTIVE))
-                    .thenReturn(List.of(activeMatch));
+            when(mentorRepository.count()).thenReturn(2L);
+            when(mentorRepository.countAvailable()).thenReturn(1L);
+            when(menteeRepository.count()).thenReturn(2L);
+            when(menteeRepository.countByIsMatchedFalse()).thenReturn(1L);
+            when(matchRepository.countByStatus(Match.MatchStatus.ACTIVE)).thenReturn(1L);
 
             Map<String, Object> stats = mentorshipService.getStatistics();
 
-            assertEquals(2, stats.get("totalMentors"));
-            assertEquals(2, stats.get("totalMentees"));
-            assertEquals(1, stats.get("activeMatches"));
+            assertEquals(2L, stats.get("totalMentors"));
+            assertEquals(2L, stats.get("totalMentees"));
+            assertEquals(1L, stats.get("activeMatches"));
+            assertEquals(1L, stats.get("availableMentors"));
+            assertEquals(1L, stats.get("unmatchedMentees"));
+            verify(mentorRepository, never()).findAll();
+            verify(menteeRepository, never()).findAll();
         }
     }
+
+    /**
+     * Lets the ledger rebuild the given profiles, with tables that agree with it.
+     */
+    private void stubLedger(List<Mentor> mentors, List<Mentee> mentees) {
+        LedgerState state = new LedgerState();
+        mentors.forEach(mentor -> state.putMentor(mentor.getId(), mentor.getExpertiseAreas(),
+                mentor.getMaxMentees(), mentor.getCurrentMenteeCount()));
+        mentees.forEach(mentee -> state.putMentee(mentee.getId(), mentee.getLearningGoals(), mentee.isMatched()));
+        when(matchLedger.rebuild()).thenReturn(state);
+        when(mentorRepository.count()).thenReturn(state.getMentorCount());
+        when(mentorRepository.countAvailable()).thenReturn(state.getAvailableMentorCount());
+        when(mentorRepository.sumCurrentMenteeCounts()).thenReturn(
+                mentors.stream().mapToLong(Mentor::getCurrentMenteeCount).sum());
+        when(menteeRepository.count()).thenReturn(state.getMenteeCount());
+        when(menteeRepository.countByIsMatchedFalse()).thenReturn(state.getUnmatchedMenteeCount());
+    }
+
+    private static Stream<MentorSkillRow> mentorRows(Mentor... mentors) {
+        return Arrays.stream(mentors).flatMap(mentor -> mentor.getExpertiseAreas().stream()
+                .map(skill -> new MentorSkillRow(mentor.getId(), mentor.getCurrentMenteeCount(),
+                        mentor.getMaxMentees(), skill)));
+    }
+
+    private static Stream<MenteeSkillRow> menteeRows(Mentee... mentees) {
+        return Arrays.stream(mentees).flatMap(mentee -> mentee.getLearningGoals().stream()
+                .map(goal -> new MenteeSkillRow(mentee.getId(), mentee.isMatched(), goal)));
+    }
 }
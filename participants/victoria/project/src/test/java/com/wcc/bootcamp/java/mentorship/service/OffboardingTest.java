@@ -0,0 +1,157 @@
+package com.wcc.bootcamp.java.mentorship.service;
+
+import com.wcc.bootcamp.java.mentorship.model.Match;
+import com.wcc.bootcamp.java.mentorship.model.Mentee;
+import com.wcc.bootcamp.java.mentorship.model.Mentor;
+import com.wcc.bootcamp.java.mentorship.repository.MatchRepository;
+import com.wcc.bootcamp.java.mentorship.repository.MenteeRepository;
+import com.wcc.bootcamp.java.mentorship.repository.MentorRepository;
+import com.wcc.bootcamp.java.mentorship.repository.SkillCatalog;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for deleting profiles and offboarding cohorts with set-based statements,
+ * counting the SQL statements and checking the profiles left behind.
+ */
+@SpringBootTest(properties = "spring.mail.enabled=false")
+@DisplayName("Offboarding")
+class OffboardingTest {
+
+    private static final int MENTORS = 100;
+    private static final int MENTEES = 1000;
+
+    @Autowired
+    private MentorshipService mentorshipService;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    @Autowired
+    private MenteeRepository menteeRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private SkillCatalog skillCatalog;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        matchRepository.deleteAll();
+        menteeRepository.deleteAll();
+        mentorRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("should offboard a cohort in a constant number of statements and free the profiles left behind")
+    void shouldOffboardCohort() {
+        skillCatalog.register(List.of("java", "sql"));
+        List<Mentor> mentors = new ArrayList<>();
+        for (int i = 0; i < MENTORS; i++) {
+            mentors.add(new Mentor("Mentor " + i, "mentor" + i + "@example.com", List.of("java", "sql"), 11));
+        }
+        List<Mentee> mentees = new ArrayList<>();
+        for (int i = 0; i < MENTEES; i++) {
+            mentees.add(new Mentee("Mentee " + i, "mentee" + i + "@example.com", List.of("java"), "beginner"));
+        }
+        Mentor remainingMentor = new Mentor("Grace Hopper", "grace@example.com", List.of("java"), 2);
+        Mentee remainingMentee = new Mentee("Alan Turing", "alan@example.com", List.of("java"), "beginner");
+
+        List<Match> matches = new ArrayList<>();
+        for (int i = 0; i < MENTEES; i++) {
+            matches.add(activeMatch(mentors.get(i % MENTORS), mentees.get(i)));
+        }
+        matches.add(activeMatch(remainingMentor, mentees.get(0)));
+        matches.add(activeMatch(mentors.get(0), remainingMentee));
+        mentorRepository.saveAll(mentors);
+        mentorRepository.save(remainingMentor);
+        menteeRepository.saveAll(mentees);
+        menteeRepository.save(remainingMentee);
+        matchRepository.saveAll(matches);
+        // Put the profiles left behind in the second-level cache
+        mentorshipService.findMentorById(remainingMentor.getId());
+        mentorshipService.findMenteeById(remainingMentee.getId());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        int removed = mentorshipService.offboardCohort(
+                mentors.stream().map(Mentor::getId).toList(), mentees.stream().map(Mentee::getId).toList());
+
+        assertEquals(MENTORS + MENTEES, removed);
+        assertTrue(statistics.getPrepareStatementCount() <= 20,
+                "statements: " + statistics.getPrepareStatementCount());
+        assertEquals(0, rows("matches"));
+        assertEquals(1, rows("mentors"));
+        assertEquals(1, rows("mentor_skills"));
+        assertEquals(1, rows("mentees"));
+        assertEquals(1, rows("mentee_skills"));
+        assertEquals(0, mentorshipService.findMentorById(remainingMentor.getId()).orElseThrow().getCurrentMenteeCount());
+        assertFalse(mentorshipService.findMenteeById(remainingMentee.getId()).orElseThrow().isMatched());
+    }
+
+    @Test
+    @DisplayName("should delete a mentor with its matches and unmatch its mentees")
+    void shouldDeleteMentor() {
+        Mentor mentor = mentorshipService.registerMentor("Grace Hopper", "grace@example.com", List.of("java"), 2);
+        Mentee mentee = mentorshipService.registerMentee("Alan Turing", "alan@example.com", List.of("java"), "beginner");
+        mentorshipService.createMatch(mentor.getId(), mentee.getId());
+
+        mentorshipService.deleteMentor(mentor.getId());
+
+        assertTrue(mentorshipService.findMentorById(mentor.getId()).isEmpty());
+        assertFalse(mentorshipService.findMenteeById(mentee.getId()).orElseThrow().isMatched());
+        assertEquals(0, rows("matches"));
+        assertEquals(0, rows("mentor_skills"));
+    }
+
+    @Test
+    @DisplayName("should delete a mentee with its matches and give its mentor the slot back")
+    void shouldDeleteMentee() {
+        Mentor mentor = mentorshipService.registerMentor("Grace Hopper", "grace@example.com", List.of("java"), 1);
+        Mentee mentee = mentorshipService.registerMentee("Alan Turing", "alan@example.com", List.of("java"), "beginner");
+        mentorshipService.createMatch(mentor.getId(), mentee.getId());
+
+        mentorshipService.deleteMentee(mentee.getId());
+
+        assertTrue(mentorshipService.findMenteeById(mentee.getId()).isEmpty());
+        assertTrue(mentorshipService.findMentorById(mentor.getId()).orElseThrow().canAcceptMoreMentees());
+        assertEquals(0, rows("matches"));
+        assertEquals(0, rows("mentee_skills"));
+    }
+
+    @Test
+    @DisplayName("should ignore unknown IDs")
+    void shouldIgnoreUnknownIds() {
+        assertEquals(0, mentorshipService.offboardCohort(List.of(UUID.randomUUID()), List.of(UUID.randomUUID())));
+    }
+
+    private static Match activeMatch(Mentor mentor, Mentee mentee) {
+        Match match = new Match(mentor, mentee, List.of("java"), 1.0);
+        match.activate();
+        return match;
+    }
+
+    private long rows(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+}
@@ -0,0 +1,144 @@
+package com.wcc.bootcamp.java.mentorship.service;
+
+import com.wcc.bootcamp.java.mentorship.model.Match;
+import com.wcc.bootcamp.java.mentorship.model.Mentee;
+import com.wcc.bootcamp.java.mentorship.model.Mentor;
+import com.wcc.bootcamp.java.mentorship.repository.MatchRepository;
+import com.wcc.bootcamp.java.mentorship.repository.MenteeRepository;
+import com.wcc.bootcamp.java.mentorship.repository.MentorRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the second-level cache of mentor and mentee profiles, counting
+ * the SQL statements a repeated profile view prepares and checking that profiles changed
+ * by matches and deletes are not served stale.
+ */
+@SpringBootTest(properties = "spring.mail.enabled=false")
+@DisplayName("Profile cache")
+class ProfileCacheTest {
+
+    @Autowired
+    private MentorshipService mentorshipService;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    @Autowired
+    private MenteeRepository menteeRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Mentor mentor;
+    private Mentee mentee;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        mentor = mentorshipService.registerMentor("Grace Hopper", "grace@example.com",
+                List.of("java", "sql"), 2);
+        mentee = mentorshipService.registerMentee("Alan Turing", "alan@example.com",
+                List.of("java"), "beginner");
+    }
+
+    @AfterEach
+    void tearDown() {
+        matchRepository.deleteAll();
+        menteeRepository.deleteAll();
+        mentorRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("should serve a repeated profile view without SQL statements")
+    void shouldServeRepeatedViewFromCache() {
+        viewMentor();
+        statistics.clear();
+
+        List<Match> candidates = viewMentor();
+
+        assertEquals(1, candidates.size());
+        assertEquals(mentee.getId(), candidates.get(0).getMentee().getId());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getSecondLevelCacheHitCount() > 0);
+    }
+
+    @Test
+    @DisplayName("should not serve stale profiles after a match is created and cancelled")
+    void shouldRefreshProfilesAfterMatch() {
+        viewMentor();
+        mentorshipService.findMenteeById(mentee.getId());
+
+        Match match = mentorshipService.createMatch(mentor.getId(), mentee.getId());
+
+        assertEquals(1, mentorshipService.findMentorById(mentor.getId()).orElseThrow().getCurrentMenteeCount());
+        assertTrue(mentorshipService.findMenteeById(mentee.getId()).orElseThrow().isMatched());
+
+        mentorshipService.cancelMatch(match.getId());
+
+        assertEquals(0, mentorshipService.findMentorById(mentor.getId()).orElseThrow().getCurrentMenteeCount());
+        assertFalse(mentorshipService.findMenteeById(mentee.getId()).orElseThrow().isMatched());
+    }
+
+    @Test
+    @DisplayName("should keep serving other profiles from the cache after a match is created")
+    void shouldKeepOtherProfilesCachedAfterMatch() {
+        Mentor other = mentorshipService.registerMentor("Ada Lovelace", "ada@example.com",
+                List.of("python"), 1);
+        mentorshipService.findMentorById(other.getId());
+
+        mentorshipService.createMatch(mentor.getId(), mentee.getId());
+        statistics.clear();
+
+        assertEquals(0, mentorshipService.findMentorById(other.getId()).orElseThrow().getCurrentMenteeCount());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getDomainDataRegionStatistics("mentors").getHitCount() > 0);
+    }
+
+    @Test
+    @DisplayName("should not serve a deleted profile")
+    void shouldForgetDeletedProfile() {
+        viewMentor();
+
+        mentorshipService.deleteMentor(mentor.getId());
+
+        assertTrue(mentorshipService.findMentorById(mentor.getId()).isEmpty());
+        assertTrue(mentorRepository.findAllById(List.of(mentor.getId())).isEmpty());
+    }
+
+    @Test
+    @DisplayName("should report the profile cache hit ratio")
+    void shouldReportHitRatio() {
+        viewMentor();
+        viewMentor();
+
+        Map<String, Object> stats = mentorshipService.getStatistics();
+
+        assertTrue((Long) stats.get("profileCacheHits") > 0);
+        assertTrue((Double) stats.get("profileCacheHitRatio") > 0);
+    }
+
+    /**
+     * Reads what the mentor profile page shows: the mentor and its best candidates.
+     */
+    private List<Match> viewMentor() {
+        assertTrue(mentorshipService.findMentorById(mentor.getId()).isPresent());
+        return mentorshipService.findTopMatchesForMentor(mentor.getId(), 10);
+    }
+}
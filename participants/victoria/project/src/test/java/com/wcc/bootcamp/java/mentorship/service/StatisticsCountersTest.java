@@ -0,0 +1,141 @@
+package com.wcc.bootcamp.java.mentorship.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the running dashboard totals.
+ */
+@DisplayName("StatisticsCounters")
+class StatisticsCountersTest {
+
+    private static final long MAX_AGE = 60_000;
+
+    private StatisticsCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        counters = new StatisticsCounters();
+        counters.reload(4, 3, 10, 6, 4, 1_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Nested
+    @DisplayName("Reloading")
+    class Reloading {
+
+        @Test
+        @DisplayName("should need a reload before the first read")
+        void shouldStartStale() {
+            assertTrue(new StatisticsCounters().needsReload(0, MAX_AGE));
+        }
+
+        @Test
+        @DisplayName("should return the loaded totals")
+        void shouldReturnLoadedTotals() {
+            Map<String, Object> stats = counters.snapshot();
+
+            assertEquals(4L, stats.get("totalMentors"));
+            assertEquals(3L, stats.get("availableMentors"));
+            assertEquals(10L, stats.get("totalMentees"));
+            assertEquals(6L, stats.get("unmatchedMentees"));
+            assertEquals(4L, stats.get("activeMatches"));
+            assertFalse(counters.needsReload(1_000 + MAX_AGE, MAX_AGE));
+        }
+
+        @Test
+        @DisplayName("should need a reload once older than the maximum age")
+        void shouldExpire() {
+            assertTrue(counters.needsReload(1_001 + MAX_AGE, MAX_AGE));
+        }
+
+        @Test
+        @DisplayName("should need a reload after being invalidated")
+        void shouldReloadAfterInvalidate() {
+            counters.invalidate();
+
+            assertTrue(counters.needsReload(1_000, MAX_AGE));
+        }
+    }
+
+    @Nested
+    @DisplayName("Changes")
+    class Changes {
+
+        @Test
+        @DisplayName("should add registered profiles")
+        void shouldAddProfiles() {
+            counters.mentorsAdded(2, 1);
+            counters.menteesAdded(3, 3);
+
+            Map<String, Object> stats = counters.snapshot();
+            assertEquals(6L, stats.get("totalMentors"));
+            assertEquals(4L, stats.get("availableMentors"));
+            assertEquals(13L, stats.get("totalMentees"));
+            assertEquals(9L, stats.get("unmatchedMentees"));
+        }
+
+        @Test
+        @DisplayName("should move a mentee into an active match and back")
+        void shouldCountMatches() {
+            counters.matchActivated(true);
+
+            Map<String, Object> stats = counters.snapshot();
+            assertEquals(5L, stats.get("activeMatches"));
+            assertEquals(5L, stats.get("unmatchedMentees"));
+            assertEquals(2L, stats.get("availableMentors"));
+
+            counters.matchEnded(true);
+
+            assertEquals(Map.of("totalMentors", 4L, "availableMentors", 3L, "totalMentees", 10L,
+                    "unmatchedMentees", 6L, "activeMatches", 4L), counters.snapshot());
+        }
+
+        @Test
+        @DisplayName("should keep the mentor available while slots remain")
+        void shouldKeepMentorAvailable() {
+            counters.matchActivated(false);
+
+            assertEquals(3L, counters.snapshot().get("availableMentors"));
+        }
+
+        @Test
+        @DisplayName("should wait for the transaction to commit")
+        void shouldApplyAfterCommit() {
+            TransactionSynchronizationManager.initSynchronization();
+
+            counters.matchActivated(false);
+
+            assertEquals(4L, counters.snapshot().get("activeMatches"));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+            assertEquals(5L, counters.snapshot().get("activeMatches"));
+        }
+
+        @Test
+        @DisplayName("should ignore rolled-back changes")
+        void shouldIgnoreRollback() {
+            TransactionSynchronizationManager.initSynchronization();
+
+            counters.mentorsAdded(1, 1);
+            TransactionSynchronizationManager.clearSynchronization();
+
+            assertEquals(4L, counters.snapshot().get("totalMentors"));
+        }
+    }
+}